@@ -45,4 +45,11 @@ public class ArchiveResponseHandler extends SimpleChannelInboundHandler<ArchiveR
 			archiveResponse.getData());
 	}
 
+	@Override
+	public void channelInactive(ChannelHandlerContext ctx) throws Exception
+	{
+		client.onDisconnect();
+		super.channelInactive(ctx);
+	}
+
 }
@@ -25,6 +25,7 @@
 package net.runelite.cache.client;
 
 import com.google.common.base.Stopwatch;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.netty.bootstrap.Bootstrap;
 import io.netty.buffer.ByteBuf;
 import io.netty.buffer.Unpooled;
@@ -38,11 +39,19 @@ import io.netty.channel.nio.NioEventLoopGroup;
 import io.netty.channel.socket.SocketChannel;
 import io.netty.channel.socket.nio.NioSocketChannel;
 import java.io.IOException;
-import java.util.ArrayDeque;
+import java.io.UncheckedIOException;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Queue;
+import java.util.Map;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
@@ -69,18 +78,33 @@ public class CacheClient implements AutoCloseable
 
 	private static final int MAX_REQUESTS = 19; // too many and the server closes the conncetion
 
+	// downloaded archives are crc checked and stored on these, off of the netty thread
+	private static final int WORKER_THREADS = Math.max(2, Runtime.getRuntime().availableProcessors());
+
 	private final Store store; // store cache will be written to
+	private final Object storeLock = new Object();
 	private final String host;
+	private final int port;
 	private final int clientRevision;
 	private DownloadWatcher watcher;
 
-	private ClientState state;
+	private volatile ClientState state;
 
 	private final EventLoopGroup group = new NioEventLoopGroup(1);
 	private Channel channel;
 
 	private CompletableFuture<HandshakeResponseType> handshakeFuture;
-	private final Queue<PendingFileRequest> requests = new ArrayDeque<>();
+
+	/**
+	 * Requests which have been sent and not yet answered, keyed by index << 16 | archive.
+	 * The window has a permit for each request which may still be sent.
+	 */
+	private final Map<Integer, PendingFileRequest> requests = new ConcurrentHashMap<>();
+	private final Semaphore window = new Semaphore(MAX_REQUESTS);
+
+	private final AtomicLong downloadedArchives = new AtomicLong();
+	private final AtomicLong downloadedBytes = new AtomicLong();
+	private volatile long downloadStart;
 
 	public CacheClient(Store store, int clientRevision)
 	{
@@ -88,9 +112,15 @@ public class CacheClient implements AutoCloseable
 	}
 
 	public CacheClient(Store store, String host, int clientRevision)
+	{
+		this(store, host, PORT, clientRevision);
+	}
+
+	public CacheClient(Store store, String host, int port, int clientRevision)
 	{
 		this.store = store;
 		this.host = host;
+		this.port = port;
 		this.clientRevision = clientRevision;
 	}
 
@@ -131,7 +161,7 @@ public class CacheClient implements AutoCloseable
 			});
 
 		// Start the client.
-		ChannelFuture f = b.connect(host, PORT).syncUninterruptibly();
+		ChannelFuture f = b.connect(host, port).syncUninterruptibly();
 		channel = f.channel();
 	}
 
@@ -179,11 +209,22 @@ public class CacheClient implements AutoCloseable
 		return handshakeFuture;
 	}
 
+	/**
+	 * Get the throughput of the current, or last, download. This may be called from any thread
+	 * while a download is running.
+	 *
+	 * @return the download stats
+	 */
+	public DownloadStats getDownloadStats()
+	{
+		return new DownloadStats(downloadedArchives.get(), downloadedBytes.get(), System.nanoTime() - downloadStart);
+	}
+
 	public List<IndexInfo> requestIndexes() throws IOException
 	{
 		logger.info("Requesting indexes");
 
-		FileResult result = requestFile(255, 255, true).join();
+		FileResult result = join(requestFile(255, 255, true));
 		result.decompress(null);
 
 		ByteBuf buffer = Unpooled.wrappedBuffer(result.getContents());
@@ -200,203 +241,299 @@ public class CacheClient implements AutoCloseable
 		return indexInfo;
 	}
 
-	public void download() throws IOException
+	/**
+	 * Download every out of date archive into the store. Requests are pipelined, keeping the
+	 * request window full across indexes, and the downloaded archives are checked and stored on
+	 * a pool of worker threads.
+	 *
+	 * @return the download throughput
+	 * @throws IOException if the connection was lost
+	 */
+	public DownloadStats download() throws IOException
 	{
 		Stopwatch stopwatch = Stopwatch.createStarted();
 
-		List<IndexInfo> indexes = requestIndexes();
-		for (IndexInfo indexInfo : indexes)
-		{
-			int i = indexInfo.getId();
-			int crc = indexInfo.getCrc();
-			int revision = indexInfo.getRevision();
-
-			Index index = store.findIndex(i);
-
-			if (index == null)
-			{
-				logger.info("Index {} does not exist, creating", i);
-			}
-			else if (index.getRevision() != revision)
-			{
-				if (revision < index.getRevision())
-				{
-					logger.warn("Index {} revision is going BACKWARDS! (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
-				}
-				else
-				{
-					logger.info("Index {} has the wrong revision (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
-				}
-			}
-			else if (index.getCrc() != crc)
-			{
-				logger.warn("Index {} CRC has changed! (our crc {}, their crc {})",
-					index.getCrc(), index.getCrc(), crc);
-			}
-			else
-			{
-				// despite the index being up to date, not everything
-				// can be downloaded, eg. for tracks.
-				logger.info("Index {} is up to date", index.getId());
-			}
-
-			logger.info("Downloading index {}", i);
+		downloadStart = System.nanoTime();
+		downloadedArchives.set(0);
+		downloadedBytes.set(0);
 
-			FileResult indexFileResult = requestFile(255, i, true).join();
-			indexFileResult.decompress(null);
-
-			logger.info("Downloaded index {}", i);
+		ExecutorService workers = Executors.newFixedThreadPool(WORKER_THREADS, new ThreadFactoryBuilder()
+			.setNameFormat("cache-client-worker-%d")
+			.setDaemon(true)
+			.build());
+		AtomicInteger failed = new AtomicInteger();
+		try
+		{
+			List<IndexInfo> indexes = requestIndexes();
 
-			if (indexFileResult.getCrc() != crc)
+			// request all of the indexes up front, so that the next index has already arrived
+			// by the time the archives of the previous one have all been requested
+			List<CompletableFuture<FileResult>> indexFutures = new ArrayList<>(indexes.size());
+			for (IndexInfo indexInfo : indexes)
 			{
-				logger.warn("Corrupted download for index {}", i);
-				continue;
+				indexFutures.add(requestFile(255, indexInfo.getId(), false)
+					.thenApplyAsync(CacheClient::decompress, workers));
 			}
 
-			IndexData indexData = new IndexData();
-			indexData.load(indexFileResult.getContents());
-
-			if (index == null)
+			List<CompletableFuture<Void>> archiveFutures = new ArrayList<>();
+			for (int n = 0; n < indexes.size(); ++n)
 			{
-				index = store.addIndex(i);
-			}
+				IndexInfo indexInfo = indexes.get(n);
+				int i = indexInfo.getId();
+				int crc = indexInfo.getCrc();
+				int revision = indexInfo.getRevision();
 
-			// update index settings
-			index.setProtocol(indexData.getProtocol());
-			index.setNamed(indexData.isNamed());
-			index.setCrc(crc);
-			index.setRevision(revision);
+				Index index = store.findIndex(i);
 
-			logger.info("Index {} has {} archives", i, indexData.getArchives().length);
-
-			for (ArchiveData ad : indexData.getArchives())
-			{
-				Archive existing = index.getArchive(ad.getId());
-
-				if (existing != null && existing.getRevision() == ad.getRevision()
-					&& existing.getCrc() == ad.getCrc()
-					&& existing.getNameHash() == ad.getNameHash())
+				if (index == null)
 				{
-					logger.debug("Archive {}/{} in index {} is up to date",
-						ad.getId(), indexData.getArchives().length, index.getId());
-					continue;
+					logger.info("Index {} does not exist, creating", i);
 				}
-
-				if (existing == null)
+				else if (index.getRevision() != revision)
 				{
-					logger.info("Archive {}/{} in index {} is out of date, downloading",
-						ad.getId(), indexData.getArchives().length, index.getId());
+					if (revision < index.getRevision())
+					{
+						logger.warn("Index {} revision is going BACKWARDS! (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
+					}
+					else
+					{
+						logger.info("Index {} has the wrong revision (our revision {}, their revision {})", index.getId(), index.getRevision(), revision);
+					}
 				}
-				else if (ad.getRevision() < existing.getRevision())
+				else if (index.getCrc() != crc)
 				{
-					logger.warn("Archive {}/{} in index {} revision is going BACKWARDS! (our revision {}, their revision {})",
-						ad.getId(), indexData.getArchives().length, index.getId(),
-						existing.getRevision(), ad.getRevision());
+					logger.warn("Index {} CRC has changed! (our crc {}, their crc {})",
+						index.getCrc(), index.getCrc(), crc);
 				}
 				else
 				{
-					logger.info("Archive {}/{} in index {} is out of date, downloading. " +
-						"revision: ours: {} theirs: {}, crc: ours: {} theirs {}, name: ours {} theirs {}",
-						ad.getId(), indexData.getArchives().length, index.getId(),
-						existing.getRevision(), ad.getRevision(),
-						existing.getCrc(), ad.getCrc(),
-						existing.getNameHash(), ad.getNameHash());
+					// despite the index being up to date, not everything
+					// can be downloaded, eg. for tracks.
+					logger.info("Index {} is up to date", index.getId());
 				}
 
-				final Archive archive = existing == null
-					? index.addArchive(ad.getId())
-					: existing;
+				logger.info("Downloading index {}", i);
 
-				archive.setRevision(ad.getRevision());
-				archive.setCrc(ad.getCrc());
-				archive.setNameHash(ad.getNameHash());
+				// send any requests still queued before waiting on the index
+				channel.flush();
+				FileResult indexFileResult = join(indexFutures.get(n));
 
-				// Add files
-				archive.setFileData(ad.getFiles());
+				logger.info("Downloaded index {}", i);
 
-				CompletableFuture<FileResult> future = requestFile(index.getId(), ad.getId(), false);
-				future.handle((fr, ex) ->
+				if (indexFileResult.getCrc() != crc)
 				{
-					byte[] data = fr.getCompressedData();
+					logger.warn("Corrupted download for index {}", i);
+					continue;
+				}
 
-					Crc32 crc32 = new Crc32();
-					crc32.update(data, 0, data.length);
-					int hash = crc32.getHash();
+				IndexData indexData = new IndexData();
+				indexData.load(indexFileResult.getContents());
 
-					if (hash != archive.getCrc())
+				// the workers save archives of earlier indexes while this one is updated
+				synchronized (storeLock)
+				{
+					if (index == null)
 					{
-						logger.warn("crc mismatch on downloaded archive {}/{}: {} != {}",
-							archive.getIndex().getId(), archive.getArchiveId(),
-							hash, archive.getCrc());
-						throw new RuntimeException("crc mismatch");
+						index = store.addIndex(i);
 					}
 
-					if (watcher != null)
-					{
-						watcher.downloadComplete(archive, data);
-					}
-					else
+					// update index settings
+					index.setProtocol(indexData.getProtocol());
+					index.setNamed(indexData.isNamed());
+					index.setCrc(crc);
+					index.setRevision(revision);
+				}
+
+				logger.info("Index {} has {} archives", i, indexData.getArchives().length);
+
+				for (ArchiveData ad : indexData.getArchives())
+				{
+					final Archive archive;
+					synchronized (storeLock)
 					{
-						try
+						Archive existing = index.getArchive(ad.getId());
+
+						if (existing != null && existing.getRevision() == ad.getRevision()
+							&& existing.getCrc() == ad.getCrc()
+							&& existing.getNameHash() == ad.getNameHash())
 						{
-							Storage storage = store.getStorage();
-							storage.saveArchive(archive, data);
+							logger.debug("Archive {}/{} in index {} is up to date",
+								ad.getId(), indexData.getArchives().length, index.getId());
+							continue;
 						}
-						catch (IOException ex1)
+
+						if (existing == null)
 						{
-							logger.warn("unable to save archive data", ex1);
+							logger.info("Archive {}/{} in index {} is out of date, downloading",
+								ad.getId(), indexData.getArchives().length, index.getId());
 						}
+						else if (ad.getRevision() < existing.getRevision())
+						{
+							logger.warn("Archive {}/{} in index {} revision is going BACKWARDS! (our revision {}, their revision {})",
+								ad.getId(), indexData.getArchives().length, index.getId(),
+								existing.getRevision(), ad.getRevision());
+						}
+						else
+						{
+							logger.info("Archive {}/{} in index {} is out of date, downloading. " +
+								"revision: ours: {} theirs: {}, crc: ours: {} theirs {}, name: ours {} theirs {}",
+								ad.getId(), indexData.getArchives().length, index.getId(),
+								existing.getRevision(), ad.getRevision(),
+								existing.getCrc(), ad.getCrc(),
+								existing.getNameHash(), ad.getNameHash());
+						}
+
+						archive = existing == null
+							? index.addArchive(ad.getId())
+							: existing;
+
+						archive.setRevision(ad.getRevision());
+						archive.setCrc(ad.getCrc());
+						archive.setNameHash(ad.getNameHash());
+
+						// Add files
+						archive.setFileData(ad.getFiles());
 					}
-					return null;
-				});
+
+					archiveFutures.add(requestFile(index.getId(), ad.getId(), false)
+						.thenAcceptAsync(fr ->
+						{
+							if (!onArchiveDownloaded(archive, fr.getCompressedData()))
+							{
+								failed.incrementAndGet();
+							}
+						}, workers));
+				}
 			}
+
+			// flush any pending requests
+			channel.flush();
+
+			// wait for pending requests
+			join(CompletableFuture.allOf(archiveFutures.toArray(new CompletableFuture[0])));
+		}
+		finally
+		{
+			workers.shutdown();
 		}
 
-		// flush any pending requests
-		channel.flush();
+		stopwatch.stop();
+		DownloadStats stats = getDownloadStats();
+		logger.info("Download completed in {}: {}", stopwatch, stats);
+		if (failed.get() > 0)
+		{
+			logger.warn("{} archives failed to download", failed.get());
+		}
+		return stats;
+	}
 
-		while (!requests.isEmpty())
+	/**
+	 * Check and store a downloaded archive. This is called from the worker threads.
+	 *
+	 * @return whether the archive was stored
+	 */
+	private boolean onArchiveDownloaded(Archive archive, byte[] data)
+	{
+		Crc32 crc32 = new Crc32();
+		crc32.update(data, 0, data.length);
+		int hash = crc32.getHash();
+
+		if (hash != archive.getCrc())
 		{
-			// wait for pending requests
-			synchronized (this)
+			logger.warn("crc mismatch on downloaded archive {}/{}: {} != {}",
+				archive.getIndex().getId(), archive.getArchiveId(),
+				hash, archive.getCrc());
+			return false;
+		}
+
+		// the storage and watcher are not necessarily thread safe
+		synchronized (storeLock)
+		{
+			if (watcher != null)
 			{
-				try
-				{
-					wait();
-				}
-				catch (InterruptedException ex)
-				{
-					logger.warn(null, ex);
-				}
+				watcher.downloadComplete(archive, data);
+				return true;
+			}
+
+			try
+			{
+				Storage storage = store.getStorage();
+				storage.saveArchive(archive, data);
+				return true;
+			}
+			catch (IOException ex1)
+			{
+				logger.warn("unable to save archive data", ex1);
+				return false;
 			}
 		}
+	}
 
-		stopwatch.stop();
-		logger.info("Download completed in {}", stopwatch);
+	private static FileResult decompress(FileResult result)
+	{
+		try
+		{
+			result.decompress(null);
+			return result;
+		}
+		catch (IOException ex)
+		{
+			throw new UncheckedIOException(ex);
+		}
 	}
 
-	private synchronized CompletableFuture<FileResult> requestFile(int index, int fileId, boolean flush)
+	private static <T> T join(CompletableFuture<T> future) throws IOException
+	{
+		try
+		{
+			return future.join();
+		}
+		catch (CompletionException ex)
+		{
+			Throwable cause = ex.getCause();
+			if (cause instanceof UncheckedIOException)
+			{
+				cause = cause.getCause();
+			}
+			if (cause instanceof IOException)
+			{
+				throw (IOException) cause;
+			}
+			throw ex;
+		}
+	}
+
+	private CompletableFuture<FileResult> requestFile(int index, int fileId, boolean flush)
 	{
 		if (state != ClientState.CONNECTED)
 		{
 			throw new IllegalStateException("Can't request files until connected!");
 		}
 
-		if (!flush)
+		CompletableFuture<FileResult> future = new CompletableFuture<>();
+
+		if (!window.tryAcquire())
 		{
-			while (requests.size() >= MAX_REQUESTS)
-			{
-				channel.flush();
+			// the window is full, send what has been queued while waiting for responses
+			channel.flush();
 
-				try
-				{
-					wait();
-				}
-				catch (InterruptedException ex)
+			try
+			{
+				while (!window.tryAcquire(1, TimeUnit.SECONDS))
 				{
-					logger.warn("interrupted while waiting for requests", ex);
+					if (!channel.isActive())
+					{
+						future.completeExceptionally(new IOException("connection closed"));
+						return future;
+					}
 				}
 			}
+			catch (InterruptedException ex)
+			{
+				Thread.currentThread().interrupt();
+				future.completeExceptionally(new IOException("interrupted while waiting for requests", ex));
+				return future;
+			}
 		}
 
 		ArchiveRequestPacket archiveRequest = new ArchiveRequestPacket();
@@ -404,13 +541,18 @@ public class CacheClient implements AutoCloseable
 		archiveRequest.setIndex(index);
 		archiveRequest.setArchive(fileId);
 
-		CompletableFuture<FileResult> future = new CompletableFuture<>();
 		PendingFileRequest pf = new PendingFileRequest(index,
 			fileId, future);
 
 		logger.trace("Sending request for {}/{}", index, fileId);
 
-		requests.add(pf);
+		if (requests.putIfAbsent(index << 16 | fileId, pf) != null)
+		{
+			// the response could not be told apart from the one to the earlier request
+			window.release();
+			future.completeExceptionally(new IllegalStateException("file " + index + "/" + fileId + " has already been requested"));
+			return future;
+		}
 
 		if (!flush)
 		{
@@ -421,24 +563,21 @@ public class CacheClient implements AutoCloseable
 			channel.writeAndFlush(archiveRequest);
 		}
 
-		return future;
-	}
-
-	private PendingFileRequest findRequest(int index, int file)
-	{
-		for (PendingFileRequest pr : requests)
+		if (!channel.isActive())
 		{
-			if (pr.getIndex() == index && pr.getArchive() == file)
-			{
-				return pr;
-			}
+			// the connection was closed before the request was added, and will never be answered
+			onDisconnect();
 		}
-		return null;
+
+		return future;
 	}
 
-	protected synchronized void onFileFinish(int index, int file, byte[] compressedData)
+	/**
+	 * Called from the netty thread when a file has been received
+	 */
+	protected void onFileFinish(int index, int file, byte[] compressedData)
 	{
-		PendingFileRequest pr = findRequest(index, file);
+		PendingFileRequest pr = requests.remove(index << 16 | file);
 
 		if (pr == null)
 		{
@@ -446,14 +585,32 @@ public class CacheClient implements AutoCloseable
 			return;
 		}
 
-		requests.remove(pr);
+		window.release();
 
-		notify();
+		downloadedArchives.incrementAndGet();
+		downloadedBytes.addAndGet(compressedData.length);
 
 		FileResult result = new FileResult(index, file, compressedData);
 
 		logger.debug("File download finished for index {} file {}, length {}", index, file, compressedData.length);
 
+		// work depending on this is run on the worker threads
 		pr.getFuture().complete(result);
 	}
+
+	/**
+	 * Fail the pending requests, which will not be answered once the connection is closed
+	 */
+	void onDisconnect()
+	{
+		for (Map.Entry<Integer, PendingFileRequest> entry : requests.entrySet())
+		{
+			// onFileFinish may be racing with this for the same request
+			if (requests.remove(entry.getKey(), entry.getValue()))
+			{
+				window.release();
+				entry.getValue().getFuture().completeExceptionally(new IOException("connection closed"));
+			}
+		}
+	}
 }
@@ -0,0 +1,80 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import java.util.concurrent.TimeUnit;
+
+public class DownloadStats
+{
+	private final long archives;
+	private final long bytes;
+	private final long elapsedNanos;
+
+	public DownloadStats(long archives, long bytes, long elapsedNanos)
+	{
+		this.archives = archives;
+		this.bytes = bytes;
+		this.elapsedNanos = elapsedNanos;
+	}
+
+	@Override
+	public String toString()
+	{
+		return String.format("%d archives, %d bytes in %d ms (%.1f archives/s, %.1f KB/s)",
+			archives, bytes, TimeUnit.NANOSECONDS.toMillis(elapsedNanos),
+			getArchivesPerSecond(), getBytesPerSecond() / 1024.0);
+	}
+
+	/**
+	 * Number of files downloaded, including index files
+	 */
+	public long getArchives()
+	{
+		return archives;
+	}
+
+	/**
+	 * Number of compressed bytes downloaded
+	 */
+	public long getBytes()
+	{
+		return bytes;
+	}
+
+	public long getElapsedNanos()
+	{
+		return elapsedNanos;
+	}
+
+	public double getArchivesPerSecond()
+	{
+		return elapsedNanos > 0 ? archives * 1e9 / elapsedNanos : 0;
+	}
+
+	public double getBytesPerSecond()
+	{
+		return elapsedNanos > 0 ? bytes * 1e9 / elapsedNanos : 0;
+	}
+}
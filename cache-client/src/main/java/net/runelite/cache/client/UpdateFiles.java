@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.util.Crc32;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The files an update server serves for a store, as they are sent to the client
+ */
+public class UpdateFiles
+{
+	private static final Logger logger = LoggerFactory.getLogger(UpdateFiles.class);
+
+	@FunctionalInterface
+	public interface FileConsumer
+	{
+		void accept(int index, int archive, byte[] data);
+	}
+
+	/**
+	 * Get every file of the store: the data of each index and its archives, which are index 255
+	 * and their own index, and the index list, which is 255/255.
+	 *
+	 * @param store the store
+	 * @param consumer given each file
+	 * @throws IOException if an archive can't be loaded
+	 */
+	public static void forEach(Store store, FileConsumer consumer) throws IOException
+	{
+		int indexCount = 0;
+		for (Index index : store.getIndexes())
+		{
+			indexCount = Math.max(indexCount, index.getId() + 1);
+		}
+
+		// the index list has the crc and revision of every index, by id
+		ByteBuffer indexInfo = ByteBuffer.allocate(indexCount * 8);
+		for (Index index : store.getIndexes())
+		{
+			Container container = new Container(index.getCompression(), -1);
+			container.compress(index.toIndexData().writeIndexData(), null);
+			byte[] indexData = container.data;
+			consumer.accept(255, index.getId(), indexData);
+
+			Crc32 crc = new Crc32();
+			crc.update(indexData, 0, indexData.length);
+			indexInfo.putInt(index.getId() * 8, crc.getHash());
+			indexInfo.putInt(index.getId() * 8 + 4, index.getRevision());
+
+			for (Archive archive : index.getArchives())
+			{
+				byte[] data = store.getStorage().loadArchive(archive);
+				if (data == null)
+				{
+					logger.warn("Archive {}/{} is missing", index.getId(), archive.getArchiveId());
+					continue;
+				}
+
+				consumer.accept(index.getId(), archive.getArchiveId(), stripRevision(data));
+			}
+		}
+
+		Container container = new Container(CompressionType.NONE, -1);
+		container.compress(indexInfo.array(), null);
+		consumer.accept(255, 255, container.data);
+	}
+
+	/**
+	 * Stored archives may have their revision appended, which is not sent
+	 */
+	private static byte[] stripRevision(byte[] data)
+	{
+		int compression = data[0];
+		int compressedSize = (data[1] & 0xff) << 24 | (data[2] & 0xff) << 16 | (data[3] & 0xff) << 8 | (data[4] & 0xff);
+		int length = 1 // compression type
+			+ 4 // compressed size
+			+ compressedSize
+			+ (compression != CompressionType.NONE ? 4 : 0);
+
+		if (length == data.length)
+		{
+			return data;
+		}
+
+		byte[] stripped = new byte[length];
+		System.arraycopy(data, 0, stripped, 0, length);
+		return stripped;
+	}
+}
@@ -36,11 +36,17 @@ public class ArchiveRequestDecoder extends ByteToMessageDecoder
 	@Override
 	protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception
 	{
+		if (in.readableBytes() < UpdateOpcodes.MESSAGE_SIZE)
+		{
+			return;
+		}
+
 		byte opcode = in.getByte(in.readerIndex());
 		if (opcode != UpdateOpcodes.ARCHIVE_REQUEST_HIGH
 			&& opcode != UpdateOpcodes.ARCHIVE_REQUEST_LOW)
 		{
-			ctx.fireChannelRead(in.retain());
+			// pass on just this message, so the following messages are still decoded
+			out.add(in.readRetainedSlice(UpdateOpcodes.MESSAGE_SIZE));
 			return;
 		}
 
@@ -36,9 +36,15 @@ public class EncryptionDecoder extends ByteToMessageDecoder
 	@Override
 	protected void decode(ChannelHandlerContext ctx, ByteBuf in, List<Object> out) throws Exception
 	{
+		if (in.readableBytes() < UpdateOpcodes.MESSAGE_SIZE)
+		{
+			return;
+		}
+
 		if (in.getByte(in.readerIndex()) != UpdateOpcodes.ENCRYPTION)
 		{
-			ctx.fireChannelRead(in.retain());
+			// pass on just this message, so the following messages are still decoded
+			out.add(in.readRetainedSlice(UpdateOpcodes.MESSAGE_SIZE));
 			return;
 		}
 
@@ -31,4 +31,7 @@ public class UpdateOpcodes
 	public static final int CLIENT_LOGGED_IN = 2;
 	public static final int CLIENT_LOGGED_OUT = 3;
 	public static final int ENCRYPTION = 4;
+
+	// every message sent by the client after the update handshake is this size
+	public static final int MESSAGE_SIZE = 4;
 }
@@ -40,6 +40,25 @@ public class ArchiveResponseEncoder extends MessageToByteEncoder<ArchiveResponse
 
 	@Override
 	protected void encode(ChannelHandlerContext ctx, ArchiveResponsePacket archiveResponse, ByteBuf out) throws Exception
+	{
+		int pos = out.readableBytes();
+
+		encode(archiveResponse, out);
+
+		int size = out.readableBytes() - pos;
+		logger.debug("Wrote index {} archive {} (size {}) in {} bytes",
+			archiveResponse.getIndex(), archiveResponse.getArchive(),
+			archiveResponse.getData().length, size);
+	}
+
+	/**
+	 * Write an archive response in the chunks it is sent in, for encoding
+	 * responses ahead of time.
+	 *
+	 * @param archiveResponse the response
+	 * @param out buffer to write to
+	 */
+	public static void encode(ArchiveResponsePacket archiveResponse, ByteBuf out)
 	{
 		// archive file header
 		// 1 byte index
@@ -47,40 +66,35 @@ public class ArchiveResponseEncoder extends MessageToByteEncoder<ArchiveResponse
 		out.writeByte(archiveResponse.getIndex());
 		out.writeShort(archiveResponse.getArchive());
 
-		int pos = out.readableBytes();
-
 		// next is the compressed data which starts with compression
 		// type and length
 		ByteBuf file = Unpooled.wrappedBuffer(archiveResponse.getData());
 		// - 3 for the header
 		int chunkSize = Math.min(file.readableBytes(), CHUNK_SIZE - 3);
 
-		writeChunk(file.readBytes(chunkSize), out);
+		out.writeBytes(file, chunkSize);
 
 		while (file.isReadable())
 		{
 			out.writeByte(0xff);
 
 			chunkSize = Math.min(file.readableBytes(), CHUNK_SIZE - 1);
-			writeChunk(file.readBytes(chunkSize), out);
+			out.writeBytes(file, chunkSize);
 		}
-
-		int size = out.readableBytes() - pos;
-		logger.debug("Wrote index {} archive {} (size {}) in {} bytes",
-			archiveResponse.getIndex(), archiveResponse.getArchive(),
-			archiveResponse.getData().length, size);
 	}
 
-	private void writeChunk(ByteBuf chunk, ByteBuf out)
+	/**
+	 * Get the encoded size of an archive response
+	 *
+	 * @param dataLength length of the archive data
+	 * @return the size in bytes
+	 */
+	public static int encodedSize(int dataLength)
 	{
-		try
-		{
-			out.writeBytes(chunk);
-		}
-		finally
-		{
-			chunk.release();
-		}
+		int breaks = dataLength > CHUNK_SIZE - 3
+			? (dataLength - (CHUNK_SIZE - 3) + CHUNK_SIZE - 2) / (CHUNK_SIZE - 1)
+			: 0;
+		return 3 + dataLength + breaks;
 	}
 
 }
@@ -32,7 +32,9 @@ import net.runelite.protocol.api.login.HandshakeResponseType;
 import org.junit.Assert;
 import org.junit.Before;
 import org.junit.Ignore;
+import org.junit.Rule;
 import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.slf4j.impl.SimpleLogger;
@@ -41,12 +43,38 @@ public class CacheClientTest
 {
 	private static final Logger logger = LoggerFactory.getLogger(CacheClientTest.class);
 
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
 	@Before
 	public void before()
 	{
 		System.setProperty(SimpleLogger.DEFAULT_LOG_LEVEL_KEY, "TRACE");
 	}
 
+	@Test
+	public void testDownloadLocal() throws Exception
+	{
+		try (Store source = new Store(folder.newFolder()))
+		{
+			int archives = TestStores.createStore(source);
+
+			try (TestUpdateServer server = new TestUpdateServer(source);
+				Store target = new Store(folder.newFolder()))
+			{
+				CacheClient c = new CacheClient(target, "127.0.0.1", server.getPort(), 0);
+				c.connect();
+				Assert.assertEquals(HandshakeResponseType.RESPONSE_OK, c.handshake().get());
+
+				DownloadStats stats = c.download();
+				logger.info("Downloaded {}", stats);
+				c.close();
+
+				TestStores.assertDownloaded(source, target, stats, archives);
+			}
+		}
+	}
+
 	@Test
 	@Ignore
 	public void test() throws Exception
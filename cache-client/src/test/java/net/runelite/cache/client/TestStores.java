@@ -0,0 +1,104 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import java.io.IOException;
+import java.util.Random;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import org.junit.Assert;
+
+/**
+ * Stores for testing downloads against
+ */
+public class TestStores
+{
+	/**
+	 * Fill a store with random archives, in enough indexes to fill the request window many times over
+	 *
+	 * @return the number of archives
+	 */
+	public static int createStore(Store store) throws IOException
+	{
+		Random random = new Random(42L);
+		int archives = 0;
+
+		for (int i = 0; i < 4; ++i)
+		{
+			Index index = store.addIndex(i);
+			index.setRevision(i + 1);
+			index.setCompression(CompressionType.GZ);
+
+			for (int a = 0; a < 200; ++a)
+			{
+				Archive archive = index.addArchive(a);
+				archive.setRevision(random.nextInt(1000));
+				archive.setNameHash(random.nextInt());
+				archive.setFileData(new FileData[]{new FileData()});
+
+				// some archives span several response chunks
+				byte[] data = new byte[random.nextInt(a % 10 == 0 ? 16384 : 4096)];
+				random.nextBytes(data);
+
+				Container container = new Container(a % 2 == 0 ? CompressionType.NONE : CompressionType.GZ, archive.getRevision());
+				container.compress(data, null);
+				store.getStorage().saveArchive(archive, container.data);
+				++archives;
+			}
+		}
+		store.save();
+		return archives;
+	}
+
+	/**
+	 * Check that every index and archive of the source store was downloaded into the target store
+	 */
+	public static void assertDownloaded(Store source, Store target, DownloadStats stats, int archives) throws IOException
+	{
+		// the index list, each index, and each archive
+		Assert.assertEquals(1 + source.getIndexes().size() + archives, stats.getArchives());
+
+		for (Index index : source.getIndexes())
+		{
+			Index targetIndex = target.findIndex(index.getId());
+			Assert.assertEquals(index.getRevision(), targetIndex.getRevision());
+			Assert.assertEquals(index.getArchives().size(), targetIndex.getArchives().size());
+
+			for (Archive archive : index.getArchives())
+			{
+				Archive targetArchive = targetIndex.getArchive(archive.getArchiveId());
+				Assert.assertEquals(archive.getCrc(), targetArchive.getCrc());
+				Assert.assertEquals(archive.getRevision(), targetArchive.getRevision());
+				Assert.assertArrayEquals(
+					Container.decompress(source.getStorage().loadArchive(archive), null).data,
+					Container.decompress(target.getStorage().loadArchive(targetArchive), null).data);
+			}
+		}
+	}
+}
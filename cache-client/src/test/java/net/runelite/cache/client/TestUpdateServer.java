@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.client;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.SimpleChannelInboundHandler;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.cache.fs.Store;
+import net.runelite.protocol.api.handshake.HandshakeResponsePacket;
+import net.runelite.protocol.api.handshake.UpdateHandshakePacket;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import net.runelite.protocol.api.update.ArchiveRequestPacket;
+import net.runelite.protocol.api.update.ArchiveResponsePacket;
+import net.runelite.protocol.handshake.HandshakeDecoder;
+import net.runelite.protocol.handshake.HandshakeResponseEncoder;
+import net.runelite.protocol.update.decoders.ArchiveRequestDecoder;
+import net.runelite.protocol.update.decoders.EncryptionDecoder;
+import net.runelite.protocol.update.encoders.ArchiveResponseEncoder;
+
+/**
+ * A minimal update server serving the archives of a store, for testing the client against
+ */
+class TestUpdateServer implements AutoCloseable
+{
+	private final EventLoopGroup group = new NioEventLoopGroup(1);
+	private final Map<Integer, byte[]> files = new HashMap<>();
+	private final Channel channel;
+
+	TestUpdateServer(Store store) throws IOException
+	{
+		UpdateFiles.forEach(store, (index, archive, data) -> files.put(index << 16 | archive, data));
+
+		channel = new ServerBootstrap()
+			.group(group)
+			.channel(NioServerSocketChannel.class)
+			.childHandler(new ChannelInitializer<SocketChannel>()
+			{
+				@Override
+				protected void initChannel(SocketChannel ch)
+				{
+					ch.pipeline().addLast("decoder", new HandshakeDecoder());
+					ch.pipeline().addLast(
+						new HandshakeResponseEncoder(),
+						new ArchiveResponseEncoder(),
+						new HandshakeHandler(),
+						new RequestHandler()
+					);
+				}
+			})
+			.bind(new InetSocketAddress("127.0.0.1", 0))
+			.syncUninterruptibly()
+			.channel();
+	}
+
+	int getPort()
+	{
+		return ((InetSocketAddress) channel.localAddress()).getPort();
+	}
+
+	@Override
+	public void close()
+	{
+		channel.close().syncUninterruptibly();
+		group.shutdownGracefully().syncUninterruptibly();
+	}
+
+	private class HandshakeHandler extends SimpleChannelInboundHandler<UpdateHandshakePacket>
+	{
+		@Override
+		protected void channelRead0(ChannelHandlerContext ctx, UpdateHandshakePacket msg)
+		{
+			HandshakeResponsePacket response = new HandshakeResponsePacket();
+			response.setResponse(HandshakeResponseType.RESPONSE_OK);
+			ctx.writeAndFlush(response);
+
+			ctx.pipeline().addAfter("decoder", "encryptionDecoder", new EncryptionDecoder());
+			ctx.pipeline().replace("decoder", "decoder", new ArchiveRequestDecoder());
+		}
+	}
+
+	private class RequestHandler extends SimpleChannelInboundHandler<ArchiveRequestPacket>
+	{
+		@Override
+		protected void channelRead0(ChannelHandlerContext ctx, ArchiveRequestPacket request)
+		{
+			byte[] data = files.get(request.getIndex() << 16 | request.getArchive());
+			if (data == null)
+			{
+				ctx.close();
+				return;
+			}
+
+			ArchiveResponsePacket response = new ArchiveResponsePacket();
+			response.setIndex(request.getIndex());
+			response.setArchive(request.getArchive());
+			response.setData(data);
+			ctx.write(response);
+		}
+
+		@Override
+		public void channelReadComplete(ChannelHandlerContext ctx)
+		{
+			ctx.flush();
+		}
+	}
+}
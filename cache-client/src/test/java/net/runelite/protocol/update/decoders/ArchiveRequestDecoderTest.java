@@ -0,0 +1,75 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.protocol.update.decoders;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import net.runelite.protocol.api.update.ArchiveRequestPacket;
+import net.runelite.protocol.api.update.EncryptionPacket;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ArchiveRequestDecoderTest
+{
+	@Test
+	public void testOtherMessages()
+	{
+		EmbeddedChannel channel = new EmbeddedChannel(new ArchiveRequestDecoder(), new EncryptionDecoder());
+
+		channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{
+			UpdateOpcodes.ARCHIVE_REQUEST_HIGH, 2, 0, 3,
+			UpdateOpcodes.ENCRYPTION, 42, 0, 0,
+			UpdateOpcodes.CLIENT_LOGGED_IN, 0, 0, 0,
+			UpdateOpcodes.ARCHIVE_REQUEST_LOW, (byte) 255, 1
+		}));
+		// the rest of the last request
+		channel.writeInbound(Unpooled.wrappedBuffer(new byte[]{0}));
+
+		ArchiveRequestPacket request = channel.readInbound();
+		assertTrue(request.isPriority());
+		assertEquals(2, request.getIndex());
+		assertEquals(3, request.getArchive());
+
+		EncryptionPacket encryption = channel.readInbound();
+		assertEquals(42, encryption.getKey());
+
+		// messages neither decoder knows are passed on
+		ByteBuf loggedIn = channel.readInbound();
+		assertEquals(UpdateOpcodes.CLIENT_LOGGED_IN, loggedIn.readByte());
+		loggedIn.release();
+
+		request = channel.readInbound();
+		assertFalse(request.isPriority());
+		assertEquals(255, request.getIndex());
+		assertEquals(256, request.getArchive());
+
+		assertNull(channel.readInbound());
+		assertFalse(channel.finish());
+	}
+}
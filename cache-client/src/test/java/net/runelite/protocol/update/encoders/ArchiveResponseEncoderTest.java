@@ -73,4 +73,20 @@ public class ArchiveResponseEncoderTest
 		Assert.assertArrayEquals(data, decompressedData);
 	}
 
+	@Test
+	public void testEncodedSize()
+	{
+		Random random = new Random(42L);
+		for (int length : new int[]{0, 1, 508, 509, 510, 1019, 1020, 1021, 100_000})
+		{
+			ArchiveResponsePacket archiveResponse = new ArchiveResponsePacket();
+			archiveResponse.setData(new byte[length]);
+			random.nextBytes(archiveResponse.getData());
+
+			ByteBuf buf = Unpooled.buffer();
+			ArchiveResponseEncoder.encode(archiveResponse, buf);
+			Assert.assertEquals(buf.readableBytes(), ArchiveResponseEncoder.encodedSize(length));
+		}
+	}
+
 }
@@ -0,0 +1,183 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.ChannelInboundHandlerAdapter;
+import io.netty.util.ReferenceCountUtil;
+import java.util.ArrayDeque;
+import java.util.Queue;
+import net.runelite.protocol.api.update.ArchiveRequestPacket;
+import net.runelite.protocol.api.update.EncryptionPacket;
+import net.runelite.protocol.update.decoders.UpdateOpcodes;
+import net.runelite.protocol.update.encoders.XorEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the archive requests of one connection. Urgent requests are served before
+ * prefetch requests, and requests are only served while the channel is writable, so a
+ * slow client queues requests here rather than responses in the channel.
+ */
+public class ArchiveRequestHandler extends ChannelInboundHandlerAdapter
+{
+	private static final Logger logger = LoggerFactory.getLogger(ArchiveRequestHandler.class);
+
+	/**
+	 * Clients keep a small number of requests in flight, so this is only reached by misbehaving clients
+	 */
+	static final int MAX_QUEUED_REQUESTS = 1000;
+
+	private final ArchiveResponseCache cache;
+	private final Queue<ArchiveRequestPacket> urgent = new ArrayDeque<>();
+	private final Queue<ArchiveRequestPacket> prefetch = new ArrayDeque<>();
+
+	public ArchiveRequestHandler(ArchiveResponseCache cache)
+	{
+		this.cache = cache;
+	}
+
+	@Override
+	public void channelRead(ChannelHandlerContext ctx, Object msg) throws Exception
+	{
+		if (msg instanceof ArchiveRequestPacket)
+		{
+			ArchiveRequestPacket archiveRequest = (ArchiveRequestPacket) msg;
+			Queue<ArchiveRequestPacket> queue = archiveRequest.isPriority() ? urgent : prefetch;
+			if (queue.size() >= MAX_QUEUED_REQUESTS)
+			{
+				logger.warn("Too many queued requests from {}", ctx.channel().remoteAddress());
+				ctx.close();
+				return;
+			}
+
+			queue.add(archiveRequest);
+		}
+		else if (msg instanceof EncryptionPacket)
+		{
+			onEncryption(ctx, (EncryptionPacket) msg);
+		}
+		else if (msg instanceof ByteBuf)
+		{
+			// the other update messages are passed on undecoded
+			ByteBuf buf = (ByteBuf) msg;
+			try
+			{
+				int opcode = buf.getUnsignedByte(buf.readerIndex());
+				if (opcode != UpdateOpcodes.CLIENT_LOGGED_IN && opcode != UpdateOpcodes.CLIENT_LOGGED_OUT)
+				{
+					logger.warn("Unknown update opcode {} from {}", opcode, ctx.channel().remoteAddress());
+					ctx.close();
+				}
+			}
+			finally
+			{
+				buf.release();
+			}
+		}
+		else
+		{
+			ReferenceCountUtil.release(msg);
+		}
+	}
+
+	@Override
+	public void channelReadComplete(ChannelHandlerContext ctx) throws Exception
+	{
+		// serve once everything which was read has been queued, so that urgent requests
+		// sent along with prefetch requests are served first
+		serve(ctx);
+		ctx.fireChannelReadComplete();
+	}
+
+	@Override
+	public void channelWritabilityChanged(ChannelHandlerContext ctx) throws Exception
+	{
+		serve(ctx);
+		ctx.fireChannelWritabilityChanged();
+	}
+
+	@Override
+	public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause)
+	{
+		logger.warn("Error serving {}", ctx.channel().remoteAddress(), cause);
+		ctx.close();
+	}
+
+	private void serve(ChannelHandlerContext ctx)
+	{
+		boolean written = false;
+		while (ctx.channel().isWritable())
+		{
+			ArchiveRequestPacket archiveRequest = urgent.poll();
+			if (archiveRequest == null)
+			{
+				archiveRequest = prefetch.poll();
+				if (archiveRequest == null)
+				{
+					break;
+				}
+			}
+
+			ByteBuf response = cache.get(archiveRequest.getIndex(), archiveRequest.getArchive());
+			if (response == null)
+			{
+				logger.debug("Request for missing archive {}/{} from {}",
+					archiveRequest.getIndex(), archiveRequest.getArchive(), ctx.channel().remoteAddress());
+				continue;
+			}
+
+			ctx.write(response, ctx.voidPromise());
+			written = true;
+		}
+
+		if (written)
+		{
+			ctx.flush();
+		}
+	}
+
+	private void onEncryption(ChannelHandlerContext ctx, EncryptionPacket encryptionPacket)
+	{
+		XorEncoder xorEncoder = ctx.pipeline().get(XorEncoder.class);
+		if (encryptionPacket.getKey() == 0)
+		{
+			if (xorEncoder != null)
+			{
+				xorEncoder.setKey((byte) 0);
+			}
+			return;
+		}
+
+		// the cached responses are written as is unless a key is set, which costs a copy
+		if (xorEncoder == null)
+		{
+			xorEncoder = new XorEncoder();
+			ctx.pipeline().addFirst("xor", xorEncoder);
+		}
+		xorEncoder.setKey(encryptionPacket.getKey());
+	}
+}
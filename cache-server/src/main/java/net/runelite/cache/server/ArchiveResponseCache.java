@@ -0,0 +1,109 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import net.runelite.cache.client.UpdateFiles;
+import net.runelite.cache.fs.Store;
+import net.runelite.protocol.api.update.ArchiveResponsePacket;
+import net.runelite.protocol.update.encoders.ArchiveResponseEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The response to every archive request, encoded into direct buffers ahead of
+ * time so that serving an archive is only a write of a duplicate buffer.
+ */
+public class ArchiveResponseCache implements AutoCloseable
+{
+	private static final Logger logger = LoggerFactory.getLogger(ArchiveResponseCache.class);
+
+	private final Map<Integer, ByteBuf> responses = new HashMap<>();
+	private long size;
+
+	public ArchiveResponseCache(Store store) throws IOException
+	{
+		UpdateFiles.forEach(store, this::add);
+
+		logger.info("Encoded {} archive responses in {} bytes", responses.size(), size);
+	}
+
+	private void add(int index, int archive, byte[] data)
+	{
+		ArchiveResponsePacket response = new ArchiveResponsePacket();
+		response.setIndex(index);
+		response.setArchive(archive);
+		response.setData(data);
+
+		int encodedSize = ArchiveResponseEncoder.encodedSize(data.length);
+		ByteBuf buf = Unpooled.directBuffer(encodedSize, encodedSize);
+		ArchiveResponseEncoder.encode(response, buf);
+
+		ByteBuf previous = responses.put(index << 16 | archive, buf);
+		if (previous != null)
+		{
+			size -= previous.readableBytes();
+			previous.release();
+		}
+		size += encodedSize;
+	}
+
+	/**
+	 * Get the encoded response for an archive. The caller owns the returned buffer,
+	 * which shares its contents with the cached response.
+	 *
+	 * @param index index id, or 255 for the indexes
+	 * @param archive archive id
+	 * @return the response, or null if there is no such archive
+	 */
+	public ByteBuf get(int index, int archive)
+	{
+		ByteBuf buf = responses.get(index << 16 | archive);
+		return buf != null ? buf.retainedDuplicate() : null;
+	}
+
+	/**
+	 * Number of bytes of encoded responses
+	 */
+	public long getSize()
+	{
+		return size;
+	}
+
+	@Override
+	public void close()
+	{
+		for (ByteBuf buf : responses.values())
+		{
+			buf.release();
+		}
+		responses.clear();
+		size = 0;
+	}
+}
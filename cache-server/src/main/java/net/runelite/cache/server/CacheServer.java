@@ -0,0 +1,148 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import io.netty.bootstrap.ServerBootstrap;
+import io.netty.channel.Channel;
+import io.netty.channel.ChannelInitializer;
+import io.netty.channel.ChannelOption;
+import io.netty.channel.ChannelPipeline;
+import io.netty.channel.EventLoopGroup;
+import io.netty.channel.nio.NioEventLoopGroup;
+import io.netty.channel.socket.SocketChannel;
+import io.netty.channel.socket.nio.NioServerSocketChannel;
+import java.io.File;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.flat.FlatStorage;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.protocol.handshake.HandshakeDecoder;
+import net.runelite.protocol.handshake.HandshakeResponseEncoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Serves the archives of a store over the update protocol
+ */
+public class CacheServer implements AutoCloseable
+{
+	private static final Logger logger = LoggerFactory.getLogger(CacheServer.class);
+
+	private static final int PORT = 43594;
+
+	private final int revision;
+	private final ArchiveResponseCache cache;
+
+	private final EventLoopGroup bossGroup = new NioEventLoopGroup(1);
+	private final EventLoopGroup workerGroup = new NioEventLoopGroup();
+	private Channel channel;
+
+	/**
+	 * Create a server for a loaded store. The responses are all encoded up front,
+	 * so the store is not used once this returns.
+	 *
+	 * @param store the store
+	 * @param revision client revision to accept
+	 * @throws IOException
+	 */
+	public CacheServer(Store store, int revision) throws IOException
+	{
+		this.revision = revision;
+		this.cache = new ArchiveResponseCache(store);
+	}
+
+	public void bind(InetSocketAddress address)
+	{
+		ServerBootstrap b = new ServerBootstrap();
+		b.group(bossGroup, workerGroup)
+			.channel(NioServerSocketChannel.class)
+			.childOption(ChannelOption.TCP_NODELAY, true)
+			.childHandler(new ChannelInitializer<SocketChannel>()
+			{
+				@Override
+				protected void initChannel(SocketChannel ch) throws Exception
+				{
+					ChannelPipeline p = ch.pipeline();
+
+					p.addLast("decoder", new HandshakeDecoder());
+					p.addLast(
+						new HandshakeResponseEncoder(),
+						new UpdateHandshakeHandler(revision, cache)
+					);
+				}
+			});
+
+		channel = b.bind(address).syncUninterruptibly().channel();
+		logger.info("Serving revision {} on {}", revision, channel.localAddress());
+	}
+
+	public int getPort()
+	{
+		return ((InetSocketAddress) channel.localAddress()).getPort();
+	}
+
+	@Override
+	public void close()
+	{
+		if (channel != null)
+		{
+			channel.close().syncUninterruptibly();
+		}
+		bossGroup.shutdownGracefully().syncUninterruptibly();
+		workerGroup.shutdownGracefully().syncUninterruptibly();
+		cache.close();
+	}
+
+	public static void main(String[] args) throws Exception
+	{
+		if (args.length < 2)
+		{
+			System.err.println("usage: CacheServer <cache directory> <revision> [port]");
+			System.exit(1);
+		}
+
+		File directory = new File(args[0]);
+		int revision = Integer.parseInt(args[1]);
+		int port = args.length > 2 ? Integer.parseInt(args[2]) : PORT;
+
+		// flat caches are checked in to git, disk caches are copied from a client
+		File[] flatFiles = directory.listFiles((dir, name) -> name.endsWith(".flatcache"));
+		Storage storage = flatFiles != null && flatFiles.length > 0
+			? new FlatStorage(directory)
+			: new DiskStorage(directory, true);
+
+		CacheServer server;
+		try (Store store = new Store(storage))
+		{
+			store.load();
+			server = new CacheServer(store, revision);
+		}
+
+		server.bind(new InetSocketAddress(port));
+		Runtime.getRuntime().addShutdownHook(new Thread(server::close));
+	}
+}
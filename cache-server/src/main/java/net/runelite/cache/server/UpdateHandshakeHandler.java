@@ -0,0 +1,87 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import io.netty.channel.ChannelFutureListener;
+import io.netty.channel.ChannelHandlerContext;
+import io.netty.channel.SimpleChannelInboundHandler;
+import net.runelite.protocol.api.handshake.HandshakePacket;
+import net.runelite.protocol.api.handshake.HandshakeResponsePacket;
+import net.runelite.protocol.api.handshake.UpdateHandshakePacket;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import net.runelite.protocol.update.decoders.ArchiveRequestDecoder;
+import net.runelite.protocol.update.decoders.EncryptionDecoder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class UpdateHandshakeHandler extends SimpleChannelInboundHandler<HandshakePacket>
+{
+	private static final Logger logger = LoggerFactory.getLogger(UpdateHandshakeHandler.class);
+
+	private final int revision;
+	private final ArchiveResponseCache cache;
+
+	public UpdateHandshakeHandler(int revision, ArchiveResponseCache cache)
+	{
+		this.revision = revision;
+		this.cache = cache;
+	}
+
+	@Override
+	protected void channelRead0(ChannelHandlerContext ctx, HandshakePacket handshakePacket) throws Exception
+	{
+		if (!(handshakePacket instanceof UpdateHandshakePacket))
+		{
+			logger.debug("Non-update handshake from {}", ctx.channel().remoteAddress());
+			ctx.close();
+			return;
+		}
+
+		HandshakeResponsePacket handshakeResponse = new HandshakeResponsePacket();
+
+		int clientRevision = ((UpdateHandshakePacket) handshakePacket).getRevision();
+		if (clientRevision != revision)
+		{
+			logger.debug("Client {} has revision {}, expected {}", ctx.channel().remoteAddress(), clientRevision, revision);
+			handshakeResponse.setResponse(HandshakeResponseType.RESPONSE_OUTDATED);
+			ctx.writeAndFlush(handshakeResponse).addListener(ChannelFutureListener.CLOSE);
+			return;
+		}
+
+		handshakeResponse.setResponse(HandshakeResponseType.RESPONSE_OK);
+		ctx.writeAndFlush(handshakeResponse);
+
+		ctx.pipeline().addAfter("decoder", "encryptionDecoder", new EncryptionDecoder());
+		ctx.pipeline().replace("decoder", "decoder", new ArchiveRequestDecoder());
+		ctx.pipeline().replace(this, "requests", new ArchiveRequestHandler(cache));
+	}
+
+	@Override
+	public void exceptionCaught(ChannelHandlerContext ctx, Throwable cause)
+	{
+		logger.warn("Error in handshake with {}", ctx.channel().remoteAddress(), cause);
+		ctx.close();
+	}
+}
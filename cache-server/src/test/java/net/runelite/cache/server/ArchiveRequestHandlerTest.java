@@ -0,0 +1,122 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.embedded.EmbeddedChannel;
+import net.runelite.cache.client.TestStores;
+import net.runelite.cache.fs.Store;
+import net.runelite.protocol.update.decoders.ArchiveRequestDecoder;
+import net.runelite.protocol.update.decoders.EncryptionDecoder;
+import net.runelite.protocol.update.decoders.UpdateOpcodes;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ArchiveRequestHandlerTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private ArchiveResponseCache cache;
+	private EmbeddedChannel channel;
+
+	@Before
+	public void before() throws Exception
+	{
+		try (Store store = new Store(folder.newFolder()))
+		{
+			TestStores.createStore(store);
+			cache = new ArchiveResponseCache(store);
+		}
+
+		channel = new EmbeddedChannel(new ArchiveRequestDecoder(), new EncryptionDecoder(), new ArchiveRequestHandler(cache));
+	}
+
+	@After
+	public void after()
+	{
+		channel.finishAndReleaseAll();
+		cache.close();
+	}
+
+	@Test
+	public void testPriority()
+	{
+		ByteBuf in = Unpooled.buffer();
+		request(in, UpdateOpcodes.ARCHIVE_REQUEST_LOW, 0, 1);
+		in.writeInt(UpdateOpcodes.CLIENT_LOGGED_IN << 24);
+		request(in, UpdateOpcodes.ARCHIVE_REQUEST_LOW, 0, 2);
+		in.writeInt(UpdateOpcodes.ENCRYPTION << 24);
+		request(in, UpdateOpcodes.ARCHIVE_REQUEST_HIGH, 1, 3);
+		request(in, UpdateOpcodes.ARCHIVE_REQUEST_LOW, 5, 0); // missing
+		channel.writeInbound(in);
+		channel.pipeline().fireChannelReadComplete();
+
+		// the urgent request is served first, even though it was sent last
+		assertResponse(1, 3);
+		assertResponse(0, 1);
+		assertResponse(0, 2);
+		Assert.assertNull(channel.readOutbound());
+		Assert.assertTrue(channel.isOpen());
+	}
+
+	@Test
+	public void testUnknownOpcode()
+	{
+		ByteBuf in = Unpooled.buffer();
+		in.writeInt(0x7f << 24);
+		channel.writeInbound(in);
+
+		Assert.assertFalse(channel.isOpen());
+	}
+
+	private static void request(ByteBuf buf, int opcode, int index, int archive)
+	{
+		buf.writeByte(opcode);
+		buf.writeByte(index);
+		buf.writeShort(archive);
+	}
+
+	private void assertResponse(int index, int archive)
+	{
+		ByteBuf response = channel.readOutbound();
+		Assert.assertNotNull(response);
+		try
+		{
+			ByteBuf expected = cache.get(index, archive);
+			Assert.assertEquals(expected, response);
+			expected.release();
+		}
+		finally
+		{
+			response.release();
+		}
+	}
+}
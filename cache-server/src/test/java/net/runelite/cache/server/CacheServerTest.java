@@ -0,0 +1,93 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.server;
+
+import java.net.InetSocketAddress;
+import net.runelite.cache.client.CacheClient;
+import net.runelite.cache.client.DownloadStats;
+import net.runelite.cache.client.TestStores;
+import net.runelite.cache.fs.Store;
+import net.runelite.protocol.api.login.HandshakeResponseType;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+public class CacheServerTest
+{
+	private static final Logger logger = LoggerFactory.getLogger(CacheServerTest.class);
+
+	private static final int REVISION = 200;
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testDownload() throws Exception
+	{
+		try (Store source = new Store(folder.newFolder()))
+		{
+			int archives = TestStores.createStore(source);
+
+			try (CacheServer server = new CacheServer(source, REVISION);
+				Store target = new Store(folder.newFolder()))
+			{
+				server.bind(new InetSocketAddress("127.0.0.1", 0));
+
+				CacheClient c = new CacheClient(target, "127.0.0.1", server.getPort(), REVISION);
+				c.connect();
+				Assert.assertEquals(HandshakeResponseType.RESPONSE_OK, c.handshake().get());
+
+				DownloadStats stats = c.download();
+				logger.info("Downloaded {}", stats);
+				c.close();
+
+				TestStores.assertDownloaded(source, target, stats, archives);
+			}
+		}
+	}
+
+	@Test
+	public void testOutdated() throws Exception
+	{
+		try (Store source = new Store(folder.newFolder()))
+		{
+			TestStores.createStore(source);
+
+			try (CacheServer server = new CacheServer(source, REVISION);
+				Store target = new Store(folder.newFolder()))
+			{
+				server.bind(new InetSocketAddress("127.0.0.1", 0));
+
+				CacheClient c = new CacheClient(target, "127.0.0.1", server.getPort(), REVISION - 1);
+				c.connect();
+				Assert.assertEquals(HandshakeResponseType.RESPONSE_OUTDATED, c.handshake().get());
+				c.close();
+			}
+		}
+	}
+}
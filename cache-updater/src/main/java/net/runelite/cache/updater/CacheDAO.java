@@ -28,6 +28,7 @@ import java.time.Instant;
 import java.util.List;
 import net.runelite.cache.updater.beans.ArchiveEntry;
 import net.runelite.cache.updater.beans.CacheEntry;
+import net.runelite.cache.updater.beans.FileEntry;
 import net.runelite.cache.updater.beans.IndexEntry;
 import org.sql2o.Connection;
 import org.sql2o.Query;
@@ -35,6 +36,9 @@ import org.sql2o.ResultSetIterable;
 
 class CacheDAO
 {
+	// rows per batch for the high volume inserts
+	private static final int BATCH_SIZE = 1000;
+
 	// cache prepared statements for high volume queries
 	private Query associateArchive;
 	private Query findArchive, insertArchive;
@@ -96,18 +100,6 @@ class CacheDAO
 		return entry;
 	}
 
-	public void associateArchiveToIndex(Connection con, ArchiveEntry archive, IndexEntry index)
-	{
-		if (associateArchive == null)
-		{
-			associateArchive = con.createQuery("insert into index_archive (`index`, archive) values (:index, :archive)");
-		}
-		associateArchive
-			.addParameter("index", index.getId())
-			.addParameter("archive", archive.getId())
-			.executeUpdate();
-	}
-
 	public ArchiveEntry findArchive(Connection con, IndexEntry index,
 		int archiveId, int nameHash, int crc, int revision)
 	{
@@ -134,44 +126,108 @@ class CacheDAO
 		return entry;
 	}
 
-	public ArchiveEntry createArchive(Connection con, IndexEntry index,
-		int archiveId, int nameHash, int crc, int revision, byte[] hash)
+	/**
+	 * Insert archives, setting the id of each entry
+	 *
+	 * @param con
+	 * @param archives
+	 */
+	public void createArchives(Connection con, List<ArchiveEntry> archives)
 	{
 		if (insertArchive == null)
 		{
 			insertArchive = con.createQuery("insert into archive (archiveId, nameHash, crc, revision, hash) values "
-				+ "(:archiveId, :nameHash, :crc, :revision, :hash)");
+				+ "(:archiveId, :nameHash, :crc, :revision, :hash)", true);
 		}
 
-		int id = insertArchive
-			.addParameter("archiveId", archiveId)
-			.addParameter("nameHash", nameHash)
-			.addParameter("crc", crc)
-			.addParameter("revision", revision)
-			.addParameter("hash", hash)
-			.executeUpdate()
-			.getKey(int.class);
+		for (int i = 0; i < archives.size(); i += BATCH_SIZE)
+		{
+			List<ArchiveEntry> batch = archives.subList(i, Math.min(i + BATCH_SIZE, archives.size()));
+			for (ArchiveEntry archive : batch)
+			{
+				insertArchive
+					.addParameter("archiveId", archive.getArchiveId())
+					.addParameter("nameHash", archive.getNameHash())
+					.addParameter("crc", archive.getCrc())
+					.addParameter("revision", archive.getRevision())
+					.addParameter("hash", archive.getHash())
+					.addToBatch();
+			}
+
+			List<Integer> ids = insertArchive.executeBatch()
+				.getKeys(Integer.class);
+			if (ids.size() != batch.size())
+			{
+				throw new IllegalStateException("Inserted " + batch.size() + " archives but got " + ids.size() + " keys");
+			}
+
+			for (int j = 0; j < batch.size(); ++j)
+			{
+				batch.get(j).setId(ids.get(j));
+			}
+		}
+	}
 
-		ArchiveEntry entry = new ArchiveEntry();
-		entry.setId(id);
-		entry.setArchiveId(archiveId);
-		entry.setNameHash(nameHash);
-		entry.setCrc(crc);
-		entry.setRevision(revision);
-		entry.setHash(hash);
-		return entry;
+	public void associateArchivesToIndex(Connection con, List<ArchiveEntry> archives, IndexEntry index)
+	{
+		if (associateArchive == null)
+		{
+			associateArchive = con.createQuery("insert into index_archive (`index`, archive) values (:index, :archive)");
+		}
+
+		int batched = 0;
+		for (ArchiveEntry archive : archives)
+		{
+			associateArchive
+				.addParameter("index", index.getId())
+				.addParameter("archive", archive.getId())
+				.addToBatch();
+
+			if (++batched == BATCH_SIZE)
+			{
+				associateArchive.executeBatch();
+				batched = 0;
+			}
+		}
+
+		if (batched > 0)
+		{
+			associateArchive.executeBatch();
+		}
 	}
 
-	public void associateFileToArchive(Connection con, ArchiveEntry archive, int fileId, int nameHash)
+	/**
+	 * Insert files, using {@link FileEntry#getArchiveId()} as the archive row id
+	 *
+	 * @param con
+	 * @param files
+	 */
+	public void associateFilesToArchives(Connection con, List<FileEntry> files)
 	{
 		if (associateFile == null)
 		{
 			associateFile = con.createQuery("insert into file (archive, fileId, nameHash) values (:archive, :fileId, :nameHash)");
 		}
-		associateFile
-			.addParameter("archive", archive.getId())
-			.addParameter("fileId", fileId)
-			.addParameter("nameHash", nameHash)
-			.executeUpdate();
+
+		int batched = 0;
+		for (FileEntry file : files)
+		{
+			associateFile
+				.addParameter("archive", file.getArchiveId())
+				.addParameter("fileId", file.getFileId())
+				.addParameter("nameHash", file.getNameHash())
+				.addToBatch();
+
+			if (++batched == BATCH_SIZE)
+			{
+				associateFile.executeBatch();
+				batched = 0;
+			}
+		}
+
+		if (batched > 0)
+		{
+			associateFile.executeBatch();
+		}
 	}
 }
@@ -25,7 +25,10 @@
 package net.runelite.cache.updater;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
+import java.util.Map;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Storage;
@@ -33,6 +36,7 @@ import net.runelite.cache.fs.Store;
 import net.runelite.cache.index.FileData;
 import net.runelite.cache.updater.beans.ArchiveEntry;
 import net.runelite.cache.updater.beans.CacheEntry;
+import net.runelite.cache.updater.beans.FileEntry;
 import net.runelite.cache.updater.beans.IndexEntry;
 import org.sql2o.Connection;
 import org.sql2o.ResultSetIterable;
@@ -42,6 +46,7 @@ public class CacheStorage implements Storage
 	private CacheEntry cacheEntry;
 	private final CacheDAO cacheDao;
 	private final Connection con;
+	private final Map<Archive, ArchiveEntry> loadedArchives = new IdentityHashMap<>();
 
 	public CacheStorage(CacheEntry cacheEntry, CacheDAO cacheDao, Connection con)
 	{
@@ -94,6 +99,7 @@ public class CacheStorage implements Storage
 					archive.setCrc(archiveEntry.getCrc());
 					archive.setRevision(archiveEntry.getRevision());
 					archive.setHash(archiveEntry.getHash());
+					loadedArchives.put(archive, archiveEntry);
 
 					// File data is not necessary for cache updating
 				}
@@ -108,25 +114,64 @@ public class CacheStorage implements Storage
 		{
 			IndexEntry entry = cacheDao.createIndex(con, cacheEntry, index.getId(), index.getCrc(), index.getRevision());
 
+			List<ArchiveEntry> archiveEntries = new ArrayList<>(index.getArchives().size());
+			List<Archive> newArchives = new ArrayList<>();
+			List<ArchiveEntry> newArchiveEntries = new ArrayList<>();
+
 			for (Archive archive : index.getArchives())
 			{
-				ArchiveEntry archiveEntry = cacheDao.findArchive(con, entry, archive.getArchiveId(),
-					archive.getNameHash(), archive.getCrc(), archive.getRevision());
+				ArchiveEntry archiveEntry = findArchive(entry, archive);
 				if (archiveEntry == null)
 				{
-					byte[] hash = archive.getHash();
-					archiveEntry = cacheDao.createArchive(con, entry, archive.getArchiveId(),
-						archive.getNameHash(), archive.getCrc(), archive.getRevision(), hash);
-
-					for (FileData file : archive.getFileData())
-					{
-						cacheDao.associateFileToArchive(con, archiveEntry, file.getId(), file.getNameHash());
-					}
+					archiveEntry = new ArchiveEntry();
+					archiveEntry.setArchiveId(archive.getArchiveId());
+					archiveEntry.setNameHash(archive.getNameHash());
+					archiveEntry.setCrc(archive.getCrc());
+					archiveEntry.setRevision(archive.getRevision());
+					archiveEntry.setHash(archive.getHash());
+
+					newArchives.add(archive);
+					newArchiveEntries.add(archiveEntry);
 				}
 
-				cacheDao.associateArchiveToIndex(con, archiveEntry, entry);
+				archiveEntries.add(archiveEntry);
 			}
+
+			cacheDao.createArchives(con, newArchiveEntries);
+
+			List<FileEntry> files = new ArrayList<>();
+			for (int i = 0; i < newArchives.size(); ++i)
+			{
+				ArchiveEntry archiveEntry = newArchiveEntries.get(i);
+				for (FileData fileData : newArchives.get(i).getFileData())
+				{
+					FileEntry file = new FileEntry();
+					file.setArchiveId(archiveEntry.getId());
+					file.setFileId(fileData.getId());
+					file.setNameHash(fileData.getNameHash());
+					files.add(file);
+				}
+			}
+
+			cacheDao.associateFilesToArchives(con, files);
+			cacheDao.associateArchivesToIndex(con, archiveEntries, entry);
+		}
+	}
+
+	private ArchiveEntry findArchive(IndexEntry index, Archive archive)
+	{
+		// most archives are unchanged from the cache which was loaded, so avoid querying for them
+		ArchiveEntry loaded = loadedArchives.get(archive);
+		if (loaded != null
+			&& loaded.getNameHash() == archive.getNameHash()
+			&& loaded.getCrc() == archive.getCrc()
+			&& loaded.getRevision() == archive.getRevision())
+		{
+			return loaded;
 		}
+
+		return cacheDao.findArchive(con, index, archive.getArchiveId(),
+			archive.getNameHash(), archive.getCrc(), archive.getRevision());
 	}
 
 	@Override
@@ -26,6 +26,7 @@ package net.runelite.cache.updater;
 
 import com.google.common.hash.Hashing;
 import com.google.common.io.BaseEncoding;
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
 import io.minio.MinioClient;
 import io.minio.errors.ErrorResponseException;
 import io.minio.errors.InsufficientDataException;
@@ -35,62 +36,184 @@ import io.minio.errors.InvalidBucketNameException;
 import io.minio.errors.NoResponseException;
 import java.io.ByteArrayInputStream;
 import java.io.IOException;
-import java.io.InputStream;
 import java.security.InvalidKeyException;
 import java.security.NoSuchAlgorithmException;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.xmlpull.v1.XmlPullParserException;
 
-public class CacheUploader implements Runnable
+/**
+ * Uploads archives to the object store, keyed by the sha256 of their contents.
+ * Uploads run on a fixed number of threads, and {@link #upload(Archive, byte[])}
+ * blocks once too many are pending, so downloads can't outpace the uploads.
+ */
+public class CacheUploader implements AutoCloseable
 {
 	private static final Logger logger = LoggerFactory.getLogger(CacheUploader.class);
 
+	private static final int UPLOAD_THREADS = 8;
+	private static final int MAX_PENDING = 64;
+	private static final int MAX_ATTEMPTS = 3;
+
 	private final MinioClient minioClient;
 	private final String minioBucket;
-	private final Archive archive;
-	private final byte[] data;
 
-	public CacheUploader(MinioClient minioClient, String minioBucket, Archive archive, byte[] data)
+	private final ExecutorService executor;
+	private final Semaphore pending = new Semaphore(MAX_PENDING);
+	// paths which are known to be in the bucket or are being uploaded
+	private final Set<String> paths = ConcurrentHashMap.newKeySet();
+
+	private final AtomicInteger uploaded = new AtomicInteger();
+	private final AtomicInteger skipped = new AtomicInteger();
+	private final AtomicInteger failed = new AtomicInteger();
+
+	public CacheUploader(MinioClient minioClient, String minioBucket)
 	{
 		this.minioClient = minioClient;
 		this.minioBucket = minioBucket;
-		this.archive = archive;
-		this.data = data;
+		this.executor = Executors.newFixedThreadPool(UPLOAD_THREADS, new ThreadFactoryBuilder()
+			.setNameFormat("cache-uploader-%d")
+			.setDaemon(true)
+			.build());
 	}
 
-	@Override
-	public void run()
+	/**
+	 * Mark the archives of a store as already uploaded. The archives of a cache
+	 * are uploaded before it is committed, so this is true of any store loaded
+	 * from the database.
+	 *
+	 * @param store
+	 */
+	public void addExisting(Store store)
 	{
-		byte[] hash = Hashing.sha256().hashBytes(data).asBytes();
-		String hashStr = BaseEncoding.base16().encode(hash);
+		for (Index index : store.getIndexes())
+		{
+			for (Archive archive : index.getArchives())
+			{
+				byte[] hash = archive.getHash();
+				if (hash != null)
+				{
+					paths.add(path(hash));
+				}
+			}
+		}
+
+		logger.debug("{} archives are already uploaded", paths.size());
+	}
 
+	/**
+	 * Hash and upload an archive, setting its hash. Blocks if too many uploads are pending.
+	 *
+	 * @param archive
+	 * @param data
+	 */
+	public void upload(Archive archive, byte[] data)
+	{
+		pending.acquireUninterruptibly();
+		try
+		{
+			executor.execute(() ->
+			{
+				try
+				{
+					run(archive, data);
+				}
+				finally
+				{
+					pending.release();
+				}
+			});
+		}
+		catch (RuntimeException ex)
+		{
+			pending.release();
+			throw ex;
+		}
+	}
+
+	private void run(Archive archive, byte[] data)
+	{
+		byte[] hash = Hashing.sha256().hashBytes(data).asBytes();
 		archive.setHash(hash);
 
-		String path = new StringBuilder()
-			.append(hashStr, 0, 2)
-			.append('/')
-			.append(hashStr.substring(2))
-			.toString();
+		String path = path(hash);
+		if (!paths.add(path))
+		{
+			// already exists, or another archive with the same contents is being uploaded
+			skipped.incrementAndGet();
+			return;
+		}
 
-		try
+		for (int attempt = 1; ; ++attempt)
 		{
-			try (InputStream in = minioClient.getObject(minioBucket, path))
+			try
 			{
-				return; // already exists
+				minioClient.putObject(minioBucket, path, new ByteArrayInputStream(data), data.length, "binary/octet-stream");
+				uploaded.incrementAndGet();
+				return;
 			}
-			catch (ErrorResponseException ex)
+			catch (ErrorResponseException | InsufficientDataException | InternalException | InvalidArgumentException | InvalidBucketNameException | NoResponseException | IOException | InvalidKeyException | NoSuchAlgorithmException | XmlPullParserException ex)
 			{
-				// doesn't exist
+				// the http client can't replay the request body itself if a pooled connection turns out to be closed
+				if (attempt < MAX_ATTEMPTS)
+				{
+					logger.debug("unable to upload data to store, retrying", ex);
+					continue;
+				}
+
+				logger.warn("unable to upload data to store", ex);
+				paths.remove(path);
+				failed.incrementAndGet();
+				return;
 			}
+		}
+	}
 
-			minioClient.putObject(minioBucket, path, new ByteArrayInputStream(data), data.length, "binary/octet-stream");
+	/**
+	 * Wait for all uploads to finish. No more archives may be uploaded after this.
+	 *
+	 * @throws IOException if any upload failed
+	 * @throws InterruptedException
+	 */
+	public void finish() throws IOException, InterruptedException
+	{
+		executor.shutdown();
+		while (!executor.awaitTermination(1, TimeUnit.SECONDS))
+		{
+			logger.debug("Waiting for {} uploads...", MAX_PENDING - pending.availablePermits());
 		}
-		catch (ErrorResponseException | InsufficientDataException | InternalException | InvalidArgumentException | InvalidBucketNameException | NoResponseException | IOException | InvalidKeyException | NoSuchAlgorithmException | XmlPullParserException ex)
+
+		logger.info("Uploaded {} archives, skipped {} already uploaded", uploaded.get(), skipped.get());
+
+		if (failed.get() > 0)
 		{
-			logger.warn("unable to upload data to store", ex);
+			throw new IOException("Unable to upload " + failed.get() + " archives");
 		}
 	}
 
+	@Override
+	public void close()
+	{
+		executor.shutdownNow();
+	}
+
+	static String path(byte[] hash)
+	{
+		String hashStr = BaseEncoding.base16().encode(hash);
+		return new StringBuilder()
+			.append(hashStr, 0, 2)
+			.append('/')
+			.append(hashStr.substring(2))
+			.toString();
+	}
 }
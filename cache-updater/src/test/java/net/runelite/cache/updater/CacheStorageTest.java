@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.updater;
+
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Random;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import net.runelite.cache.updater.beans.CacheEntry;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Test;
+import org.sql2o.Connection;
+import org.sql2o.Sql2o;
+import org.sql2o.converters.Converter;
+import org.sql2o.quirks.NoQuirks;
+
+public class CacheStorageTest
+{
+	private final Random random = new Random(42L);
+	private Connection con;
+
+	@Before
+	public void before()
+	{
+		Map<Class, Converter> converters = new HashMap<>();
+		converters.put(Instant.class, new InstantConverter());
+
+		// the schema is created when the connection is opened, and dropped when it is closed
+		Sql2o sql2o = new Sql2o("jdbc:h2:mem:cache;MODE=MySQL;DATABASE_TO_UPPER=false;INIT=RUNSCRIPT FROM 'classpath:schema.sql'",
+			"sa", "", new NoQuirks(converters));
+		con = sql2o.beginTransaction();
+	}
+
+	@After
+	public void after()
+	{
+		con.close();
+	}
+
+	@Test
+	public void testSave() throws Exception
+	{
+		CacheDAO cacheDao = new CacheDAO();
+		CacheEntry cache = cacheDao.createCache(con, 1, Instant.now());
+
+		int archives = 0;
+		try (Store store = new Store(new CacheStorage(cache, cacheDao, con)))
+		{
+			// more archives than fit in one batch
+			for (int i = 0; i < 2; ++i)
+			{
+				Index index = store.addIndex(i);
+				index.setCrc(random.nextInt());
+				index.setRevision(i);
+
+				for (int a = 0; a < 1500; ++a)
+				{
+					addArchive(index, a);
+					++archives;
+				}
+			}
+
+			store.save();
+		}
+
+		Assert.assertEquals(archives, count("archive"));
+		Assert.assertEquals(archives * 2, count("file"));
+		Assert.assertEquals(archives, count("index_archive"));
+
+		CacheEntry newCache = cacheDao.createCache(con, 2, Instant.now());
+		CacheStorage storage = new CacheStorage(cache, cacheDao, con);
+		try (Store store = new Store(storage))
+		{
+			store.load();
+
+			Index index = store.findIndex(1);
+			Assert.assertEquals(1500, index.getArchives().size());
+
+			// one updated archive and one new archive
+			Archive archive = index.getArchive(10);
+			archive.setRevision(archive.getRevision() + 1);
+			archive.setCrc(random.nextInt());
+			archive.setHash(hash());
+			archive.setFileData(new FileData[]{new FileData()});
+			addArchive(index, 1500);
+
+			storage.setCacheEntry(newCache);
+			store.save();
+		}
+
+		Assert.assertEquals(archives + 2, count("archive"));
+		Assert.assertEquals(archives * 2 + 3, count("file"));
+		Assert.assertEquals(archives * 2 + 1, count("index_archive"));
+
+		try (Store store = new Store(new CacheStorage(newCache, cacheDao, con)))
+		{
+			store.load();
+
+			Assert.assertEquals(1500, store.findIndex(0).getArchives().size());
+			Assert.assertEquals(1501, store.findIndex(1).getArchives().size());
+		}
+	}
+
+	private void addArchive(Index index, int id)
+	{
+		Archive archive = index.addArchive(id);
+		archive.setNameHash(random.nextInt());
+		archive.setCrc(random.nextInt());
+		archive.setRevision(random.nextInt(1000));
+		archive.setHash(hash());
+
+		FileData[] files = new FileData[2];
+		for (int i = 0; i < files.length; ++i)
+		{
+			files[i] = new FileData();
+			files[i].setId(i);
+			files[i].setNameHash(random.nextInt());
+		}
+		archive.setFileData(files);
+	}
+
+	private byte[] hash()
+	{
+		byte[] hash = new byte[32];
+		random.nextBytes(hash);
+		return hash;
+	}
+
+	private int count(String table)
+	{
+		return con.createQuery("select count(*) from `" + table + "`")
+			.executeScalar(Integer.class);
+	}
+}
@@ -0,0 +1,135 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.updater;
+
+import com.google.common.hash.Hashing;
+import io.minio.MinioClient;
+import java.io.IOException;
+import java.util.Random;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import org.junit.After;
+import org.junit.Assert;
+import org.junit.Before;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class CacheUploaderTest
+{
+	private static final String BUCKET = "runelite";
+
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	private TestObjectStore objectStore;
+	private MinioClient minioClient;
+	private Store store;
+
+	@Before
+	public void before() throws Exception
+	{
+		objectStore = new TestObjectStore(BUCKET);
+		minioClient = new MinioClient(objectStore.getEndpoint(), "accesskey", "secretkey");
+		store = new Store(folder.newFolder());
+	}
+
+	@After
+	public void after() throws Exception
+	{
+		store.close();
+		objectStore.close();
+	}
+
+	@Test
+	public void testUpload() throws Exception
+	{
+		Random random = new Random(42L);
+		Index index = store.addIndex(0);
+
+		byte[] existing = new byte[100];
+		random.nextBytes(existing);
+
+		// an archive from a previous cache
+		Archive uploaded = index.addArchive(0);
+		uploaded.setHash(Hashing.sha256().hashBytes(existing).asBytes());
+
+		byte[][] data = new byte[200][];
+		for (int i = 0; i < data.length; ++i)
+		{
+			if (i % 4 == 0)
+			{
+				// the same as another archive
+				data[i] = i % 8 == 0 ? existing : data[i - 1];
+				continue;
+			}
+
+			data[i] = new byte[random.nextInt(2048)];
+			random.nextBytes(data[i]);
+		}
+
+		try (CacheUploader uploader = new CacheUploader(minioClient, BUCKET))
+		{
+			uploader.addExisting(store);
+
+			for (int i = 0; i < data.length; ++i)
+			{
+				uploader.upload(index.addArchive(i + 1), data[i]);
+			}
+
+			uploader.finish();
+		}
+
+		// each distinct archive is put once, and the existing archive is not put again
+		Assert.assertEquals(150, objectStore.getPuts());
+		Assert.assertEquals(150, objectStore.getObjects().size());
+
+		for (int i = 0; i < data.length; ++i)
+		{
+			Archive archive = index.getArchive(i + 1);
+			byte[] hash = Hashing.sha256().hashBytes(data[i]).asBytes();
+			Assert.assertArrayEquals(hash, archive.getHash());
+
+			if (data[i] != existing)
+			{
+				Assert.assertArrayEquals(data[i], objectStore.getObjects().get(CacheUploader.path(hash)));
+			}
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testUploadFailure() throws Exception
+	{
+		objectStore.setFailing(true);
+
+		Index index = store.addIndex(0);
+		try (CacheUploader uploader = new CacheUploader(minioClient, BUCKET))
+		{
+			uploader.upload(index.addArchive(0), new byte[]{1, 2, 3});
+			uploader.finish();
+		}
+	}
+}
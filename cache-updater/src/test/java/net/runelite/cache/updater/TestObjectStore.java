@@ -0,0 +1,146 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.updater;
+
+import com.google.common.io.ByteStreams;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * A minimal in-process S3 endpoint supporting what {@link CacheUploader} uses,
+ * which is putting objects into a single bucket
+ */
+class TestObjectStore implements AutoCloseable
+{
+	private final HttpServer server;
+	private final ExecutorService executor = Executors.newCachedThreadPool();
+	private final String bucket;
+	private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+	private final AtomicInteger puts = new AtomicInteger();
+	private volatile boolean failing;
+
+	TestObjectStore(String bucket) throws IOException
+	{
+		this.bucket = bucket;
+		server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+		server.createContext("/", this::handle);
+		server.setExecutor(executor);
+		server.start();
+	}
+
+	String getEndpoint()
+	{
+		return "http://127.0.0.1:" + server.getAddress().getPort();
+	}
+
+	Map<String, byte[]> getObjects()
+	{
+		return objects;
+	}
+
+	int getPuts()
+	{
+		return puts.get();
+	}
+
+	void setFailing(boolean failing)
+	{
+		this.failing = failing;
+	}
+
+	@Override
+	public void close()
+	{
+		server.stop(0);
+		executor.shutdownNow();
+	}
+
+	private void handle(HttpExchange exchange) throws IOException
+	{
+		try
+		{
+			String path = exchange.getRequestURI().getPath();
+			String query = exchange.getRequestURI().getQuery();
+			String prefix = "/" + bucket + "/";
+
+			if ("GET".equals(exchange.getRequestMethod()) && query != null && query.startsWith("location"))
+			{
+				respond(exchange, 200, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+					+ "<LocationConstraint xmlns=\"http://s3.amazonaws.com/doc/2006-03-01/\">us-east-1</LocationConstraint>");
+			}
+			else if ("PUT".equals(exchange.getRequestMethod()) && path.startsWith(prefix))
+			{
+				byte[] data = ByteStreams.toByteArray(exchange.getRequestBody());
+				puts.incrementAndGet();
+
+				if (failing)
+				{
+					respond(exchange, 500, "<?xml version=\"1.0\" encoding=\"UTF-8\"?>"
+						+ "<Error><Code>InternalError</Code><Message>failing</Message>"
+						+ "<Resource>" + path + "</Resource><RequestId>0</RequestId></Error>");
+					return;
+				}
+
+				objects.put(path.substring(prefix.length()), data);
+				exchange.getResponseHeaders().add("ETag", "\"0\"");
+				respond(exchange, 200, "");
+			}
+			else
+			{
+				respond(exchange, 400, "");
+			}
+		}
+		finally
+		{
+			exchange.close();
+		}
+	}
+
+	private static void respond(HttpExchange exchange, int status, String body) throws IOException
+	{
+		byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+		// the jdk server closes kept alive connections unpredictably, and the client
+		// can't always retry a put on another connection
+		exchange.getResponseHeaders().add("Connection", "close");
+		if (bytes.length > 0)
+		{
+			exchange.getResponseHeaders().add("Content-Type", "application/xml");
+		}
+		exchange.sendResponseHeaders(status, bytes.length > 0 ? bytes.length : -1);
+		try (OutputStream out = exchange.getResponseBody())
+		{
+			out.write(bytes);
+		}
+	}
+}
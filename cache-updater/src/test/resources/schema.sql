@@ -0,0 +1,38 @@
+CREATE TABLE `cache` (
+  `id` int NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  `revision` int NOT NULL,
+  `date` timestamp NOT NULL
+);
+
+CREATE TABLE `archive` (
+  `id` int NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  `archiveId` int NOT NULL,
+  `nameHash` int NOT NULL,
+  `crc` int NOT NULL,
+  `revision` int NOT NULL,
+  `hash` binary(32) NOT NULL
+);
+
+CREATE TABLE `file` (
+  `id` int NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  `archive` int NOT NULL REFERENCES `archive` (`id`),
+  `fileId` int NOT NULL,
+  `nameHash` int NOT NULL,
+  UNIQUE (`archive`, `fileId`)
+);
+
+CREATE TABLE `index` (
+  `id` int NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  `cache` int NOT NULL REFERENCES `cache` (`id`),
+  `indexId` int NOT NULL,
+  `crc` int NOT NULL,
+  `revision` int NOT NULL,
+  UNIQUE (`cache`, `indexId`, `revision`, `crc`)
+);
+
+CREATE TABLE `index_archive` (
+  `id` int NOT NULL AUTO_INCREMENT PRIMARY KEY,
+  `index` int NOT NULL REFERENCES `index` (`id`),
+  `archive` int NOT NULL REFERENCES `archive` (`id`),
+  UNIQUE (`index`, `archive`)
+);
@@ -26,6 +26,7 @@ package net.runelite.cache;
 
 import java.awt.Color;
 import java.awt.Graphics2D;
+import java.awt.RenderingHints;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.FileInputStream;
@@ -33,8 +34,13 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 import javax.imageio.ImageIO;
 import lombok.Getter;
 import lombok.Setter;
@@ -57,11 +63,11 @@ import net.runelite.cache.fs.Store;
 import net.runelite.cache.item.RSTextureProvider;
 import net.runelite.cache.models.JagexColor;
 import net.runelite.cache.region.Location;
-import net.runelite.cache.region.Position;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
 import net.runelite.cache.util.BigBufferedImage;
 import net.runelite.cache.util.KeyProvider;
+import net.runelite.cache.util.Tasks;
 import net.runelite.cache.util.XteaKeyManager;
 import org.apache.commons.cli.CommandLine;
 import org.apache.commons.cli.CommandLineParser;
@@ -145,6 +151,10 @@ public class MapImageDumper
 		options.addOption(Option.builder().longOpt("cachedir").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("xteapath").hasArg().required().build());
 		options.addOption(Option.builder().longOpt("outputdir").hasArg().required().build());
+		options.addOption(Option.builder().longOpt("tiled").desc("write region aligned tiles instead of one image per plane").build());
+		options.addOption(Option.builder().longOpt("tileregions").hasArg().desc("regions per tile side").build());
+		options.addOption(Option.builder().longOpt("zoomlevels").hasArg().desc("number of zoomed out tile levels").build());
+		options.addOption(Option.builder().longOpt("threads").hasArg().build());
 
 		CommandLineParser parser = new DefaultParser();
 		CommandLine cmd;
@@ -180,6 +190,27 @@ public class MapImageDumper
 			MapImageDumper dumper = new MapImageDumper(store, xteaKeyManager);
 			dumper.load();
 
+			if (cmd.hasOption("tiled"))
+			{
+				int tileRegions = Integer.parseInt(cmd.getOptionValue("tileregions", "1"));
+				int zoomLevels = Integer.parseInt(cmd.getOptionValue("zoomlevels", "0"));
+				int threads = Integer.parseInt(cmd.getOptionValue("threads", Integer.toString(Runtime.getRuntime().availableProcessors())));
+
+				ForkJoinPool pool = new ForkJoinPool(threads);
+				try
+				{
+					for (int i = 0; i < Region.Z; ++i)
+					{
+						dumper.dumpTiles(i, tileRegions, zoomLevels, new File(outDir, Integer.toString(i)), pool);
+					}
+				}
+				finally
+				{
+					pool.shutdown();
+				}
+				return;
+			}
+
 			for (int i = 0; i < Region.Z; ++i)
 			{
 				BufferedImage image = dumper.drawMap(i);
@@ -291,6 +322,198 @@ public class MapImageDumper
 		return image;
 	}
 
+	/**
+	 * Draw a square tile of the map, made up of tileRegions x tileRegions regions, with the
+	 * south west region of the tile at region coordinates (tileX * tileRegions, tileY * tileRegions).
+	 * Ground blending and objects which overhang from regions bordering the tile are drawn the same
+	 * as they would be in the full map, so tiles can be drawn independently and stitched together.
+	 * This is thread safe once the dumper is loaded.
+	 *
+	 * @param z plane
+	 * @param tileX tile x
+	 * @param tileY tile y
+	 * @param tileRegions number of regions per side of the tile
+	 * @return
+	 */
+	public BufferedImage drawTile(int z, int tileX, int tileY, int tileRegions)
+	{
+		int pixels = tileRegions * Region.X * MAP_SCALE;
+		BufferedImage image = new BufferedImage(pixels, pixels, transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+
+		int baseRegionX = tileX * tileRegions;
+		int baseRegionY = tileY * tileRegions;
+
+		for (int rx = 0; rx < tileRegions; ++rx)
+		{
+			for (int ry = 0; ry < tileRegions; ++ry)
+			{
+				Region region = regionLoader.findRegionForRegionCoordinates(baseRegionX + rx, baseRegionY + ry);
+				if (region != null)
+				{
+					drawMap(image, rx * Region.X, (tileRegions - 1 - ry) * Region.Y, z, region);
+				}
+			}
+		}
+
+		// include the ring of regions around the tile for objects and icons which cross the tile edge
+		for (int rx = -1; rx <= tileRegions; ++rx)
+		{
+			for (int ry = -1; ry <= tileRegions; ++ry)
+			{
+				Region region = regionLoader.findRegionForRegionCoordinates(baseRegionX + rx, baseRegionY + ry);
+				if (region != null)
+				{
+					drawObjects(image, rx * Region.X, (tileRegions - 1 - ry) * Region.Y, region, z);
+				}
+			}
+		}
+
+		for (int rx = -1; rx <= tileRegions; ++rx)
+		{
+			for (int ry = -1; ry <= tileRegions; ++ry)
+			{
+				Region region = regionLoader.findRegionForRegionCoordinates(baseRegionX + rx, baseRegionY + ry);
+				if (region == null)
+				{
+					continue;
+				}
+
+				int drawBaseX = rx * Region.X;
+				int drawBaseY = (tileRegions - 1 - ry) * Region.Y;
+				if (rx >= 0 && rx < tileRegions && ry >= 0 && ry < tileRegions)
+				{
+					drawMapIcons(image, drawBaseX, drawBaseY, region, z);
+				}
+				else
+				{
+					drawMapIcons(image, region, z, drawBaseX, drawBaseY);
+				}
+			}
+		}
+
+		return image;
+	}
+
+	/**
+	 * Draw a plane of the map as tiles in parallel, writing each tile to a png as soon as it is drawn.
+	 * Tiles are written to outDir/level/x_y.png, where level 0 is full detail with tileRegions x tileRegions
+	 * regions per tile, and each following level is half the scale of the previous one, built from the
+	 * previous level's files. Tile y increases northward, the same as region y.
+	 *
+	 * @param z plane
+	 * @param tileRegions number of regions per side of a tile
+	 * @param zoomLevels number of zoomed out levels to build after level 0
+	 * @param outDir output directory
+	 * @param executor executor to draw tiles on
+	 * @throws IOException
+	 */
+	public void dumpTiles(int z, int tileRegions, int zoomLevels, File outDir, ExecutorService executor) throws IOException
+	{
+		Set<Long> tiles = new LinkedHashSet<>();
+		for (Region region : regionLoader.getRegions())
+		{
+			tiles.add(tileKey(region.getRegionX() / tileRegions, region.getRegionY() / tileRegions));
+		}
+
+		final File baseDir = new File(outDir, "0");
+		baseDir.mkdirs();
+
+		List<Future<?>> futures = new ArrayList<>(tiles.size());
+		for (long tile : tiles)
+		{
+			int tileX = (int) (tile >> 32);
+			int tileY = (int) tile;
+			futures.add(executor.submit(() ->
+			{
+				BufferedImage image = drawTile(z, tileX, tileY, tileRegions);
+				ImageIO.write(image, "png", new File(baseDir, tileX + "_" + tileY + ".png"));
+				return null;
+			}));
+		}
+		await(futures);
+
+		log.info("Wrote {} tiles for plane {}", tiles.size(), z);
+
+		File levelDir = baseDir;
+		for (int level = 1; level <= zoomLevels; ++level)
+		{
+			final File prevDir = levelDir;
+			levelDir = new File(outDir, Integer.toString(level));
+			levelDir.mkdirs();
+
+			Set<Long> parents = new LinkedHashSet<>();
+			for (long tile : tiles)
+			{
+				parents.add(tileKey((int) (tile >> 32) >> 1, (int) tile >> 1));
+			}
+
+			final File dir = levelDir;
+			futures.clear();
+			for (long tile : parents)
+			{
+				int tileX = (int) (tile >> 32);
+				int tileY = (int) tile;
+				futures.add(executor.submit(() ->
+				{
+					BufferedImage image = downscaleTile(prevDir, tileX, tileY);
+					ImageIO.write(image, "png", new File(dir, tileX + "_" + tileY + ".png"));
+					return null;
+				}));
+			}
+			await(futures);
+
+			log.info("Wrote {} tiles for plane {} zoom level {}", parents.size(), z, level);
+			tiles = parents;
+		}
+	}
+
+	private BufferedImage downscaleTile(File dir, int tileX, int tileY) throws IOException
+	{
+		BufferedImage image = null;
+		Graphics2D graphics = null;
+
+		for (int dx = 0; dx < 2; ++dx)
+		{
+			for (int dy = 0; dy < 2; ++dy)
+			{
+				File file = new File(dir, (tileX * 2 + dx) + "_" + (tileY * 2 + dy) + ".png");
+				if (!file.exists())
+				{
+					continue;
+				}
+
+				BufferedImage child = ImageIO.read(file);
+				int half = child.getWidth() / 2;
+				if (image == null)
+				{
+					image = new BufferedImage(child.getWidth(), child.getHeight(), transparency ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB);
+					graphics = image.createGraphics();
+					graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+				}
+
+				// north is up, so the child tile with the greater y is on top
+				graphics.drawImage(child, dx * half, (1 - dy) * half, half, half, null);
+			}
+		}
+
+		assert image != null;
+		graphics.dispose();
+		return image;
+	}
+
+	private static long tileKey(int tileX, int tileY)
+	{
+		return (long) tileX << 32 | (tileY & 0xFFFFFFFFL);
+	}
+
+	private static void await(List<Future<?>> futures) throws IOException
+	{
+		for (Future<?> future : futures)
+		{
+			Tasks.join(future, "drawing tiles");
+		}
+	}
+
 	private void drawMap(BufferedImage image, int drawBaseX, int drawBaseY, int z, Region region)
 	{
 		if (!renderMap)
@@ -650,32 +873,21 @@ public class MapImageDumper
 		List<List<Location>> layers = Arrays.asList(planeLocs, pushDownLocs);
 		for (int localX = 0; localX < Region.X; localX++)
 		{
-			int regionX = localX + region.getBaseX();
 			for (int localY = 0; localY < Region.Y; localY++)
 			{
-				int regionY = localY + region.getBaseY();
-
 				planeLocs.clear();
 				pushDownLocs.clear();
 				boolean isBridge = (region.getTileSetting(1, localX, localY) & 2) != 0;
 				int tileZ = z + (isBridge ? 1 : 0);
 
-				for (Location loc : region.getLocations())
+				if ((region.getTileSetting(z, localX, localY) & 24) == 0)
 				{
-					Position pos = loc.getPosition();
-					if (pos.getX() != regionX || pos.getY() != regionY)
-					{
-						continue;
-					}
+					planeLocs.addAll(region.getLocations(tileZ, localX, localY));
+				}
 
-					if (pos.getZ() == tileZ && (region.getTileSetting(z, localX, localY) & 24) == 0)
-					{
-						planeLocs.add(loc);
-					}
-					else if (z < 3 && pos.getZ() == tileZ + 1 && (region.getTileSetting(z + 1, localX, localY) & 8) != 0)
-					{
-						pushDownLocs.add(loc);
-					}
+				if (z < 3 && (region.getTileSetting(z + 1, localX, localY) & 8) != 0)
+				{
+					pushDownLocs.addAll(region.getLocations(tileZ + 1, localX, localY));
 				}
 
 				for (List<Location> locs : layers)
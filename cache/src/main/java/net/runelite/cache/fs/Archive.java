@@ -145,6 +145,11 @@ public class Archive
 	public ArchiveFiles getFiles(byte[] data, int[] keys) throws IOException
 	{
 		byte[] decompressedData = decompress(data, keys);
+		if (decompressedData == null)
+		{
+			// unable to decrypt
+			return null;
+		}
 
 		ArchiveFiles files = new ArchiveFiles();
 		for (FileData fileEntry : fileData)
@@ -0,0 +1,72 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.util.Arrays;
+
+/**
+ * A field of a decoded definition which differs between two stores
+ */
+public final class FieldChange
+{
+	private final String name;
+	private final Object from;
+	private final Object to;
+
+	FieldChange(String name, Object from, Object to)
+	{
+		this.name = name;
+		this.from = from;
+		this.to = to;
+	}
+
+	public String getName()
+	{
+		return name;
+	}
+
+	public Object getFrom()
+	{
+		return from;
+	}
+
+	public Object getTo()
+	{
+		return to;
+	}
+
+	@Override
+	public String toString()
+	{
+		return name + ": " + valueOf(from) + " -> " + valueOf(to);
+	}
+
+	private static String valueOf(Object value)
+	{
+		// deepToString formats arrays of primitives too
+		String s = Arrays.deepToString(new Object[]{value});
+		return s.substring(1, s.length() - 1);
+	}
+}
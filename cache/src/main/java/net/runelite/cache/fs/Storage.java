@@ -25,6 +25,7 @@
 package net.runelite.cache.fs;
 
 import java.io.IOException;
+import java.util.concurrent.ForkJoinPool;
 
 public interface Storage extends AutoCloseable
 {
@@ -35,6 +36,19 @@ public interface Storage extends AutoCloseable
 
 	void load(Store store) throws IOException;
 
+	/**
+	 * Load the store, using the given pool for work which can be done in
+	 * parallel. Storages which can't load in parallel load on the calling thread.
+	 *
+	 * @param store
+	 * @param pool
+	 * @throws IOException
+	 */
+	default void load(Store store, ForkJoinPool pool) throws IOException
+	{
+		load(store);
+	}
+
 	void save(Store store) throws IOException;
 
 	byte[] loadArchive(Archive archive) throws IOException;
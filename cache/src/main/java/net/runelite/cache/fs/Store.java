@@ -31,8 +31,12 @@ import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Function;
 import net.runelite.cache.IndexType;
 import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -121,11 +125,110 @@ public final class Store implements Closeable
 		storage.load(this);
 	}
 
+	/**
+	 * Load the store, decoding indexes in parallel on the given pool
+	 * if the storage supports it.
+	 *
+	 * @param pool
+	 * @throws IOException
+	 */
+	public void load(ForkJoinPool pool) throws IOException
+	{
+		storage.load(this, pool);
+	}
+
+	/**
+	 * Decompress all archives of the given index types in parallel.
+	 * The store must already be loaded.
+	 *
+	 * @param pool pool to decompress archives on
+	 * @param decompress index types to decompress
+	 * @return
+	 * @throws IOException
+	 * @see StoreSnapshot
+	 */
+	public StoreSnapshot snapshot(ForkJoinPool pool, Set<IndexType> decompress) throws IOException
+	{
+		return StoreSnapshot.create(this, pool, decompress, archive -> null);
+	}
+
+	/**
+	 * Decompress all archives of the given index types in parallel.
+	 * The store must already be loaded.
+	 *
+	 * @param pool pool to decompress archives on
+	 * @param decompress index types to decompress
+	 * @param keys xtea keys for an archive, or null if it is not encrypted
+	 * @return
+	 * @throws IOException
+	 * @see StoreSnapshot
+	 */
+	public StoreSnapshot snapshot(ForkJoinPool pool, Set<IndexType> decompress, Function<Archive, int[]> keys) throws IOException
+	{
+		return StoreSnapshot.create(this, pool, decompress, keys);
+	}
+
 	public void save() throws IOException
 	{
 		storage.save(this);
 	}
 
+	/**
+	 * Copy the indexes and archives of this store, including the archive contents,
+	 * into another store and save it. This can be used to convert between storages.
+	 *
+	 * @param to store to copy to, which must not have any of this store's indexes
+	 * @throws IOException
+	 */
+	public void copyTo(Store to) throws IOException
+	{
+		for (Index index : indexes)
+		{
+			Index toIndex = to.addIndex(index.getId());
+			toIndex.setProtocol(index.getProtocol());
+			toIndex.setRevision(index.getRevision());
+			toIndex.setCompression(index.getCompression());
+			toIndex.setCrc(index.getCrc());
+			toIndex.setNamed(index.isNamed());
+
+			for (Archive archive : index.getArchives())
+			{
+				Archive toArchive = toIndex.addArchive(archive.getArchiveId());
+				toArchive.setNameHash(archive.getNameHash());
+				toArchive.setCrc(archive.getCrc());
+				toArchive.setRevision(archive.getRevision());
+				toArchive.setCompression(archive.getCompression());
+				toArchive.setFileData(copy(archive.getFileData()));
+				toArchive.setHash(archive.getHash() != null ? archive.getHash().clone() : null);
+
+				byte[] data = storage.loadArchive(archive);
+				if (data != null)
+				{
+					to.getStorage().saveArchive(toArchive, data);
+				}
+			}
+		}
+
+		to.save();
+	}
+
+	private static FileData[] copy(FileData[] fileData)
+	{
+		if (fileData == null)
+		{
+			return null;
+		}
+
+		FileData[] copy = new FileData[fileData.length];
+		for (int i = 0; i < fileData.length; ++i)
+		{
+			copy[i] = new FileData();
+			copy[i].setId(fileData[i].getId());
+			copy[i].setNameHash(fileData[i].getNameHash());
+		}
+		return copy;
+	}
+
 	public List<Index> getIndexes()
 	{
 		return indexes;
@@ -0,0 +1,162 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.util.Collections;
+import java.util.List;
+import net.runelite.cache.IndexType;
+
+/**
+ * A single difference between two stores, reported by {@link StoreDiff}
+ */
+public final class StoreChange
+{
+	public enum Type
+	{
+		ADDED,
+		REMOVED,
+		CHANGED
+	}
+
+	public enum Level
+	{
+		INDEX,
+		ARCHIVE,
+		FILE
+	}
+
+	private final Type type;
+	private final Level level;
+	private final int index;
+	private final int archive;
+	private final int file;
+	private final List<FieldChange> fields;
+
+	StoreChange(Type type, Level level, int index, int archive, int file, List<FieldChange> fields)
+	{
+		this.type = type;
+		this.level = level;
+		this.index = index;
+		this.archive = archive;
+		this.file = file;
+		this.fields = fields;
+	}
+
+	static StoreChange index(Type type, int index)
+	{
+		return new StoreChange(type, Level.INDEX, index, -1, -1, Collections.emptyList());
+	}
+
+	static StoreChange archive(Type type, int index, int archive)
+	{
+		return new StoreChange(type, Level.ARCHIVE, index, archive, -1, Collections.emptyList());
+	}
+
+	static StoreChange file(Type type, int index, int archive, int file, List<FieldChange> fields)
+	{
+		return new StoreChange(type, Level.FILE, index, archive, file, fields);
+	}
+
+	public Type getType()
+	{
+		return type;
+	}
+
+	public Level getLevel()
+	{
+		return level;
+	}
+
+	public int getIndex()
+	{
+		return index;
+	}
+
+	/**
+	 * Get the type of the index, or null if it is not a known index
+	 *
+	 * @return
+	 */
+	public IndexType getIndexType()
+	{
+		for (IndexType type : IndexType.values())
+		{
+			if (type.getNumber() == index)
+			{
+				return type;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * @return the archive id, or -1 for index changes
+	 */
+	public int getArchive()
+	{
+		return archive;
+	}
+
+	/**
+	 * @return the file id, or -1 for index and archive changes
+	 */
+	public int getFile()
+	{
+		return file;
+	}
+
+	/**
+	 * Get the changed fields of a changed item, npc, or object definition
+	 *
+	 * @return the changed fields, or an empty list if the file is not a decoded definition
+	 */
+	public List<FieldChange> getFields()
+	{
+		return fields;
+	}
+
+	@Override
+	public String toString()
+	{
+		IndexType indexType = getIndexType();
+		StringBuilder sb = new StringBuilder()
+			.append(type).append(' ')
+			.append(level.name().toLowerCase()).append(' ')
+			.append(indexType != null ? indexType : index);
+		if (archive != -1)
+		{
+			sb.append('/').append(archive);
+		}
+		if (file != -1)
+		{
+			sb.append('/').append(file);
+		}
+		if (!fields.isEmpty())
+		{
+			sb.append(' ').append(fields);
+		}
+		return sb.toString();
+	}
+}
@@ -0,0 +1,352 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.definitions.loaders.ItemLoader;
+import net.runelite.cache.definitions.loaders.NpcLoader;
+import net.runelite.cache.definitions.loaders.ObjectLoader;
+import net.runelite.cache.util.Tasks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Compares two loaded stores. Indexes and archives are compared by crc and revision
+ * first, and only archives whose crc differs are decompressed to compare their files.
+ * Indexes are compared in parallel, but the archives of an index are compared one at
+ * a time, so at most one pair of archives per pool thread is held in memory.
+ * <p>
+ * Changed item, npc, and object definitions are decoded to report which fields changed.
+ */
+public final class StoreDiff
+{
+	private static final Logger logger = LoggerFactory.getLogger(StoreDiff.class);
+
+	private final Store from;
+	private final Store to;
+	private final Function<Archive, int[]> keys;
+	private final StoreChangeListener listener;
+
+	private StoreDiff(Store from, Store to, Function<Archive, int[]> keys, StoreChangeListener listener)
+	{
+		this.from = from;
+		this.to = to;
+		this.keys = keys;
+		this.listener = listener;
+	}
+
+	/**
+	 * Compare two loaded stores
+	 *
+	 * @param from the old store
+	 * @param to the new store
+	 * @param pool pool to compare indexes on
+	 * @param listener listener for the changes
+	 * @throws IOException
+	 */
+	public static void diff(Store from, Store to, ForkJoinPool pool, StoreChangeListener listener) throws IOException
+	{
+		diff(from, to, pool, archive -> null, listener);
+	}
+
+	/**
+	 * Compare two loaded stores
+	 *
+	 * @param from the old store
+	 * @param to the new store
+	 * @param pool pool to compare indexes on
+	 * @param keys xtea keys for an archive, or null if it is not encrypted
+	 * @param listener listener for the changes
+	 * @throws IOException
+	 */
+	public static void diff(Store from, Store to, ForkJoinPool pool, Function<Archive, int[]> keys, StoreChangeListener listener) throws IOException
+	{
+		new StoreDiff(from, to, keys, listener).diff(pool);
+	}
+
+	private void diff(ForkJoinPool pool) throws IOException
+	{
+		TreeSet<Integer> ids = new TreeSet<>();
+		from.getIndexes().forEach(i -> ids.add(i.getId()));
+		to.getIndexes().forEach(i -> ids.add(i.getId()));
+
+		List<ForkJoinTask<Void>> tasks = new ArrayList<>();
+		for (int id : ids)
+		{
+			Index fromIndex = from.findIndex(id);
+			Index toIndex = to.findIndex(id);
+
+			if (fromIndex == null)
+			{
+				emit(StoreChange.index(StoreChange.Type.ADDED, id));
+			}
+			else if (toIndex == null)
+			{
+				emit(StoreChange.index(StoreChange.Type.REMOVED, id));
+			}
+			else
+			{
+				tasks.add(pool.submit(() ->
+				{
+					diffIndex(fromIndex, toIndex);
+					return null;
+				}));
+			}
+		}
+
+		IOException exception = null;
+		for (ForkJoinTask<Void> task : tasks)
+		{
+			try
+			{
+				join(task);
+			}
+			catch (IOException ex)
+			{
+				// wait for the other tasks before throwing, so nothing is reported after this returns
+				if (exception == null)
+				{
+					exception = ex;
+				}
+			}
+		}
+
+		if (exception != null)
+		{
+			throw exception;
+		}
+	}
+
+	private void diffIndex(Index fromIndex, Index toIndex) throws IOException
+	{
+		// the index crc covers the crc and revision of every archive. Stores which
+		// were built in memory rather than loaded don't have one.
+		if (fromIndex.getCrc() != 0
+			&& fromIndex.getCrc() == toIndex.getCrc()
+			&& fromIndex.getRevision() == toIndex.getRevision())
+		{
+			logger.debug("Index {} is unchanged", fromIndex.getId());
+			return;
+		}
+
+		Map<Integer, Archive> fromArchives = byId(fromIndex);
+		Map<Integer, Archive> toArchives = byId(toIndex);
+
+		TreeSet<Integer> ids = new TreeSet<>(fromArchives.keySet());
+		ids.addAll(toArchives.keySet());
+
+		boolean reported = false;
+		for (int id : ids)
+		{
+			Archive fromArchive = fromArchives.get(id);
+			Archive toArchive = toArchives.get(id);
+
+			if (fromArchive != null && toArchive != null
+				&& fromArchive.getCrc() == toArchive.getCrc()
+				&& fromArchive.getRevision() == toArchive.getRevision()
+				&& fromArchive.getNameHash() == toArchive.getNameHash())
+			{
+				continue;
+			}
+
+			if (!reported)
+			{
+				emit(StoreChange.index(StoreChange.Type.CHANGED, fromIndex.getId()));
+				reported = true;
+			}
+
+			if (fromArchive == null)
+			{
+				emit(StoreChange.archive(StoreChange.Type.ADDED, toIndex.getId(), id));
+			}
+			else if (toArchive == null)
+			{
+				emit(StoreChange.archive(StoreChange.Type.REMOVED, fromIndex.getId(), id));
+			}
+			else
+			{
+				emit(StoreChange.archive(StoreChange.Type.CHANGED, fromIndex.getId(), id));
+
+				// an equal crc means the data is equal, the revision alone doesn't change the files
+				if (fromArchive.getCrc() != toArchive.getCrc())
+				{
+					diffArchive(fromArchive, toArchive);
+				}
+			}
+		}
+
+		if (!reported && (fromIndex.getCrc() != toIndex.getCrc() || fromIndex.getRevision() != toIndex.getRevision()))
+		{
+			emit(StoreChange.index(StoreChange.Type.CHANGED, fromIndex.getId()));
+		}
+
+		logger.debug("Compared {} archives of index {}", ids.size(), fromIndex.getId());
+	}
+
+	private void diffArchive(Archive fromArchive, Archive toArchive) throws IOException
+	{
+		ArchiveFiles fromFiles = loadFiles(from, fromArchive);
+		ArchiveFiles toFiles = loadFiles(to, toArchive);
+		if (fromFiles == null || toFiles == null)
+		{
+			logger.debug("Unable to load archive {}/{}, not comparing files",
+				fromArchive.getIndex().getId(), fromArchive.getArchiveId());
+			return;
+		}
+
+		int index = fromArchive.getIndex().getId();
+		int archive = fromArchive.getArchiveId();
+
+		Map<Integer, FSFile> fromById = new TreeMap<>();
+		fromFiles.getFiles().forEach(f -> fromById.put(f.getFileId(), f));
+		Map<Integer, FSFile> toById = new TreeMap<>();
+		toFiles.getFiles().forEach(f -> toById.put(f.getFileId(), f));
+
+		TreeSet<Integer> ids = new TreeSet<>(fromById.keySet());
+		ids.addAll(toById.keySet());
+
+		for (int id : ids)
+		{
+			FSFile fromFile = fromById.get(id);
+			FSFile toFile = toById.get(id);
+
+			if (fromFile == null)
+			{
+				emit(StoreChange.file(StoreChange.Type.ADDED, index, archive, id, Collections.emptyList()));
+			}
+			else if (toFile == null)
+			{
+				emit(StoreChange.file(StoreChange.Type.REMOVED, index, archive, id, Collections.emptyList()));
+			}
+			else if (fromFile.getNameHash() != toFile.getNameHash()
+				|| !Arrays.equals(fromFile.getContents(), toFile.getContents()))
+			{
+				List<FieldChange> fields = diffDefinition(index, archive, id, fromFile.getContents(), toFile.getContents());
+				emit(StoreChange.file(StoreChange.Type.CHANGED, index, archive, id, fields));
+			}
+		}
+	}
+
+	private ArchiveFiles loadFiles(Store store, Archive archive) throws IOException
+	{
+		byte[] data = store.getStorage().loadArchive(archive);
+		if (data == null)
+		{
+			return null;
+		}
+		return archive.getFiles(data, keys.apply(archive));
+	}
+
+	private static List<FieldChange> diffDefinition(int index, int archive, int file, byte[] fromData, byte[] toData)
+	{
+		if (index != IndexType.CONFIGS.getNumber())
+		{
+			return Collections.emptyList();
+		}
+
+		Object fromDef, toDef;
+		if (archive == ConfigType.ITEM.getId())
+		{
+			ItemLoader loader = new ItemLoader();
+			fromDef = loader.load(file, fromData);
+			toDef = loader.load(file, toData);
+		}
+		else if (archive == ConfigType.NPC.getId())
+		{
+			NpcLoader loader = new NpcLoader();
+			fromDef = loader.load(file, fromData);
+			toDef = loader.load(file, toData);
+		}
+		else if (archive == ConfigType.OBJECT.getId())
+		{
+			ObjectLoader loader = new ObjectLoader();
+			fromDef = loader.load(file, fromData);
+			toDef = loader.load(file, toData);
+		}
+		else
+		{
+			return Collections.emptyList();
+		}
+
+		List<FieldChange> changes = new ArrayList<>();
+		for (Field field : fromDef.getClass().getFields())
+		{
+			if (Modifier.isStatic(field.getModifiers()))
+			{
+				continue;
+			}
+
+			try
+			{
+				Object fromValue = field.get(fromDef);
+				Object toValue = field.get(toDef);
+				if (!Objects.deepEquals(fromValue, toValue))
+				{
+					changes.add(new FieldChange(field.getName(), fromValue, toValue));
+				}
+			}
+			catch (IllegalAccessException ex)
+			{
+				throw new IllegalStateException(ex);
+			}
+		}
+		return changes;
+	}
+
+	private synchronized void emit(StoreChange change)
+	{
+		listener.onChange(change);
+	}
+
+	private static Map<Integer, Archive> byId(Index index)
+	{
+		Map<Integer, Archive> archives = new TreeMap<>();
+		for (Archive archive : index.getArchives())
+		{
+			archives.put(archive.getArchiveId(), archive);
+		}
+		return archives;
+	}
+
+	private static <T> T join(ForkJoinTask<T> task) throws IOException
+	{
+		return Tasks.join(task, "comparing stores");
+	}
+}
@@ -0,0 +1,192 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableMap;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.function.Function;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.util.Tasks;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * The indexes of a loaded {@link Store} along with the decompressed files of
+ * the archives of some of its indexes. The index list and the archive file
+ * maps are captured when the snapshot is created and don't change afterward;
+ * the {@link ArchiveFiles} within must not be modified by callers.
+ */
+public final class StoreSnapshot
+{
+	private static final Logger logger = LoggerFactory.getLogger(StoreSnapshot.class);
+
+	private final Store store;
+	private final List<Index> indexes;
+	private final Map<Integer, Map<Integer, ArchiveFiles>> files;
+
+	private StoreSnapshot(Store store, List<Index> indexes, Map<Integer, Map<Integer, ArchiveFiles>> files)
+	{
+		this.store = store;
+		this.indexes = indexes;
+		this.files = files;
+	}
+
+	static StoreSnapshot create(Store store, ForkJoinPool pool, Set<IndexType> decompress, Function<Archive, int[]> keys) throws IOException
+	{
+		final Storage storage = store.getStorage();
+		final List<Index> indexes = ImmutableList.copyOf(store.getIndexes());
+		final List<Index> toDecompress = new ArrayList<>();
+		final List<List<ForkJoinTask<ArchiveFiles>>> tasks = new ArrayList<>();
+
+		for (IndexType type : decompress)
+		{
+			Index index = store.getIndex(type);
+			if (index == null)
+			{
+				logger.debug("No index {} to decompress", type);
+				continue;
+			}
+
+			List<ForkJoinTask<ArchiveFiles>> indexTasks = new ArrayList<>(index.getArchives().size());
+			for (Archive archive : index.getArchives())
+			{
+				indexTasks.add(pool.submit(() ->
+				{
+					byte[] data = storage.loadArchive(archive);
+					if (data == null)
+					{
+						return null;
+					}
+					return archive.getFiles(data, keys.apply(archive));
+				}));
+			}
+
+			toDecompress.add(index);
+			tasks.add(indexTasks);
+		}
+
+		ImmutableMap.Builder<Integer, Map<Integer, ArchiveFiles>> files = ImmutableMap.builder();
+		for (int i = 0; i < toDecompress.size(); ++i)
+		{
+			Index index = toDecompress.get(i);
+			List<ForkJoinTask<ArchiveFiles>> indexTasks = tasks.get(i);
+
+			ImmutableMap.Builder<Integer, ArchiveFiles> archiveFiles = ImmutableMap.builder();
+			for (int j = 0; j < indexTasks.size(); ++j)
+			{
+				ArchiveFiles result = join(indexTasks.get(j));
+				if (result != null)
+				{
+					archiveFiles.put(index.getArchives().get(j).getArchiveId(), result);
+				}
+			}
+
+			files.put(index.getId(), archiveFiles.build());
+		}
+
+		return new StoreSnapshot(store, indexes, files.build());
+	}
+
+	private static <T> T join(ForkJoinTask<T> task) throws IOException
+	{
+		return Tasks.join(task, "decompressing archives");
+	}
+
+	public Store getStore()
+	{
+		return store;
+	}
+
+	public List<Index> getIndexes()
+	{
+		return indexes;
+	}
+
+	public Index getIndex(IndexType type)
+	{
+		return findIndex(type.getNumber());
+	}
+
+	public Index findIndex(int id)
+	{
+		for (Index i : indexes)
+		{
+			if (i.getId() == id)
+			{
+				return i;
+			}
+		}
+		return null;
+	}
+
+	/**
+	 * Whether the archives of the given index were decompressed into this snapshot
+	 *
+	 * @param type
+	 * @return
+	 */
+	public boolean isDecompressed(IndexType type)
+	{
+		return files.containsKey(type.getNumber());
+	}
+
+	/**
+	 * Get the decompressed files of an archive
+	 *
+	 * @param type
+	 * @param archiveId
+	 * @return the archive files, or null if the index wasn't decompressed or the archive has no data
+	 */
+	public ArchiveFiles getFiles(IndexType type, int archiveId)
+	{
+		Map<Integer, ArchiveFiles> archives = files.get(type.getNumber());
+		return archives != null ? archives.get(archiveId) : null;
+	}
+
+	public ArchiveFiles getFiles(Archive archive)
+	{
+		Map<Integer, ArchiveFiles> archives = files.get(archive.getIndex().getId());
+		return archives != null ? archives.get(archive.getArchiveId()) : null;
+	}
+
+	/**
+	 * Get all of the decompressed archives of an index, keyed by archive id
+	 *
+	 * @param type
+	 * @return the archive files, or an empty map if the index wasn't decompressed
+	 */
+	public Map<Integer, ArchiveFiles> getArchiveFiles(IndexType type)
+	{
+		Map<Integer, ArchiveFiles> archives = files.get(type.getNumber());
+		return archives != null ? archives : ImmutableMap.of();
+	}
+}
@@ -30,6 +30,8 @@ import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
 import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -38,25 +40,89 @@ public class DataFile implements Closeable
 	private static final Logger logger = LoggerFactory.getLogger(DataFile.class);
 
 	private static final int SECTOR_SIZE = 520;
+	/**
+	 * number of sectors per mapped region. regions are sector aligned so a
+	 * sector never straddles two mappings, and each stays below 2GB
+	 */
+	private static final int SECTORS_PER_MAPPING = 1 << 21;
 
 	private final RandomAccessFile dat;
+	private final MappedByteBuffer[] mappings;
+	private final long mappedLength;
 
 	public DataFile(File file) throws FileNotFoundException
 	{
 		this.dat = new RandomAccessFile(file, "rw");
+		this.mappings = null;
+		this.mappedLength = 0L;
+	}
+
+	/**
+	 * Open a data file. When read only, the file is memory mapped and
+	 * {@link #read(int, int, int, int)} does not lock, allowing concurrent
+	 * reads from any number of threads. Writes to a read only data file fail.
+	 *
+	 * @param file
+	 * @param readOnly
+	 * @throws IOException
+	 */
+	public DataFile(File file, boolean readOnly) throws IOException
+	{
+		if (!readOnly)
+		{
+			this.dat = new RandomAccessFile(file, "rw");
+			this.mappings = null;
+			this.mappedLength = 0L;
+			return;
+		}
+
+		this.dat = null;
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+			FileChannel channel = raf.getChannel())
+		{
+			long length = channel.size();
+			long mappingSize = (long) SECTORS_PER_MAPPING * SECTOR_SIZE;
+			int count = (int) ((length + mappingSize - 1) / mappingSize);
+
+			this.mappings = new MappedByteBuffer[count];
+			for (int i = 0; i < count; ++i)
+			{
+				long position = i * mappingSize;
+				mappings[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(mappingSize, length - position));
+			}
+			this.mappedLength = length;
+		}
+	}
+
+	public boolean isReadOnly()
+	{
+		return mappings != null;
 	}
 
 	@Override
 	public void close() throws IOException
 	{
-		dat.close();
+		if (dat != null)
+		{
+			dat.close();
+		}
 	}
 
 	public void clear() throws IOException
 	{
+		checkWritable();
 		dat.setLength(0L);
 	}
 
+	private void checkWritable() throws IOException
+	{
+		if (mappings != null)
+		{
+			throw new IOException("data file is read only");
+		}
+	}
+
 	/**
 	 *
 	 * @param indexId expected index of archive of contents being read
@@ -66,7 +132,20 @@ public class DataFile implements Closeable
 	 * @return
 	 * @throws IOException
 	 */
-	public synchronized byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	public byte[] read(int indexId, int archiveId, int sector, int size) throws IOException
+	{
+		if (mappings != null)
+		{
+			return readMapped(indexId, archiveId, sector, size);
+		}
+
+		synchronized (this)
+		{
+			return readFile(indexId, archiveId, sector, size);
+		}
+	}
+
+	private byte[] readFile(int indexId, int archiveId, int sector, int size) throws IOException
 	{
 		if (sector <= 0L || dat.length() / SECTOR_SIZE < (long) sector)
 		{
@@ -169,8 +248,91 @@ public class DataFile implements Closeable
 		return buffer.array();
 	}
 
+	private byte[] readMapped(int indexId, int archiveId, int sector, int size)
+	{
+		final long sectorCount = mappedLength / SECTOR_SIZE;
+		if (sector <= 0L || sectorCount < (long) sector)
+		{
+			logger.warn("bad read, dat length {}, requested sector {}", mappedLength, sector);
+			return null;
+		}
+
+		final int headerSize = archiveId > 0xFFFF ? 10 : 8;
+		final byte[] data = new byte[size];
+
+		for (int part = 0, readBytesCount = 0, nextSector;
+			size > readBytesCount;
+			sector = nextSector)
+		{
+			if (sector == 0)
+			{
+				logger.warn("Unexpected end of file");
+				return null;
+			}
+
+			int dataBlockSize = Math.min(size - readBytesCount, SECTOR_SIZE - headerSize);
+			if ((long) sector * SECTOR_SIZE + headerSize + dataBlockSize > mappedLength)
+			{
+				logger.warn("Short read when reading file data for {}/{}", indexId, archiveId);
+				return null;
+			}
+
+			// absolute gets do not modify the shared buffer, so no locking is required
+			ByteBuffer mapping = mappings[sector / SECTORS_PER_MAPPING];
+			int offset = (sector % SECTORS_PER_MAPPING) * SECTOR_SIZE;
+
+			int currentIndex;
+			int currentPart;
+			int currentArchive;
+			if (headerSize == 10)
+			{
+				currentArchive = mapping.getInt(offset);
+				currentPart = mapping.getShort(offset + 4) & 0xFFFF;
+				nextSector = ((mapping.get(offset + 6) & 0xFF) << 16)
+					| ((mapping.get(offset + 7) & 0xFF) << 8)
+					| (mapping.get(offset + 8) & 0xFF);
+				currentIndex = mapping.get(offset + 9) & 0xFF;
+			}
+			else
+			{
+				currentArchive = mapping.getShort(offset) & 0xFFFF;
+				currentPart = mapping.getShort(offset + 2) & 0xFFFF;
+				nextSector = ((mapping.get(offset + 4) & 0xFF) << 16)
+					| ((mapping.get(offset + 5) & 0xFF) << 8)
+					| (mapping.get(offset + 6) & 0xFF);
+				currentIndex = mapping.get(offset + 7) & 0xFF;
+			}
+
+			if (archiveId != currentArchive || currentPart != part || indexId != currentIndex)
+			{
+				logger.warn("data mismatch {} != {}, {} != {}, {} != {}",
+					archiveId, currentArchive,
+					part, currentPart,
+					indexId, currentIndex);
+				return null;
+			}
+
+			if (nextSector < 0 || sectorCount < (long) nextSector)
+			{
+				logger.warn("Invalid next sector");
+				return null;
+			}
+
+			ByteBuffer view = mapping.duplicate();
+			view.position(offset + headerSize);
+			view.get(data, readBytesCount, dataBlockSize);
+			readBytesCount += dataBlockSize;
+
+			++part;
+		}
+
+		return data;
+	}
+
 	public synchronized DataFileWriteResult write(int indexId, int archiveId, byte[] compressedData) throws IOException
 	{
+		checkWritable();
+
 		int sector;
 		int startSector;
 
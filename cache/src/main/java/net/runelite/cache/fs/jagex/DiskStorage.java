@@ -26,10 +26,12 @@ package net.runelite.cache.fs.jagex;
 
 import com.google.common.primitives.Ints;
 import java.io.File;
-import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
 import net.runelite.cache.fs.Index;
@@ -38,6 +40,7 @@ import net.runelite.cache.fs.Store;
 import net.runelite.cache.index.ArchiveData;
 import net.runelite.cache.index.IndexData;
 import net.runelite.cache.util.Crc32;
+import net.runelite.cache.util.Tasks;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -49,17 +52,38 @@ public class DiskStorage implements Storage
 	private static final String MAIN_FILE_CACHE_IDX = "main_file_cache.idx";
 
 	private final File folder;
+	private final boolean readOnly;
 
 	private final DataFile data;
 	private final IndexFile index255;
-	private final List<IndexFile> indexFiles = new ArrayList<>();
+	private final List<IndexFile> indexFiles = new CopyOnWriteArrayList<>();
 
 	public DiskStorage(File folder) throws IOException
+	{
+		this(folder, false);
+	}
+
+	/**
+	 * Open a disk cache. A read only storage memory maps the data and index
+	 * files, and {@link #loadArchive(Archive)} may then be called concurrently
+	 * from multiple threads without contending on a lock.
+	 *
+	 * @param folder cache folder
+	 * @param readOnly whether to open the cache read only
+	 * @throws IOException
+	 */
+	public DiskStorage(File folder, boolean readOnly) throws IOException
 	{
 		this.folder = folder;
+		this.readOnly = readOnly;
 
-		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT));
-		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"));
+		this.data = new DataFile(new File(folder, MAIN_FILE_CACHE_DAT), readOnly);
+		this.index255 = new IndexFile(255, new File(folder, MAIN_FILE_CACHE_IDX + "255"), readOnly);
+	}
+
+	public boolean isReadOnly()
+	{
+		return readOnly;
 	}
 
 	@Override
@@ -85,7 +109,27 @@ public class DiskStorage implements Storage
 		}
 	}
 
-	private IndexFile getIndex(int i) throws FileNotFoundException
+	private IndexFile getIndex(int i) throws IOException
+	{
+		IndexFile indexFile = findIndexFile(i);
+		if (indexFile != null)
+		{
+			return indexFile;
+		}
+
+		synchronized (indexFiles)
+		{
+			indexFile = findIndexFile(i);
+			if (indexFile == null)
+			{
+				indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i), readOnly);
+				indexFiles.add(indexFile);
+			}
+			return indexFile;
+		}
+	}
+
+	private IndexFile findIndexFile(int i)
 	{
 		for (IndexFile indexFile : indexFiles)
 		{
@@ -94,10 +138,7 @@ public class DiskStorage implements Storage
 				return indexFile;
 			}
 		}
-
-		IndexFile indexFile = new IndexFile(i, new File(folder, MAIN_FILE_CACHE_IDX + i));
-		indexFiles.add(indexFile);
-		return indexFile;
+		return null;
 	}
 
 	@Override
@@ -109,6 +150,26 @@ public class DiskStorage implements Storage
 		}
 	}
 
+	@Override
+	public void load(Store store, ForkJoinPool pool) throws IOException
+	{
+		// each index is decoded into its own Index, so indexes can be loaded independently
+		List<ForkJoinTask<?>> tasks = new ArrayList<>();
+		for (Index index : store.getIndexes())
+		{
+			tasks.add(pool.submit(() ->
+			{
+				loadIndex(index);
+				return null;
+			}));
+		}
+
+		for (ForkJoinTask<?> task : tasks)
+		{
+			Tasks.join(task, "loading indexes");
+		}
+	}
+
 	public byte[] readIndex(int indexId) throws IOException
 	{
 		IndexEntry entry = index255.read(indexId);
@@ -29,6 +29,8 @@ import java.io.File;
 import java.io.FileNotFoundException;
 import java.io.IOException;
 import java.io.RandomAccessFile;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
 import java.util.Objects;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -42,6 +44,7 @@ public class IndexFile implements Closeable
 	private final int indexFileId;
 	private final File file;
 	private final RandomAccessFile idx;
+	private final MappedByteBuffer mapping;
 	private final byte[] buffer = new byte[INDEX_ENTRY_LEN];
 
 	public IndexFile(int indexFileId, File file) throws FileNotFoundException
@@ -49,19 +52,61 @@ public class IndexFile implements Closeable
 		this.indexFileId = indexFileId;
 		this.file = file;
 		this.idx = new RandomAccessFile(file, "rw");
+		this.mapping = null;
+	}
+
+	/**
+	 * Open an index file. When read only, the file is memory mapped and
+	 * {@link #read(int)} does not lock. Writes to a read only index fail.
+	 *
+	 * @param indexFileId
+	 * @param file
+	 * @param readOnly
+	 * @throws IOException
+	 */
+	public IndexFile(int indexFileId, File file, boolean readOnly) throws IOException
+	{
+		this.indexFileId = indexFileId;
+		this.file = file;
+
+		if (!readOnly)
+		{
+			this.idx = new RandomAccessFile(file, "rw");
+			this.mapping = null;
+			return;
+		}
+
+		this.idx = null;
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+			FileChannel channel = raf.getChannel())
+		{
+			this.mapping = channel.map(FileChannel.MapMode.READ_ONLY, 0L, channel.size());
+		}
 	}
 
 	@Override
 	public void close() throws IOException
 	{
-		idx.close();
+		if (idx != null)
+		{
+			idx.close();
+		}
 	}
 
 	public void clear() throws IOException
 	{
+		checkWritable();
 		idx.setLength(0L);
 	}
 
+	private void checkWritable() throws IOException
+	{
+		if (mapping != null)
+		{
+			throw new IOException("index file " + indexFileId + " is read only");
+		}
+	}
+
 	@Override
 	public int hashCode()
 	{
@@ -96,6 +141,8 @@ public class IndexFile implements Closeable
 
 	public synchronized void write(IndexEntry entry) throws IOException
 	{
+		checkWritable();
+
 		idx.seek(entry.getId() * INDEX_ENTRY_LEN);
 
 		buffer[0] = (byte) (entry.getLength() >> 16);
@@ -109,7 +156,20 @@ public class IndexFile implements Closeable
 		idx.write(buffer);
 	}
 
-	public synchronized IndexEntry read(int id) throws IOException
+	public IndexEntry read(int id) throws IOException
+	{
+		if (mapping != null)
+		{
+			return readMapped(id);
+		}
+
+		synchronized (this)
+		{
+			return readFile(id);
+		}
+	}
+
+	private IndexEntry readFile(int id) throws IOException
 	{
 		idx.seek(id * INDEX_ENTRY_LEN);
 		int i = idx.read(buffer);
@@ -131,8 +191,37 @@ public class IndexFile implements Closeable
 		return new IndexEntry(this, id, sector, length);
 	}
 
-	public synchronized int getIndexCount() throws IOException
+	private IndexEntry readMapped(int id)
 	{
-		return (int) (idx.length() / INDEX_ENTRY_LEN);
+		int offset = id * INDEX_ENTRY_LEN;
+		if (id < 0 || offset + INDEX_ENTRY_LEN > mapping.capacity())
+		{
+			logger.debug("short read for id {} on index {}", id, indexFileId);
+			return null;
+		}
+
+		int length = ((mapping.get(offset) & 0xFF) << 16) | ((mapping.get(offset + 1) & 0xFF) << 8) | (mapping.get(offset + 2) & 0xFF);
+		int sector = ((mapping.get(offset + 3) & 0xFF) << 16) | ((mapping.get(offset + 4) & 0xFF) << 8) | (mapping.get(offset + 5) & 0xFF);
+
+		if (length <= 0 || sector <= 0)
+		{
+			logger.debug("invalid length or sector {}/{}", length, sector);
+			return null;
+		}
+
+		return new IndexEntry(this, id, sector, length);
+	}
+
+	public int getIndexCount() throws IOException
+	{
+		if (mapping != null)
+		{
+			return mapping.capacity() / INDEX_ENTRY_LEN;
+		}
+
+		synchronized (this)
+		{
+			return (int) (idx.length() / INDEX_ENTRY_LEN);
+		}
 	}
 }
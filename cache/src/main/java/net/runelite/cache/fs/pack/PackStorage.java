@@ -0,0 +1,650 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.pack;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.Files;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Storage;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.index.FileData;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * Storage in a single binary file, which is memory mapped when opened. The file
+ * starts with fixed width index, archive, and file tables, followed by the archive
+ * contents. Contents which don't fit in the rest of the current page start on a
+ * new page, so reading an archive touches as few pages as possible.
+ * <p>
+ * Loading the store only reads the tables. Archive contents are read from the
+ * mapping by {@link #loadArchive(Archive)}, which may be called concurrently.
+ * Archives saved with {@link #saveArchive(Archive, byte[])} are kept in memory
+ * until the store is saved, which writes a new generation of the file, named with
+ * a numeric suffix. A mapped file can't be unmapped, and on some platforms can't be
+ * replaced while it is mapped, so the new generation is mapped alongside the old
+ * one, and older generations are deleted once they can be.
+ * <p>
+ * Unlike {@link net.runelite.cache.fs.flat.FlatStorage} this format is not meant
+ * to be diffed, but it keeps all of the same information, so caches can be
+ * converted between the two without loss.
+ */
+public class PackStorage implements Storage
+{
+	private static final Logger logger = LoggerFactory.getLogger(PackStorage.class);
+
+	private static final int MAGIC = 0x524c504b; // RLPK
+	private static final int VERSION = 1;
+
+	static final int PAGE_SIZE = 4096;
+	/**
+	 * size of each mapped region. regions are page aligned, and each stays below 2GB
+	 */
+	private static final long MAPPING_SIZE = 1L << 30;
+
+	// magic, version, index count, archive count, file count
+	private static final int HEADER_SIZE = 20;
+	// id, protocol, revision, compression, crc, named, first archive, archive count
+	private static final int INDEX_ENTRY_SIZE = 32;
+	// id, name hash, crc, revision, compression, first file, file count, flags,
+	// contents offset, contents length, reserved, sha256 hash
+	private static final int ARCHIVE_ENTRY_SIZE = 80;
+	// id, name hash
+	private static final int FILE_ENTRY_SIZE = 8;
+	private static final int HASH_SIZE = 32;
+
+	private static final int FLAG_HASH = 1;
+
+	@FunctionalInterface
+	private interface ContentsLoader
+	{
+		byte[] load(Archive archive) throws IOException;
+	}
+
+	private final File file;
+	private final Map<Long, byte[]> saved = new ConcurrentHashMap<>();
+
+	/**
+	 * the mapped file, which is replaced as a whole when the store is saved
+	 */
+	private volatile Mapping mapping;
+
+	public PackStorage(File file)
+	{
+		this.file = file;
+	}
+
+	@Override
+	public void init(Store store) throws IOException
+	{
+		int generation = findGeneration(file);
+		if (generation == -1)
+		{
+			return;
+		}
+
+		Mapping mapping = this.mapping = map(generationFile(file, generation), generation);
+		deleteGenerations(file, generation);
+
+		for (int i = 0; i < mapping.indexCount; ++i)
+		{
+			store.addIndex(mapping.tables().getInt(mapping.indexEntry(i)));
+		}
+	}
+
+	@Override
+	public void close() throws IOException
+	{
+		// mappings are released once they are unreachable
+		mapping = null;
+	}
+
+	@Override
+	public void load(Store store) throws IOException
+	{
+		Mapping mapping = this.mapping;
+		if (mapping == null)
+		{
+			return;
+		}
+
+		ByteBuffer tables = mapping.tables();
+		for (int i = 0; i < mapping.indexCount; ++i)
+		{
+			int pos = mapping.indexEntry(i);
+			Index index = store.findIndex(tables.getInt(pos));
+			index.setProtocol(tables.getInt(pos + 4));
+			index.setRevision(tables.getInt(pos + 8));
+			index.setCompression(tables.getInt(pos + 12));
+			index.setCrc(tables.getInt(pos + 16));
+			index.setNamed(tables.getInt(pos + 20) != 0);
+
+			int firstArchive = tables.getInt(pos + 24);
+			int archives = tables.getInt(pos + 28);
+			for (int j = firstArchive; j < firstArchive + archives; ++j)
+			{
+				loadArchiveEntry(mapping, index, mapping.archiveEntry(j));
+			}
+		}
+	}
+
+	private static void loadArchiveEntry(Mapping mapping, Index index, int pos)
+	{
+		ByteBuffer tables = mapping.tables();
+		Archive archive = index.addArchive(tables.getInt(pos));
+		archive.setNameHash(tables.getInt(pos + 4));
+		archive.setCrc(tables.getInt(pos + 8));
+		archive.setRevision(tables.getInt(pos + 12));
+		archive.setCompression(tables.getInt(pos + 16));
+
+		int firstFile = tables.getInt(pos + 20);
+		int files = tables.getInt(pos + 24);
+		if (files >= 0)
+		{
+			FileData[] fileData = new FileData[files];
+			for (int k = 0; k < files; ++k)
+			{
+				int filePos = mapping.fileEntry(firstFile + k);
+				FileData fd = fileData[k] = new FileData();
+				fd.setId(tables.getInt(filePos));
+				fd.setNameHash(tables.getInt(filePos + 4));
+			}
+			archive.setFileData(fileData);
+		}
+
+		if ((tables.getInt(pos + 28) & FLAG_HASH) != 0)
+		{
+			byte[] hash = new byte[HASH_SIZE];
+			ByteBuffer view = tables.duplicate();
+			view.position(pos + 48);
+			view.get(hash);
+			archive.setHash(hash);
+		}
+	}
+
+	@Override
+	public void save(Store store) throws IOException
+	{
+		// archives saved while this is writing are kept for the next save
+		Map<Long, byte[]> written = new HashMap<>(saved);
+
+		Mapping current = mapping;
+		int generation = (current != null ? current.generation : findGeneration(file)) + 1;
+		File target = generationFile(file, generation);
+		File tmp = new File(target.getPath() + ".tmp");
+		write(store, tmp, this::loadArchive);
+
+		try
+		{
+			Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		}
+		catch (AtomicMoveNotSupportedException ex)
+		{
+			logger.debug("atomic move not supported", ex);
+			Files.move(tmp.toPath(), target.toPath(), StandardCopyOption.REPLACE_EXISTING);
+		}
+
+		// the old mapping stays readable until the new file is mapped, so loads never miss
+		mapping = map(target, generation);
+
+		for (Map.Entry<Long, byte[]> entry : written.entrySet())
+		{
+			saved.remove(entry.getKey(), entry.getValue());
+		}
+
+		deleteGenerations(file, generation);
+	}
+
+	/**
+	 * Write a loaded store to a pack file. The archive contents are read from
+	 * the store's storage one at a time, so any store can be converted.
+	 *
+	 * @param store the store
+	 * @param file file to write
+	 * @throws IOException if the file can't be written, or an older generation of it can't be deleted
+	 */
+	public static void write(Store store, File file) throws IOException
+	{
+		write(store, file, store.getStorage()::loadArchive);
+
+		// later generations would be opened instead of the file
+		if (!deleteGenerations(file, 0))
+		{
+			throw new IOException("unable to delete older generations of " + file);
+		}
+	}
+
+	private static void write(Store store, File file, ContentsLoader loader) throws IOException
+	{
+		List<Index> indexes = new ArrayList<>(store.getIndexes());
+		indexes.sort(Comparator.comparingInt(Index::getId));
+
+		int archiveCount = 0;
+		int fileCount = 0;
+		for (Index index : indexes)
+		{
+			for (Archive archive : index.getArchives())
+			{
+				++archiveCount;
+				if (archive.getFileData() != null)
+				{
+					fileCount += archive.getFileData().length;
+				}
+			}
+		}
+
+		int tablesSize = HEADER_SIZE
+			+ indexes.size() * INDEX_ENTRY_SIZE
+			+ archiveCount * ARCHIVE_ENTRY_SIZE
+			+ fileCount * FILE_ENTRY_SIZE;
+		ByteBuffer tables = ByteBuffer.allocate(tablesSize);
+		tables.putInt(MAGIC);
+		tables.putInt(VERSION);
+		tables.putInt(indexes.size());
+		tables.putInt(archiveCount);
+		tables.putInt(fileCount);
+
+		try (FileChannel channel = FileChannel.open(file.toPath(),
+			StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING))
+		{
+			int archivePos = HEADER_SIZE + indexes.size() * INDEX_ENTRY_SIZE;
+			int filePos = archivePos + archiveCount * ARCHIVE_ENTRY_SIZE;
+			int archiveNum = 0;
+			int fileNum = 0;
+			long position = align(tablesSize);
+
+			for (Index index : indexes)
+			{
+				List<Archive> archives = new ArrayList<>(index.getArchives());
+				archives.sort(Comparator.comparingInt(Archive::getArchiveId));
+
+				tables.putInt(index.getId());
+				tables.putInt(index.getProtocol());
+				tables.putInt(index.getRevision());
+				tables.putInt(index.getCompression());
+				tables.putInt(index.getCrc());
+				tables.putInt(index.isNamed() ? 1 : 0);
+				tables.putInt(archiveNum);
+				tables.putInt(archives.size());
+
+				for (Archive archive : archives)
+				{
+					FileData[] fileData = archive.getFileData();
+					byte[] hash = archive.getHash();
+					if (hash != null && hash.length != HASH_SIZE)
+					{
+						throw new IOException("Archive " + index.getId() + "/" + archive.getArchiveId() + " hash is not a sha256");
+					}
+
+					long offset = 0L;
+					int length = -1;
+					byte[] contents = loader.load(archive);
+					if (contents != null)
+					{
+						// start on a new page if the contents would otherwise cross into it
+						if (position % PAGE_SIZE != 0 && contents.length > PAGE_SIZE - position % PAGE_SIZE)
+						{
+							position = align(position);
+						}
+
+						offset = position;
+						length = contents.length;
+						ByteBuffer buf = ByteBuffer.wrap(contents);
+						while (buf.hasRemaining())
+						{
+							position += channel.write(buf, position);
+						}
+					}
+
+					int pos = archivePos + archiveNum * ARCHIVE_ENTRY_SIZE;
+					tables.putInt(pos, archive.getArchiveId());
+					tables.putInt(pos + 4, archive.getNameHash());
+					tables.putInt(pos + 8, archive.getCrc());
+					tables.putInt(pos + 12, archive.getRevision());
+					tables.putInt(pos + 16, archive.getCompression());
+					tables.putInt(pos + 20, fileNum);
+					tables.putInt(pos + 24, fileData != null ? fileData.length : -1);
+					tables.putInt(pos + 28, hash != null ? FLAG_HASH : 0);
+					tables.putLong(pos + 32, offset);
+					tables.putInt(pos + 40, length);
+					if (hash != null)
+					{
+						for (int i = 0; i < HASH_SIZE; ++i)
+						{
+							tables.put(pos + 48 + i, hash[i]);
+						}
+					}
+					++archiveNum;
+
+					if (fileData != null)
+					{
+						for (FileData fd : fileData)
+						{
+							tables.putInt(filePos + fileNum * FILE_ENTRY_SIZE, fd.getId());
+							tables.putInt(filePos + fileNum * FILE_ENTRY_SIZE + 4, fd.getNameHash());
+							++fileNum;
+						}
+					}
+				}
+			}
+
+			tables.clear();
+			while (tables.hasRemaining())
+			{
+				channel.write(tables, tables.position());
+			}
+
+			logger.debug("Wrote {} indexes and {} archives in {} bytes to {}", indexes.size(), archiveCount, position, file);
+		}
+	}
+
+	@Override
+	public byte[] loadArchive(Archive archive) throws IOException
+	{
+		byte[] data = saved.get(key(archive));
+		if (data != null)
+		{
+			return data;
+		}
+
+		Mapping mapping = this.mapping;
+		if (mapping == null)
+		{
+			return null;
+		}
+
+		int pos = findArchiveEntry(mapping, archive.getIndex().getId(), archive.getArchiveId());
+		if (pos == -1)
+		{
+			return null;
+		}
+
+		ByteBuffer tables = mapping.tables();
+		int length = tables.getInt(pos + 40);
+		if (length < 0)
+		{
+			return null;
+		}
+
+		long offset = tables.getLong(pos + 32);
+		if (offset + length > mapping.length)
+		{
+			throw new IOException("Archive " + archive.getIndex().getId() + "/" + archive.getArchiveId() + " is past the end of the file");
+		}
+
+		data = new byte[length];
+		for (int read = 0; read < length; )
+		{
+			long p = offset + read;
+			// absolute positioning on a duplicate does not modify the shared buffer
+			ByteBuffer view = mapping.buffers[(int) (p / MAPPING_SIZE)].duplicate();
+			view.position((int) (p % MAPPING_SIZE));
+			int n = Math.min(length - read, view.remaining());
+			view.get(data, read, n);
+			read += n;
+		}
+		return data;
+	}
+
+	@Override
+	public void saveArchive(Archive archive, byte[] data) throws IOException
+	{
+		saved.put(key(archive), data);
+	}
+
+	private static int findArchiveEntry(Mapping mapping, int indexId, int archiveId)
+	{
+		ByteBuffer tables = mapping.tables();
+		for (int i = 0; i < mapping.indexCount; ++i)
+		{
+			int pos = mapping.indexEntry(i);
+			if (tables.getInt(pos) != indexId)
+			{
+				continue;
+			}
+
+			// archives are sorted by id within each index
+			int lo = tables.getInt(pos + 24);
+			int hi = lo + tables.getInt(pos + 28) - 1;
+			while (lo <= hi)
+			{
+				int mid = (lo + hi) >>> 1;
+				int id = tables.getInt(mapping.archiveEntry(mid));
+				if (id < archiveId)
+				{
+					lo = mid + 1;
+				}
+				else if (id > archiveId)
+				{
+					hi = mid - 1;
+				}
+				else
+				{
+					return mapping.archiveEntry(mid);
+				}
+			}
+			return -1;
+		}
+		return -1;
+	}
+
+	/**
+	 * Get the file of a generation of the pack, which is the pack file itself for generation 0
+	 */
+	private static File generationFile(File file, int generation)
+	{
+		return generation == 0 ? file : new File(file.getPath() + "." + generation);
+	}
+
+	/**
+	 * Find the newest generation of the pack
+	 *
+	 * @return the generation, or -1 if there is no pack file
+	 */
+	private static int findGeneration(File file)
+	{
+		int generation = file.exists() ? 0 : -1;
+		File[] siblings = file.getAbsoluteFile().getParentFile().listFiles();
+		if (siblings != null)
+		{
+			for (File sibling : siblings)
+			{
+				generation = Math.max(generation, parseGeneration(file, sibling));
+			}
+		}
+		return generation;
+	}
+
+	/**
+	 * @return the generation of the pack the sibling file is, or -1 if it isn't one
+	 */
+	private static int parseGeneration(File file, File sibling)
+	{
+		String prefix = file.getName() + ".";
+		String name = sibling.getName();
+		if (!name.startsWith(prefix) || name.length() == prefix.length() || name.length() > prefix.length() + 9)
+		{
+			return -1;
+		}
+
+		for (int i = prefix.length(); i < name.length(); ++i)
+		{
+			if (name.charAt(i) < '0' || name.charAt(i) > '9')
+			{
+				return -1;
+			}
+		}
+		return Integer.parseInt(name.substring(prefix.length()));
+	}
+
+	/**
+	 * Delete every generation of the pack other than the given one. Generations which
+	 * are still mapped may not be deletable, and are deleted by a later save instead.
+	 *
+	 * @return whether all of the other generations were deleted
+	 */
+	private static boolean deleteGenerations(File file, int keep)
+	{
+		boolean deleted = true;
+		if (keep != 0 && file.exists())
+		{
+			deleted &= delete(file);
+		}
+
+		File[] siblings = file.getAbsoluteFile().getParentFile().listFiles();
+		if (siblings != null)
+		{
+			for (File sibling : siblings)
+			{
+				int generation = parseGeneration(file, sibling);
+				if (generation > 0 && generation != keep)
+				{
+					deleted &= delete(sibling);
+				}
+			}
+		}
+		return deleted;
+	}
+
+	private static boolean delete(File file)
+	{
+		if (!file.delete())
+		{
+			logger.debug("Unable to delete old pack {}", file);
+			return false;
+		}
+		return true;
+	}
+
+	private static Mapping map(File file, int generation) throws IOException
+	{
+		try (RandomAccessFile raf = new RandomAccessFile(file, "r");
+			FileChannel channel = raf.getChannel())
+		{
+			long length = channel.size();
+			if (length < HEADER_SIZE)
+			{
+				throw new IOException("Pack file " + file + " is truncated");
+			}
+
+			int count = (int) ((length + MAPPING_SIZE - 1) / MAPPING_SIZE);
+			MappedByteBuffer[] mappings = new MappedByteBuffer[count];
+			for (int i = 0; i < count; ++i)
+			{
+				long position = i * MAPPING_SIZE;
+				mappings[i] = channel.map(FileChannel.MapMode.READ_ONLY, position, Math.min(MAPPING_SIZE, length - position));
+			}
+
+			ByteBuffer tables = mappings[0];
+			if (tables.getInt(0) != MAGIC)
+			{
+				throw new IOException(file + " is not a pack file");
+			}
+			if (tables.getInt(4) != VERSION)
+			{
+				throw new IOException("Unsupported pack file version " + tables.getInt(4));
+			}
+
+			int indexCount = tables.getInt(8);
+			int archiveCount = tables.getInt(12);
+			int fileCount = tables.getInt(16);
+
+			// the tables are always in the first mapping
+			long tablesSize = HEADER_SIZE
+				+ (long) indexCount * INDEX_ENTRY_SIZE
+				+ (long) archiveCount * ARCHIVE_ENTRY_SIZE
+				+ (long) fileCount * FILE_ENTRY_SIZE;
+			if (tablesSize > tables.capacity())
+			{
+				throw new IOException("Pack file " + file + " is truncated");
+			}
+
+			return new Mapping(mappings, length, indexCount, archiveCount, generation);
+		}
+	}
+
+	private static long align(long position)
+	{
+		return (position + PAGE_SIZE - 1) & ~(long) (PAGE_SIZE - 1);
+	}
+
+	private static long key(Archive archive)
+	{
+		return (long) archive.getIndex().getId() << 32 | archive.getArchiveId();
+	}
+
+	private static final class Mapping
+	{
+		private final MappedByteBuffer[] buffers;
+		private final long length;
+		private final int indexCount;
+		private final int archiveCount;
+		private final int generation;
+
+		private Mapping(MappedByteBuffer[] buffers, long length, int indexCount, int archiveCount, int generation)
+		{
+			this.buffers = buffers;
+			this.length = length;
+			this.indexCount = indexCount;
+			this.archiveCount = archiveCount;
+			this.generation = generation;
+		}
+
+		private ByteBuffer tables()
+		{
+			return buffers[0];
+		}
+
+		private int indexEntry(int i)
+		{
+			return HEADER_SIZE + i * INDEX_ENTRY_SIZE;
+		}
+
+		private int archiveEntry(int i)
+		{
+			return HEADER_SIZE + indexCount * INDEX_ENTRY_SIZE + i * ARCHIVE_ENTRY_SIZE;
+		}
+
+		private int fileEntry(int i)
+		{
+			return HEADER_SIZE + indexCount * INDEX_ENTRY_SIZE + archiveCount * ARCHIVE_ENTRY_SIZE + i * FILE_ENTRY_SIZE;
+		}
+	}
+}
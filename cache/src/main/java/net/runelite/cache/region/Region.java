@@ -25,6 +25,8 @@
 package net.runelite.cache.region;
 
 import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.List;
 import net.runelite.cache.definitions.LocationsDefinition;
 import net.runelite.cache.definitions.MapDefinition;
@@ -49,6 +51,12 @@ public class Region
 	private final byte[][][] underlayIds = new byte[Z][X][Y];
 
 	private final List<Location> locations = new ArrayList<>();
+	/**
+	 * locations grouped by tile, per plane. the locations on tile (x, y) of plane z are
+	 * tileLocations[z][tileLocationOffsets[z][x * Y + y]] until tileLocationOffsets[z][x * Y + y + 1]
+	 */
+	private List<Location>[] tileLocations;
+	private int[][] tileLocationOffsets;
 
 	public Region(int id)
 	{
@@ -125,6 +133,60 @@ public class Region
 					loc.getPosition().getZ()));
 			locations.add(newLoc);
 		}
+
+		indexLocations();
+	}
+
+	@SuppressWarnings("unchecked")
+	private void indexLocations()
+	{
+		int[][] offsets = new int[Z][X * Y + 1];
+		for (Location loc : locations)
+		{
+			int tile = tileIndex(loc.getPosition());
+			if (tile != -1)
+			{
+				++offsets[loc.getPosition().getZ()][tile + 1];
+			}
+		}
+
+		List<Location>[] byTile = new List[Z];
+		for (int z = 0; z < Z; ++z)
+		{
+			int[] planeOffsets = offsets[z];
+			for (int i = 1; i < planeOffsets.length; ++i)
+			{
+				planeOffsets[i] += planeOffsets[i - 1];
+			}
+
+			// counting sort by tile keeps locations in their original order within a tile
+			Location[] sorted = new Location[planeOffsets[X * Y]];
+			int[] next = Arrays.copyOf(planeOffsets, X * Y);
+			for (Location loc : locations)
+			{
+				int tile = tileIndex(loc.getPosition());
+				if (tile != -1 && loc.getPosition().getZ() == z)
+				{
+					sorted[next[tile]++] = loc;
+				}
+			}
+			byTile[z] = Collections.unmodifiableList(Arrays.asList(sorted));
+		}
+
+		tileLocations = byTile;
+		tileLocationOffsets = offsets;
+	}
+
+	private int tileIndex(Position position)
+	{
+		int x = position.getX() - baseX;
+		int y = position.getY() - baseY;
+		int z = position.getZ();
+		if (x < 0 || x >= X || y < 0 || y >= Y || z < 0 || z >= Z)
+		{
+			return -1;
+		}
+		return x * Y + y;
 	}
 
 	public int getRegionID()
@@ -177,6 +239,31 @@ public class Region
 		return locations;
 	}
 
+	/**
+	 * Get the locations on a tile of this region, in the order they were loaded
+	 *
+	 * @param z plane
+	 * @param x local x
+	 * @param y local y
+	 * @return
+	 */
+	public List<Location> getLocations(int z, int x, int y)
+	{
+		if (tileLocations == null || z < 0 || z >= Z)
+		{
+			return Collections.emptyList();
+		}
+
+		int tile = x * Y + y;
+		int start = tileLocationOffsets[z][tile];
+		int end = tileLocationOffsets[z][tile + 1];
+		if (start == end)
+		{
+			return Collections.emptyList();
+		}
+		return tileLocations[z].subList(start, end);
+	}
+
 	public int getRegionX()
 	{
 		return baseX >> 6;
@@ -0,0 +1,157 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache;
+
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.region.Location;
+import net.runelite.cache.region.Position;
+import net.runelite.cache.region.Region;
+import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.util.XteaKeyManager;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Renders the world map with {@link MapImageDumper}, and compares the per-tile
+ * location lookup it used to do (a scan of every location in the region per tile)
+ * against the tile index in {@link Region}.
+ * <p>
+ * Requires the xtea keys for the cache, passed with -Dxteapath=keys.json
+ */
+@State(Scope.Benchmark)
+@Fork(value = 1, jvmArgsAppend = "-Xmx8g")
+@Warmup(iterations = 1)
+@Measurement(iterations = 3)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class MapImageDumperBenchmark
+{
+	private Store store;
+	private RegionLoader regionLoader;
+	private MapImageDumper dumper;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		store = new Store(StoreLocation.LOCATION);
+		store.load();
+
+		XteaKeyManager keyManager = new XteaKeyManager();
+		try (FileInputStream in = new FileInputStream(System.getProperty("xteapath")))
+		{
+			keyManager.loadKeys(in);
+		}
+
+		regionLoader = new RegionLoader(store, keyManager);
+		dumper = new MapImageDumper(store, regionLoader);
+		dumper.load();
+	}
+
+	@TearDown
+	public void tearDown() throws IOException
+	{
+		store.close();
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.SingleShotTime)
+	public void drawAllPlanes(Blackhole bh)
+	{
+		for (int z = 0; z < Region.Z; ++z)
+		{
+			bh.consume(dumper.drawMap(z));
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	public void scanLocations(Blackhole bh)
+	{
+		for (Region region : regionLoader.getRegions())
+		{
+			for (int z = 0; z < Region.Z; ++z)
+			{
+				for (int x = 0; x < Region.X; ++x)
+				{
+					for (int y = 0; y < Region.Y; ++y)
+					{
+						for (Location loc : region.getLocations())
+						{
+							Position pos = loc.getPosition();
+							if (pos.getX() == region.getBaseX() + x && pos.getY() == region.getBaseY() + y && pos.getZ() == z)
+							{
+								bh.consume(loc);
+							}
+						}
+					}
+				}
+			}
+		}
+	}
+
+	@Benchmark
+	@BenchmarkMode(Mode.AverageTime)
+	public void indexedLocations(Blackhole bh)
+	{
+		for (Region region : regionLoader.getRegions())
+		{
+			for (int z = 0; z < Region.Z; ++z)
+			{
+				for (int x = 0; x < Region.X; ++x)
+				{
+					for (int y = 0; y < Region.Y; ++y)
+					{
+						for (Location loc : region.getLocations(z, x, y))
+						{
+							bh.consume(loc);
+						}
+					}
+				}
+			}
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(MapImageDumperBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
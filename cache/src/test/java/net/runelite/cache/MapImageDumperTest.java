@@ -27,11 +27,24 @@ package net.runelite.cache;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
 import javax.imageio.ImageIO;
+import net.runelite.cache.definitions.MapDefinition;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.ArchiveFiles;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.FSFile;
+import net.runelite.cache.fs.Index;
 import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
 import net.runelite.cache.region.Region;
 import net.runelite.cache.region.RegionLoader;
+import net.runelite.cache.util.Djb2;
 import net.runelite.cache.util.XteaKeyManager;
+import org.junit.Assert;
 import org.junit.Ignore;
 import org.junit.Rule;
 import org.junit.Test;
@@ -43,6 +56,14 @@ public class MapImageDumperTest
 {
 	private static final Logger logger = LoggerFactory.getLogger(MapImageDumperTest.class);
 
+	// a 1x1 transparent sprite: pixels, then max size, palette size, and frame offsets and sizes
+	private static final byte[] SINGLE_PIXEL_SPRITE = {
+		0, 0,
+		0, 1, 0, 1, 0,
+		0, 0, 0, 0, 0, 1, 0, 1,
+		0, 1
+	};
+
 	@Rule
 	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
 
@@ -104,4 +125,155 @@ public class MapImageDumperTest
 			}
 		}
 	}
+
+	@Test
+	@Ignore
+	public void dumpTiles() throws IOException
+	{
+		File base = StoreLocation.LOCATION,
+			outDir = folder.newFolder();
+
+		try (Store store = new Store(base))
+		{
+			store.load();
+
+			XteaKeyManager keyManager = new XteaKeyManager();
+			keyManager.loadKeys(null);
+
+			MapImageDumper dumper = new MapImageDumper(store, keyManager);
+			dumper.load();
+
+			ForkJoinPool pool = new ForkJoinPool();
+			try
+			{
+				for (int i = 0; i < Region.Z; ++i)
+				{
+					dumper.dumpTiles(i, 1, 3, new File(outDir, Integer.toString(i)), pool);
+				}
+			}
+			finally
+			{
+				pool.shutdown();
+			}
+
+			logger.info("Wrote tiles to {}", outDir);
+		}
+	}
+
+	@Test
+	public void testDrawTile() throws IOException
+	{
+		try (Store store = new Store(folder.newFolder()))
+		{
+			Index configs = store.addIndex(IndexType.CONFIGS.getNumber());
+			addArchive(store, configs, ConfigType.UNDERLAY.getId(), color(0x3A7D2C), color(0x8C6B3E), color(0x2D5FA0));
+			addArchive(store, configs, ConfigType.OVERLAY.getId(), color(0x6E6E6E));
+			addArchive(store, configs, ConfigType.OBJECT.getId(), new byte[]{0});
+			addArchive(store, configs, ConfigType.AREA.getId(), new byte[]{0});
+
+			Index textures = store.addIndex(IndexType.TEXTURES.getNumber());
+			addArchive(store, textures, 0, new byte[6]);
+
+			Index sprites = store.addIndex(IndexType.SPRITES.getNumber());
+			addArchive(store, sprites, 0, SINGLE_PIXEL_SPRITE).setNameHash(Djb2.hash("mapscene"));
+
+			RegionLoader regionLoader = new RegionLoader(store, null);
+			for (int rx = 50; rx <= 51; ++rx)
+			{
+				for (int ry = 50; ry <= 51; ++ry)
+				{
+					regionLoader.loadRegion(rx << 8 | ry, map(rx, ry), null);
+				}
+			}
+
+			MapImageDumper dumper = new MapImageDumper(store, regionLoader);
+			dumper.setLowMemory(false);
+			dumper.load();
+
+			BufferedImage map = dumper.drawMap(0);
+			int tilePixels = map.getWidth() / 2;
+			Assert.assertEquals(tilePixels, map.getHeight() / 2);
+
+			for (int rx = 50; rx <= 51; ++rx)
+			{
+				for (int ry = 50; ry <= 51; ++ry)
+				{
+					BufferedImage tile = dumper.drawTile(0, rx, ry, 1);
+					Assert.assertEquals(tilePixels, tile.getWidth());
+					Assert.assertEquals(tilePixels, tile.getHeight());
+
+					// north is up, so the northern regions are at the top of the map
+					int[] expected = map.getRGB((rx - 50) * tilePixels, (51 - ry) * tilePixels, tilePixels, tilePixels, null, 0, tilePixels);
+					int[] actual = tile.getRGB(0, 0, tilePixels, tilePixels, null, 0, tilePixels);
+					Assert.assertArrayEquals("tile " + rx + "_" + ry, expected, actual);
+				}
+			}
+		}
+	}
+
+	private static MapDefinition map(int regionX, int regionY)
+	{
+		MapDefinition map = new MapDefinition();
+		map.setRegionX(regionX);
+		map.setRegionY(regionY);
+
+		MapDefinition.Tile[][][] tiles = map.getTiles();
+		for (int z = 0; z < MapDefinition.Z; ++z)
+		{
+			for (int x = 0; x < MapDefinition.X; ++x)
+			{
+				for (int y = 0; y < MapDefinition.Y; ++y)
+				{
+					MapDefinition.Tile tile = tiles[z][x][y] = new MapDefinition.Tile();
+					if (z != 0)
+					{
+						continue;
+					}
+
+					// bands of underlay which cross the region edges, so blending reads neighboring regions
+					int worldX = regionX * MapDefinition.X + x;
+					int worldY = regionY * MapDefinition.Y + y;
+					tile.setUnderlayId((byte) (1 + (worldX / 5 + worldY / 7) % 3));
+
+					// and a road with shaped edges along the region border
+					if (Math.abs(x - 32) < 3)
+					{
+						tile.setOverlayId((byte) 1);
+						tile.setOverlayPath((byte) (x == 30 ? 2 : 0));
+						tile.setOverlayRotation((byte) (y & 3));
+					}
+				}
+			}
+		}
+		return map;
+	}
+
+	private static byte[] color(int rgb)
+	{
+		return new byte[]{1, (byte) (rgb >> 16), (byte) (rgb >> 8), (byte) rgb, 0};
+	}
+
+	private static Archive addArchive(Store store, Index index, int id, byte[]... contents) throws IOException
+	{
+		Archive archive = index.addArchive(id);
+
+		List<FileData> fileData = new ArrayList<>();
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < contents.length; ++i)
+		{
+			FileData data = new FileData();
+			data.setId(i);
+			fileData.add(data);
+
+			FSFile file = new FSFile(i);
+			file.setContents(contents[i]);
+			files.addFile(file);
+		}
+		archive.setFileData(fileData.toArray(new FileData[0]));
+
+		Container container = new Container(CompressionType.NONE, -1);
+		container.compress(files.saveContents(), null);
+		store.getStorage().saveArchive(archive, container.data);
+		return archive;
+	}
 }
@@ -0,0 +1,172 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.stream.Collectors;
+import net.runelite.cache.ConfigType;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.index.FileData;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class StoreDiffTest
+{
+	@Rule
+	public TemporaryFolder folder = StoreLocation.getTemporaryFolder();
+
+	@Test
+	public void testDiff() throws IOException
+	{
+		File fromRoot = folder.newFolder();
+		File toRoot = folder.newFolder();
+
+		try (Store from = new Store(fromRoot);
+			Store to = new Store(toRoot))
+		{
+			for (Store store : new Store[]{from, to})
+			{
+				Index index = store.addIndex(0);
+				for (int i = 0; i < 4; ++i)
+				{
+					addArchive(store, index, i, 1, new byte[]{(byte) i});
+				}
+			}
+
+			Index configs = from.addIndex(IndexType.CONFIGS.getNumber());
+			addArchive(from, configs, ConfigType.ITEM.getId(), 1, item("Bronze axe"), item("Iron axe"), item("Steel axe"));
+			addArchive(from, configs, ConfigType.NPC.getId(), 1, new byte[]{0});
+			configs = to.addIndex(IndexType.CONFIGS.getNumber());
+			addArchive(to, configs, ConfigType.ITEM.getId(), 2, item("Bronze axe"), item("Iron hatchet"), null, item("Mithril axe"));
+			addArchive(to, configs, ConfigType.NPC.getId(), 1, new byte[]{0});
+
+			Index maps = from.addIndex(IndexType.MAPS.getNumber());
+			addArchive(from, maps, 0, 1, new byte[]{0});
+			addArchive(from, maps, 1, 1, new byte[]{1});
+			maps = to.addIndex(IndexType.MAPS.getNumber());
+			addArchive(to, maps, 1, 2, new byte[]{1});
+			addArchive(to, maps, 2, 1, new byte[]{2});
+
+			// disk storage loads every index up to the highest, so models is
+			// loaded as empty from the old store
+			Index models = to.addIndex(IndexType.MODELS.getNumber());
+			addArchive(to, models, 0, 1, new byte[]{0});
+			from.addIndex(IndexType.SPRITES.getNumber());
+
+			from.save();
+			to.save();
+		}
+
+		List<StoreChange> changes = new ArrayList<>();
+		ForkJoinPool pool = new ForkJoinPool(4);
+		try (Store from = new Store(fromRoot);
+			Store to = new Store(toRoot))
+		{
+			from.load();
+			to.load();
+
+			StoreDiff.diff(from, to, pool, changes::add);
+		}
+		finally
+		{
+			pool.shutdown();
+		}
+
+		Assert.assertEquals(0, changesOf(changes, 0).size());
+
+		Assert.assertEquals(
+			"[CHANGED index CONFIGS,"
+				+ " CHANGED archive CONFIGS/10,"
+				+ " CHANGED file CONFIGS/10/1 [name: Iron axe -> Iron hatchet],"
+				+ " REMOVED file CONFIGS/10/2,"
+				+ " ADDED file CONFIGS/10/3]",
+			changesOf(changes, IndexType.CONFIGS.getNumber()).toString());
+
+		Assert.assertEquals(
+			"[CHANGED index MAPS,"
+				+ " REMOVED archive MAPS/0,"
+				+ " CHANGED archive MAPS/1,"
+				+ " ADDED archive MAPS/2]",
+			changesOf(changes, IndexType.MAPS.getNumber()).toString());
+
+		Assert.assertEquals("[CHANGED index MODELS, ADDED archive MODELS/0]", changesOf(changes, IndexType.MODELS.getNumber()).toString());
+		Assert.assertEquals("[REMOVED index SPRITES]", changesOf(changes, IndexType.SPRITES.getNumber()).toString());
+	}
+
+	private static List<StoreChange> changesOf(List<StoreChange> changes, int index)
+	{
+		return changes.stream()
+			.filter(c -> c.getIndex() == index)
+			.collect(Collectors.toList());
+	}
+
+	private static void addArchive(Store store, Index index, int id, int revision, byte[]... contents) throws IOException
+	{
+		Archive archive = index.addArchive(id);
+		archive.setRevision(revision);
+
+		List<FileData> fileData = new ArrayList<>();
+		ArchiveFiles files = new ArchiveFiles();
+		for (int i = 0; i < contents.length; ++i)
+		{
+			if (contents[i] == null)
+			{
+				continue;
+			}
+
+			FileData data = new FileData();
+			data.setId(i);
+			fileData.add(data);
+
+			FSFile file = new FSFile(i);
+			file.setContents(contents[i]);
+			files.addFile(file);
+		}
+		archive.setFileData(fileData.toArray(new FileData[0]));
+
+		Container container = new Container(CompressionType.GZ, -1);
+		container.compress(files.saveContents(), null);
+		store.getStorage().saveArchive(archive, container.data);
+	}
+
+	private static byte[] item(String name)
+	{
+		byte[] nameBytes = name.getBytes(StandardCharsets.ISO_8859_1);
+		byte[] item = new byte[nameBytes.length + 3];
+		item[0] = 2; // name
+		System.arraycopy(nameBytes, 0, item, 1, nameBytes.length);
+		// string terminator and end of definition are both 0
+		return item;
+	}
+}
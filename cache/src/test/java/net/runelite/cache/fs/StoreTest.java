@@ -26,8 +26,13 @@ package net.runelite.cache.fs;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.EnumSet;
 import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import net.runelite.cache.IndexType;
 import net.runelite.cache.StoreLocation;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
 import net.runelite.cache.index.FileData;
 import org.junit.Assert;
 import org.junit.Rule;
@@ -148,4 +153,73 @@ public class StoreTest
 			}
 		}
 	}
+
+	@Test
+	public void testParallelLoadAndSnapshot() throws IOException
+	{
+		File root = folder.newFolder();
+
+		try (Store store = new Store(root))
+		{
+			for (int i = 0; i < 3; ++i)
+			{
+				Index index = store.addIndex(i);
+				for (int j = 0; j < 16; ++j)
+				{
+					Archive archive = index.addArchive(j);
+					archive.setFileData(new FileData[2]);
+
+					ArchiveFiles files = new ArchiveFiles();
+					for (int k = 0; k < 2; ++k)
+					{
+						FileData fileData = archive.getFileData()[k] = new FileData();
+						fileData.setId(k);
+
+						FSFile file = new FSFile(k);
+						file.setContents(contents(i, j, k));
+						files.addFile(file);
+					}
+
+					Container container = new Container(CompressionType.GZ, -1);
+					container.compress(files.saveContents(), null);
+					store.getStorage().saveArchive(archive, container.data);
+				}
+			}
+
+			store.save();
+
+			ForkJoinPool pool = new ForkJoinPool(4);
+			try (Store store2 = new Store(new DiskStorage(root, true)))
+			{
+				store2.load(pool);
+
+				Assert.assertEquals(store, store2);
+
+				StoreSnapshot snapshot = store2.snapshot(pool, EnumSet.of(IndexType.CONFIGS));
+				Assert.assertEquals(3, snapshot.getIndexes().size());
+				Assert.assertTrue(snapshot.isDecompressed(IndexType.CONFIGS));
+				Assert.assertFalse(snapshot.isDecompressed(IndexType.SKELETONS));
+				Assert.assertNull(snapshot.getFiles(IndexType.SKELETONS, 0));
+				Assert.assertEquals(16, snapshot.getArchiveFiles(IndexType.CONFIGS).size());
+
+				for (int j = 0; j < 16; ++j)
+				{
+					ArchiveFiles files = snapshot.getFiles(IndexType.CONFIGS, j);
+					for (int k = 0; k < 2; ++k)
+					{
+						Assert.assertArrayEquals(contents(2, j, k), files.findFile(k).getContents());
+					}
+				}
+			}
+			finally
+			{
+				pool.shutdown();
+			}
+		}
+	}
+
+	private static byte[] contents(int index, int archive, int file)
+	{
+		return ("index " + index + " archive " + archive + " file " + file).getBytes();
+	}
 }
@@ -167,4 +167,54 @@ public class DataFileTest
 		Assert.assertEquals("testtesttesttest1", str);
 		Assert.assertEquals(42, res2.revision);
 	}
+
+	@Test
+	public void testReadOnly() throws IOException
+	{
+		byte[] b = new byte[4096];
+		for (int i = 0; i < b.length; ++i)
+		{
+			b[i] = (byte) i;
+		}
+
+		File file = folder.newFile();
+
+		DataFileWriteResult res, res2;
+		try (DataFile df = new DataFile(file))
+		{
+			Container container = new Container(CompressionType.NONE, 42);
+			container.compress(b, null);
+			res = df.write(42, 3, container.data);
+
+			container = new Container(CompressionType.GZ, 42);
+			container.compress(b, null);
+			res2 = df.write(42, 0x1FFFF, container.data);
+		}
+
+		try (DataFile df = new DataFile(file, true))
+		{
+			Assert.assertTrue(df.isReadOnly());
+
+			byte[] compressedData = df.read(42, 3, res.sector, res.compressedLength);
+			Assert.assertArrayEquals(b, Container.decompress(compressedData, null).data);
+
+			compressedData = df.read(42, 0x1FFFF, res2.sector, res2.compressedLength);
+			Assert.assertArrayEquals(b, Container.decompress(compressedData, null).data);
+
+			// mismatched archive
+			Assert.assertNull(df.read(42, 4, res.sector, res.compressedLength));
+			// past the end of the file
+			Assert.assertNull(df.read(42, 3, 1 << 20, res.compressedLength));
+		}
+	}
+
+	@Test(expected = IOException.class)
+	public void testReadOnlyWrite() throws IOException
+	{
+		File file = folder.newFile();
+		try (DataFile df = new DataFile(file, true))
+		{
+			df.write(42, 3, new byte[10]);
+		}
+	}
 }
@@ -25,6 +25,11 @@
 package net.runelite.cache.fs.jagex;
 
 import java.io.File;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
 import net.runelite.cache.StoreLocation;
 import net.runelite.cache.fs.Archive;
 import net.runelite.cache.fs.Container;
@@ -99,4 +104,72 @@ public class DiskStorageTest
 		}
 	}
 
+	@Test
+	public void testReadOnlyConcurrentLoad() throws Exception
+	{
+		File file = folder.newFolder();
+		final int archives = 64;
+
+		try (Store store = new Store(new DiskStorage(file)))
+		{
+			Index index = store.addIndex(0);
+			for (int i = 0; i < archives; ++i)
+			{
+				Archive archive = index.addArchive(i);
+				archive.setFileData(new FileData[]{new FileData()});
+
+				Container container = new Container(archive.getCompression(), -1);
+				container.compress(archiveData(i), null);
+				store.getStorage().saveArchive(archive, container.data);
+			}
+			store.save();
+		}
+
+		DiskStorage storage = new DiskStorage(file, true);
+		try (Store store = new Store(storage))
+		{
+			store.load();
+			Index index = store.findIndex(0);
+			assertEquals(archives, index.getArchives().size());
+
+			ExecutorService executor = Executors.newFixedThreadPool(4);
+			try
+			{
+				List<Future<?>> futures = new ArrayList<>();
+				for (int t = 0; t < 4; ++t)
+				{
+					futures.add(executor.submit(() ->
+					{
+						for (int i = 0; i < archives; ++i)
+						{
+							Archive archive = index.getArchive(i);
+							byte[] data = archive.decompress(storage.loadArchive(archive));
+							assertArrayEquals(archiveData(i), data);
+						}
+						return null;
+					}));
+				}
+
+				for (Future<?> future : futures)
+				{
+					future.get();
+				}
+			}
+			finally
+			{
+				executor.shutdown();
+			}
+		}
+	}
+
+	private static byte[] archiveData(int archive)
+	{
+		// span multiple sectors
+		byte[] data = new byte[1000 + archive * 37];
+		for (int i = 0; i < data.length; ++i)
+		{
+			data[i] = (byte) (archive + i);
+		}
+		return data;
+	}
 }
@@ -0,0 +1,226 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.fs.pack;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.Random;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Container;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import net.runelite.cache.fs.flat.FlatStorage;
+import net.runelite.cache.fs.jagex.CompressionType;
+import net.runelite.cache.fs.jagex.DiskStorage;
+import net.runelite.cache.index.FileData;
+import org.junit.Assert;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PackStorageTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testConvert() throws IOException
+	{
+		File diskRoot = folder.newFolder();
+		File packFile = folder.newFile();
+		File flatRoot = folder.newFolder();
+		File diskRoot2 = folder.newFolder();
+
+		try (Store disk = new Store(diskRoot))
+		{
+			populate(disk);
+			disk.save();
+		}
+
+		try (Store disk = new Store(new DiskStorage(diskRoot, true)))
+		{
+			disk.load();
+			PackStorage.write(disk, packFile);
+
+			try (Store pack = new Store(new PackStorage(packFile)))
+			{
+				pack.load();
+				assertStoresEqual(disk, pack);
+
+				// pack -> flat -> pack
+				try (Store flat = new Store(new FlatStorage(flatRoot)))
+				{
+					pack.copyTo(flat);
+				}
+
+				// pack -> disk
+				try (Store disk2 = new Store(diskRoot2))
+				{
+					pack.copyTo(disk2);
+				}
+			}
+
+			try (Store disk2 = new Store(new DiskStorage(diskRoot2, true)))
+			{
+				disk2.load();
+				assertStoresEqual(disk, disk2);
+			}
+		}
+
+		try (Store flat = new Store(new FlatStorage(flatRoot)))
+		{
+			flat.load();
+
+			File packFile2 = folder.newFile();
+			PackStorage.write(flat, packFile2);
+
+			try (Store pack = new Store(new PackStorage(packFile2)))
+			{
+				pack.load();
+				assertStoresEqual(flat, pack);
+			}
+		}
+	}
+
+	@Test
+	public void testSave() throws IOException
+	{
+		File packFile = new File(folder.getRoot(), "cache.pack");
+
+		try (Store store = new Store(new PackStorage(packFile)))
+		{
+			populate(store);
+			store.save();
+		}
+
+		try (Store store = new Store(new PackStorage(packFile)))
+		{
+			store.load();
+
+			Index index = store.findIndex(1);
+			Archive archive = index.getArchive(3);
+			byte[] data = compress(new byte[]{1, 2, 3});
+			store.getStorage().saveArchive(archive, data);
+			archive.setHash(new byte[32]);
+
+			Archive added = index.addArchive(100);
+			added.setFileData(new FileData[]{new FileData()});
+			store.getStorage().saveArchive(added, data);
+
+			store.save();
+
+			// the saved archives are read back from the rewritten file
+			Assert.assertArrayEquals(data, store.getStorage().loadArchive(archive));
+
+			// the mapped file isn't replaced, the save is a new generation of it
+			Assert.assertFalse(packFile.exists());
+			Assert.assertTrue(new File(packFile.getPath() + ".1").exists());
+		}
+
+		try (Store store = new Store(new PackStorage(packFile)))
+		{
+			store.load();
+
+			Index index = store.findIndex(1);
+			byte[] data = compress(new byte[]{1, 2, 3});
+			Assert.assertArrayEquals(data, store.getStorage().loadArchive(index.getArchive(3)));
+			Assert.assertArrayEquals(new byte[32], index.getArchive(3).getHash());
+			Assert.assertArrayEquals(data, store.getStorage().loadArchive(index.getArchive(100)));
+			Assert.assertNotNull(store.getStorage().loadArchive(index.getArchive(6)));
+			Assert.assertNull(store.getStorage().loadArchive(new Archive(index, 5000)));
+		}
+	}
+
+	private static void populate(Store store) throws IOException
+	{
+		Random random = new Random(42L);
+		for (int i = 0; i < 3; ++i)
+		{
+			Index index = store.addIndex(i);
+			index.setRevision(i + 10);
+			index.setCompression(CompressionType.GZ);
+			index.setNamed(i != 1);
+
+			for (int j = 0; j < 50; ++j)
+			{
+				Archive archive = index.addArchive(j * 3);
+				archive.setNameHash(random.nextInt());
+				archive.setRevision(random.nextInt(1000));
+
+				FileData[] fileData = new FileData[1 + random.nextInt(3)];
+				for (int k = 0; k < fileData.length; ++k)
+				{
+					fileData[k] = new FileData();
+					fileData[k].setId(k * 2);
+					fileData[k].setNameHash(random.nextInt());
+				}
+				archive.setFileData(fileData);
+
+				// a mix of archives which fit in a page and which span several
+				byte[] data = new byte[random.nextInt(j % 5 == 0 ? 20000 : 1000)];
+				random.nextBytes(data);
+				store.getStorage().saveArchive(archive, compress(data));
+			}
+		}
+	}
+
+	private static byte[] compress(byte[] data) throws IOException
+	{
+		Container container = new Container(CompressionType.NONE, -1);
+		container.compress(data, null);
+		return container.data;
+	}
+
+	private static void assertStoresEqual(Store expected, Store actual) throws IOException
+	{
+		Assert.assertEquals(expected.getIndexes().size(), actual.getIndexes().size());
+
+		for (Index index : expected.getIndexes())
+		{
+			// flat storage doesn't load its indexes in order, so compare them by id
+			Index actualIndex = actual.findIndex(index.getId());
+			Assert.assertEquals(index, actualIndex);
+			Assert.assertEquals(index.getCrc(), actualIndex.getCrc());
+			Assert.assertEquals(index.getCompression(), actualIndex.getCompression());
+			Assert.assertEquals(index.isNamed(), actualIndex.isNamed());
+			Assert.assertEquals(index.getProtocol(), actualIndex.getProtocol());
+
+			for (Archive archive : index.getArchives())
+			{
+				Archive actualArchive = actualIndex.getArchive(archive.getArchiveId());
+				Assert.assertEquals(archive.getCrc(), actualArchive.getCrc());
+				Assert.assertEquals(archive.getCompression(), actualArchive.getCompression());
+				Assert.assertArrayEquals(archive.getHash(), actualArchive.getHash());
+				Assert.assertEquals(archive.getFileData().length, actualArchive.getFileData().length);
+				for (int i = 0; i < archive.getFileData().length; ++i)
+				{
+					Assert.assertEquals(archive.getFileData()[i].getId(), actualArchive.getFileData()[i].getId());
+					Assert.assertEquals(archive.getFileData()[i].getNameHash(), actualArchive.getFileData()[i].getNameHash());
+				}
+				Assert.assertArrayEquals(expected.getStorage().loadArchive(archive), actual.getStorage().loadArchive(actualArchive));
+			}
+		}
+	}
+}
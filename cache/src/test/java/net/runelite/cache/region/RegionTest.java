@@ -0,0 +1,57 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.cache.region;
+
+import java.util.Arrays;
+import java.util.Collections;
+import net.runelite.cache.definitions.LocationsDefinition;
+import static org.junit.Assert.assertEquals;
+import org.junit.Test;
+
+public class RegionTest
+{
+	@Test
+	public void testTileLocations()
+	{
+		Region region = new Region(50, 50);
+
+		// positions are relative to the region in the definition
+		Location a = new Location(1, 10, 0, new Position(3, 4, 0));
+		Location b = new Location(2, 0, 1, new Position(3, 4, 1));
+		Location c = new Location(3, 22, 0, new Position(3, 4, 0));
+		Location d = new Location(4, 10, 0, new Position(63, 63, 3));
+
+		LocationsDefinition locs = new LocationsDefinition();
+		locs.setLocations(Arrays.asList(a, b, c, d));
+		region.loadLocations(locs);
+
+		assertEquals(4, region.getLocations().size());
+		assertEquals(Arrays.asList(region.getLocations().get(0), region.getLocations().get(2)), region.getLocations(0, 3, 4));
+		assertEquals(Collections.singletonList(region.getLocations().get(1)), region.getLocations(1, 3, 4));
+		assertEquals(Collections.singletonList(region.getLocations().get(3)), region.getLocations(3, 63, 63));
+		assertEquals(Collections.emptyList(), region.getLocations(0, 4, 3));
+		assertEquals(Collections.emptyList(), region.getLocations(4, 3, 4));
+	}
+}
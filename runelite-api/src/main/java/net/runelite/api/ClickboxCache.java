@@ -0,0 +1,289 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.PathIterator;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * Clickboxes calculated with the current camera, so that models which haven't changed or moved
+ * don't need to be projected again every frame. Instances are confined to a single thread.
+ */
+final class ClickboxCache
+{
+	/**
+	 * Cached value for models without a clickbox
+	 */
+	static final Shape NONE = new Rectangle();
+
+	// the cache is cleared when the models in it have more vertices than this, to drop models which are no longer drawn
+	private static final int MAX_VERTICES = 1 << 18;
+
+	private final int[] camera = new int[10];
+	private final Map<Key, Shape> clickboxes = new HashMap<>();
+	private final Key probe = new Key();
+	private int cycle = -1;
+	private boolean cameraMoved = true;
+	private int cachedVertices;
+
+	/**
+	 * Clear the cached clickboxes if the camera or viewport has changed since they were calculated.
+	 * This is only checked once per game cycle.
+	 */
+	void validate(Client client)
+	{
+		final int gameCycle = client.getGameCycle();
+		if (cycle == gameCycle)
+		{
+			return;
+		}
+		cycle = gameCycle;
+
+		cameraMoved = update(0, client.getCameraX())
+			| update(1, client.getCameraY())
+			| update(2, client.getCameraZ())
+			| update(3, client.getCameraPitch())
+			| update(4, client.getCameraYaw())
+			| update(5, client.getScale())
+			| update(6, client.getViewportWidth())
+			| update(7, client.getViewportHeight())
+			| update(8, client.getViewportXOffset())
+			| update(9, client.getViewportYOffset());
+
+		if (cameraMoved || cachedVertices > MAX_VERTICES)
+		{
+			clickboxes.clear();
+			cachedVertices = 0;
+		}
+	}
+
+	private boolean update(int idx, int value)
+	{
+		if (camera[idx] == value)
+		{
+			return false;
+		}
+
+		camera[idx] = value;
+		return true;
+	}
+
+	/**
+	 * Get the cached clickbox of a model
+	 *
+	 * @return the clickbox, {@link #NONE} if the model has no clickbox, or null if it isn't cached
+	 */
+	Shape get(Model model, int orientation, int x, int y, int z)
+	{
+		if (cameraMoved)
+		{
+			// nothing is cached while the camera is moving
+			return null;
+		}
+
+		probe.set(model, orientation, x, y, z);
+		return clickboxes.get(probe);
+	}
+
+	/**
+	 * Cache the clickbox of the model last passed to {@link #get(Model, int, int, int, int)}.
+	 * Clickboxes calculated while the camera is moving aren't cached, since they won't be used again.
+	 *
+	 * @return the clickbox to return, which is a read only view of {@code clickbox} if it is cached
+	 */
+	Shape put(Shape clickbox)
+	{
+		if (cameraMoved)
+		{
+			return clickbox != null ? clickbox : NONE;
+		}
+
+		final Key key = new Key();
+		key.set(probe);
+
+		final Shape cached = clickbox != null ? new ReadOnlyShape(clickbox) : NONE;
+		clickboxes.put(key, cached);
+		cachedVertices += key.vertexCount;
+		return cached;
+	}
+
+	private static final class Key
+	{
+		private Model model;
+		private int vertexCount;
+		// animated models may be the same instance with different vertices each frame
+		private long vertexStamp;
+		private int orientation;
+		private int x, y, z;
+		private int hash;
+
+		void set(Model model, int orientation, int x, int y, int z)
+		{
+			final int vertexCount = model.getVerticesCount();
+			final int[] xs = model.getVerticesX();
+			final int[] ys = model.getVerticesY();
+			final int[] zs = model.getVerticesZ();
+
+			long stamp = vertexCount;
+			for (int i = 0; i < vertexCount; i++)
+			{
+				stamp = stamp * 0x9E3779B97F4A7C15L + xs[i];
+				stamp = stamp * 0x9E3779B97F4A7C15L + ys[i];
+				stamp = stamp * 0x9E3779B97F4A7C15L + zs[i];
+			}
+
+			this.model = model;
+			this.vertexCount = vertexCount;
+			this.vertexStamp = stamp;
+			this.orientation = orientation;
+			this.x = x;
+			this.y = y;
+			this.z = z;
+
+			int h = System.identityHashCode(model);
+			h = h * 31 + Long.hashCode(stamp);
+			h = h * 31 + orientation;
+			h = h * 31 + x;
+			h = h * 31 + y;
+			h = h * 31 + z;
+			this.hash = h;
+		}
+
+		void set(Key other)
+		{
+			model = other.model;
+			vertexCount = other.vertexCount;
+			vertexStamp = other.vertexStamp;
+			orientation = other.orientation;
+			x = other.x;
+			y = other.y;
+			z = other.z;
+			hash = other.hash;
+		}
+
+		@Override
+		public boolean equals(Object obj)
+		{
+			if (!(obj instanceof Key))
+			{
+				return false;
+			}
+
+			final Key other = (Key) obj;
+			return model == other.model
+				&& vertexCount == other.vertexCount
+				&& vertexStamp == other.vertexStamp
+				&& orientation == other.orientation
+				&& x == other.x
+				&& y == other.y
+				&& z == other.z;
+		}
+
+		@Override
+		public int hashCode()
+		{
+			return hash;
+		}
+	}
+
+	/**
+	 * Cached clickboxes are returned to every caller, so they are wrapped to stop them being modified
+	 */
+	private static final class ReadOnlyShape implements Shape
+	{
+		private final Shape shape;
+
+		ReadOnlyShape(Shape shape)
+		{
+			this.shape = shape;
+		}
+
+		@Override
+		public Rectangle getBounds()
+		{
+			return shape.getBounds();
+		}
+
+		@Override
+		public Rectangle2D getBounds2D()
+		{
+			return shape.getBounds2D();
+		}
+
+		@Override
+		public boolean contains(double x, double y)
+		{
+			return shape.contains(x, y);
+		}
+
+		@Override
+		public boolean contains(Point2D p)
+		{
+			return shape.contains(p);
+		}
+
+		@Override
+		public boolean intersects(double x, double y, double w, double h)
+		{
+			return shape.intersects(x, y, w, h);
+		}
+
+		@Override
+		public boolean intersects(Rectangle2D r)
+		{
+			return shape.intersects(r);
+		}
+
+		@Override
+		public boolean contains(double x, double y, double w, double h)
+		{
+			return shape.contains(x, y, w, h);
+		}
+
+		@Override
+		public boolean contains(Rectangle2D r)
+		{
+			return shape.contains(r);
+		}
+
+		@Override
+		public PathIterator getPathIterator(AffineTransform at)
+		{
+			return shape.getPathIterator(at);
+		}
+
+		@Override
+		public PathIterator getPathIterator(AffineTransform at, double flatness)
+		{
+			return shape.getPathIterator(at, flatness);
+		}
+	}
+}
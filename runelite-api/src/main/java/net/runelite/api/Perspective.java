@@ -30,8 +30,6 @@ import java.awt.Polygon;
 import java.awt.Shape;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
-import java.util.ArrayList;
-import java.util.List;
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import static net.runelite.api.Constants.TILE_FLAG_BRIDGE;
@@ -61,6 +59,10 @@ public class Perspective
 	public static final int[] SINE = new int[2048]; // sine angles for each of the 2048 units, * 65536 and stored as an int
 	public static final int[] COSINE = new int[2048]; // cosine
 
+	// scratch arrays for clickbox calculation, reused between calls on the same thread
+	private static final ThreadLocal<ClickboxBuffers> CLICKBOX_BUFFERS = ThreadLocal.withInitial(ClickboxBuffers::new);
+	private static final ThreadLocal<ClickboxCache> CLICKBOX_CACHE = ThreadLocal.withInitial(ClickboxCache::new);
+
 	static
 	{
 		for (int i = 0; i < 2048; ++i)
@@ -680,7 +682,8 @@ public class Perspective
 	 * @param orientation the orientation of the model (0-2048, where 0 is north)
 	 * @param x           x coord in local space
 	 * @param z           y coord in local space
-	 * @return the clickable area of the model
+	 * @return the clickable area of the model, which is shared between calls with the same
+	 * model, position and camera, and so is read only
 	 */
 	@Nullable
 	@ApiStatus.Internal
@@ -691,19 +694,49 @@ public class Perspective
 			return null;
 		}
 
-		SimplePolygon bounds = calculateAABB(client, model, orientation, x, y, z);
+		// The clickbox only changes if the model, its position, or the camera does
+		final ClickboxCache cache = CLICKBOX_CACHE.get();
+		cache.validate(client);
+
+		Shape clickbox = cache.get(model, orientation, x, y, z);
+		if (clickbox == null)
+		{
+			clickbox = cache.put(getClickbox(client, model, orientation, x, y, z, new SimplePolygon(new int[16], new int[16], 0)));
+		}
+
+		return clickbox != ClickboxCache.NONE ? clickbox : null;
+	}
+
+	/**
+	 * Same as {@link #getClickbox(Client, Model, int, int, int, int)}, but computes the convex hull of the
+	 * model's bounding box into {@code hull} instead of a new polygon. The returned shape is {@code hull}
+	 * itself for models which are clickable within their whole bounding box, so it is only valid until
+	 * {@code hull} is reused.
+	 * @param hull polygon to hold the convex hull of the model's bounding box
+	 * @return the clickable area of the model
+	 */
+	@Nullable
+	@ApiStatus.Internal
+	public static Shape getClickbox(@Nonnull Client client, Model model, int orientation, int x, int y, int z, @Nonnull SimplePolygon hull)
+	{
+		if (model == null)
+		{
+			return null;
+		}
+
+		final ClickboxBuffers buffers = CLICKBOX_BUFFERS.get();
 
-		if (bounds == null)
+		if (!calculateAABB(client, model, orientation, x, y, z, buffers, hull))
 		{
 			return null;
 		}
 
 		if (model.isClickable())
 		{
-			return bounds;
+			return hull;
 		}
 
-		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, model, orientation, x, y, z);
+		Shapes<SimplePolygon> bounds2d = calculate2DBounds(client, model, orientation, x, y, z, buffers);
 		if (bounds2d == null)
 		{
 			return null;
@@ -711,13 +744,13 @@ public class Perspective
 
 		for (SimplePolygon poly : bounds2d.getShapes())
 		{
-			poly.intersectWithConvex(bounds);
+			poly.intersectWithConvex(hull);
 		}
 
 		return bounds2d;
 	}
 
-	private static SimplePolygon calculateAABB(Client client, Model m, int jauOrient, int x, int y, int z)
+	private static boolean calculateAABB(Client client, Model m, int jauOrient, int x, int y, int z, ClickboxBuffers buffers, SimplePolygon out)
 	{
 		m.calculateExtreme(jauOrient);
 
@@ -737,35 +770,34 @@ public class Perspective
 		y1 -= ey;
 		z1 -= ez;
 
-		int[] xa = new int[]{
-			x1, x2, x1, x2,
-			x1, x2, x1, x2
-		};
-		int[] ya = new int[]{
-			y1, y1, y2, y2,
-			y1, y1, y2, y2
-		};
-		int[] za = new int[]{
-			z1, z1, z1, z1,
-			z2, z2, z2, z2
-		};
-
-		int[] x2d = new int[8];
-		int[] y2d = new int[8];
-
-		modelToCanvasCpu(client, 8, x, y, z, 0, xa, ya, za, x2d, y2d);
-
-		return Jarvis.convexHull(x2d, y2d);
+		final int[] xa = buffers.xa;
+		final int[] ya = buffers.ya;
+		final int[] za = buffers.za;
+		for (int i = 0; i < 8; i++)
+		{
+			xa[i] = (i & 1) == 0 ? x1 : x2;
+			ya[i] = (i & 2) == 0 ? y1 : y2;
+			za[i] = (i & 4) == 0 ? z1 : z2;
+		}
+
+		modelToCanvasCpu(client, 8, x, y, z, 0, xa, ya, za, buffers.x2d, buffers.y2d);
+
+		return Jarvis.convexHull(buffers.x2d, buffers.y2d, 8, out);
 	}
 
-	private static Shapes<SimplePolygon> calculate2DBounds(Client client, Model m, int jauOrient, int x, int y, int z)
+	private static Shapes<SimplePolygon> calculate2DBounds(Client client, Model m, int jauOrient, int x, int y, int z, ClickboxBuffers buffers)
 	{
-		int[] x2d = new int[m.getVerticesCount()];
-		int[] y2d = new int[m.getVerticesCount()];
+		final int verticesCount = m.getVerticesCount();
+		final int faceCount = m.getFaceCount();
+		buffers.ensureCapacity(verticesCount, faceCount);
+
+		final int[] x2d = buffers.modelX2d;
+		final int[] y2d = buffers.modelY2d;
+		final int[] rects = buffers.rects;
 		final int[] faceColors3 = m.getFaceColors3();
 
 		Perspective.modelToCanvasCpu(client,
-			m.getVerticesCount(),
+			verticesCount,
 			x, y, z,
 			jauOrient,
 			m.getVerticesX(), m.getVerticesZ(), m.getVerticesY(),
@@ -773,78 +805,58 @@ public class Perspective
 
 		final int radius = 5;
 
-		int[][] tris = new int[][]{
-			m.getFaceIndices1(),
-			m.getFaceIndices2(),
-			m.getFaceIndices3()
-		};
+		final int[] indices1 = m.getFaceIndices1();
+		final int[] indices2 = m.getFaceIndices2();
+		final int[] indices3 = m.getFaceIndices3();
 
 		int vpX1 = client.getViewportXOffset();
 		int vpY1 = client.getViewportXOffset();
 		int vpX2 = vpX1 + client.getViewportWidth();
 		int vpY2 = vpY1 + client.getViewportHeight();
 
-		List<RectangleUnion.Rectangle> rects = new ArrayList<>(m.getFaceCount());
+		int rectCount = 0;
 
-		nextTri:
-		for (int tri = 0; tri < m.getFaceCount(); tri++)
+		for (int tri = 0; tri < faceCount; tri++)
 		{
 			if (faceColors3[tri] == -2)
 			{
 				continue;
 			}
 
-			int
-				minX = Integer.MAX_VALUE,
-				minY = Integer.MAX_VALUE,
-				maxX = Integer.MIN_VALUE,
-				maxY = Integer.MIN_VALUE;
-
-			for (int[] vertex : tris)
+			final int
+				i1 = indices1[tri],
+				i2 = indices2[tri],
+				i3 = indices3[tri],
+				xs1 = x2d[i1], ys1 = y2d[i1],
+				xs2 = x2d[i2], ys2 = y2d[i2],
+				xs3 = x2d[i3], ys3 = y2d[i3];
+
+			if (xs1 == Integer.MIN_VALUE || ys1 == Integer.MIN_VALUE
+				|| xs2 == Integer.MIN_VALUE || ys2 == Integer.MIN_VALUE
+				|| xs3 == Integer.MIN_VALUE || ys3 == Integer.MIN_VALUE)
 			{
-				final int idx = vertex[tri];
-				final int xs = x2d[idx];
-				final int ys = y2d[idx];
-
-				if (xs == Integer.MIN_VALUE || ys == Integer.MIN_VALUE)
-				{
-					continue nextTri;
-				}
-
-				if (xs < minX)
-				{
-					minX = xs;
-				}
-				if (xs > maxX)
-				{
-					maxX = xs;
-				}
-				if (ys < minY)
-				{
-					minY = ys;
-				}
-				if (ys > maxY)
-				{
-					maxY = ys;
-				}
+				continue;
 			}
 
-			minX -= radius;
-			minY -= radius;
-			maxX += radius;
-			maxY += radius;
+			final int
+				minX = Math.min(xs1, Math.min(xs2, xs3)) - radius,
+				minY = Math.min(ys1, Math.min(ys2, ys3)) - radius,
+				maxX = Math.max(xs1, Math.max(xs2, xs3)) + radius,
+				maxY = Math.max(ys1, Math.max(ys2, ys3)) + radius;
 
 			if (vpX1 > maxX || vpX2 < minX || vpY1 > maxY || vpY2 < minY)
 			{
 				continue;
 			}
 
-			RectangleUnion.Rectangle r = new RectangleUnion.Rectangle(minX, minY, maxX, maxY);
-
-			rects.add(r);
+			final int r = rectCount++ * 4;
+			rects[r] = minX;
+			rects[r + 1] = minY;
+			rects[r + 2] = maxX;
+			rects[r + 3] = maxY;
 		}
 
-		return RectangleUnion.union(rects);
+		return RectangleUnion.union(rects, rectCount);
 	}
 
 	/**
@@ -878,4 +890,30 @@ public class Perspective
 		return new Point(xOffset, yOffset);
 	}
 
+	private static class ClickboxBuffers
+	{
+		final int[] xa = new int[8];
+		final int[] ya = new int[8];
+		final int[] za = new int[8];
+		final int[] x2d = new int[8];
+		final int[] y2d = new int[8];
+
+		int[] modelX2d = new int[0];
+		int[] modelY2d = new int[0];
+		int[] rects = new int[0];
+
+		void ensureCapacity(int verticesCount, int faceCount)
+		{
+			if (modelX2d.length < verticesCount)
+			{
+				modelX2d = new int[verticesCount];
+				modelY2d = new int[verticesCount];
+			}
+
+			if (rects.length < faceCount * 4)
+			{
+				rects = new int[faceCount * 4];
+			}
+		}
+	}
 }
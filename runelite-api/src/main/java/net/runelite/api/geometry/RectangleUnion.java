@@ -25,7 +25,7 @@
 package net.runelite.api.geometry;
 
 import java.util.ArrayList;
-import java.util.Comparator;
+import java.util.Arrays;
 import java.util.List;
 import javax.annotation.Nullable;
 import lombok.Getter;
@@ -51,27 +51,54 @@ public class RectangleUnion
 
 	/**
 	 * Returns a polygon representing the union of all of the passed rectangles.
-	 * the passed List will be modified
 	 */
 	@Nullable
 	public static Shapes<SimplePolygon> union(List<Rectangle> lefts)
+	{
+		int[] rects = new int[lefts.size() * 4];
+		for (int i = 0; i < lefts.size(); i++)
+		{
+			Rectangle r = lefts.get(i);
+			rects[i * 4] = r.x1;
+			rects[i * 4 + 1] = r.y1;
+			rects[i * 4 + 2] = r.x2;
+			rects[i * 4 + 3] = r.y2;
+		}
+		return union(rects, lefts.size());
+	}
+
+	/**
+	 * Returns a polygon representing the union of the first {@code count} rectangles
+	 * in {@code rects}, which are packed as {@code x1, y1, x2, y2}. The passed array
+	 * is not modified.
+	 */
+	@Nullable
+	public static Shapes<SimplePolygon> union(int[] rects, int count)
 	{
 		// https://stackoverflow.com/a/35362615/2977136
-		if (lefts.size() == 0)
+		if (count == 0)
 		{
 			return null;
 		}
 
 		boolean trace = log.isTraceEnabled();
 
-		// Sort all of the rectangles so they are ordered by their left edge
-		lefts.sort(Comparator.comparingInt(Rectangle::getX1));
+		// Sort all of the rectangles so they are ordered by their left edge. The sort keys hold the
+		// edge in the high bits and the rectangle index in the low bits, so rectangles with equal
+		// edges keep their order
+		long[] order = new long[count * 2];
+		for (int i = 0; i < count; i++)
+		{
+			order[i] = (long) rects[i * 4] << 32 | i;
+		}
+		Arrays.sort(order, 0, count);
 
-		// Again, but for the right edge
-		// this should be relatively fast if the rectangles are similar sizes because timsort deals with partially
-		// presorted data well
-		List<Rectangle> rights = new ArrayList<>(lefts);
-		rights.sort(Comparator.comparingInt(Rectangle::getX2));
+		// Again, but for the right edge, keeping the left edge order for equal right edges
+		for (int i = 0; i < count; i++)
+		{
+			order[count + i] = (long) rects[(int) order[i] * 4 + 2] << 32 | i;
+		}
+		Arrays.sort(order, count, count * 2);
 
 		// ranges of our scan line with how many rectangles it is occluding
 		Segments segments = new Segments();
@@ -79,46 +106,32 @@ public class RectangleUnion
 		ChangingState cs = new ChangingState(out);
 
 		// Walk a beam left to right, colliding with any vertical edges of rectangles
-		for (int l = 0, r = 0; ; )
+		for (int l = 0, r = 0; l < count || r < count; )
 		{
-			Rectangle lr = null, rr = null;
-			if (l < lefts.size())
-			{
-				lr = lefts.get(l);
-			}
-			if (r < rights.size())
-			{
-				rr = rights.get(r);
-			}
-			if (lr == null && rr == null)
-			{
-				break;
-			}
-
 			// get the next edge, preferring + edges
-			Rectangle rect;
-			boolean remove = lr == null || (rr != null && rr.x2 < lr.x1);
+			int rect;
+			boolean remove = l >= count || (r < count && (int) (order[count + r] >> 32) < (int) (order[l] >> 32));
 			if (remove)
 			{
+				rect = (int) order[(int) order[count + r]];
 				cs.delta = -1;
-				cs.x = rr.x2;
+				cs.x = rects[rect * 4 + 2];
 				r++;
-				rect = rr;
 			}
 			else
 			{
+				rect = (int) order[l];
 				cs.delta = 1;
-				cs.x = lr.x1;
+				cs.x = rects[rect * 4];
 				l++;
-				rect = lr;
 			}
 			if (trace)
 			{
-				log.trace("{}{}", remove ? "-" : "+", rect);
+				log.trace("{}{}", remove ? "-" : "+", new Rectangle(rects[rect * 4], rects[rect * 4 + 1], rects[rect * 4 + 2], rects[rect * 4 + 3]));
 			}
 
-			int y1 = rect.y1;
-			int y2 = rect.y2;
+			int y1 = rects[rect * 4 + 1];
+			int y2 = rects[rect * 4 + 3];
 
 			// Find or create the y1 edge
 			Segment n = segments.findLE(y1);
@@ -114,6 +114,15 @@ public class SimplePolygon implements Shape
 		y = ny;
 	}
 
+	/**
+	 * Removes all of the vertices, keeping the allocated arrays for reuse
+	 */
+	public void clear()
+	{
+		left = x.length / 2;
+		right = left - 1;
+	}
+
 	public int getX(int index)
 	{
 		return x[left + index];
@@ -78,8 +78,21 @@ public class Jarvis
 	 */
 	public static SimplePolygon convexHull(int[] xs, int[] ys)
 	{
-		int length = xs.length;
+		SimplePolygon out = new SimplePolygon(new int[16], new int[16], 0);
+		return convexHull(xs, ys, xs.length, out) ? out : null;
+	}
 
+	/**
+	 * Computes the convex hull of the first {@code length} passed points into {@code out},
+	 * replacing its previous vertices. The passed arrays are modified.
+	 * <p>
+	 * The number of valid points must be at least 3, otherwise this method will
+	 * return false.
+	 *
+	 * @return true if the hull was computed
+	 */
+	public static boolean convexHull(int[] xs, int[] ys, int length, SimplePolygon out)
+	{
 		// remove any invalid entries
 		{
 			int i = 0, offset = 0;
@@ -107,7 +120,7 @@ public class Jarvis
 
 		if (length < 3)
 		{
-			return null;
+			return false;
 		}
 
 		// find the left most point
@@ -116,7 +129,7 @@ public class Jarvis
 		// current point we are on
 		int current = left;
 
-		SimplePolygon out = new SimplePolygon(new int[16], new int[16], 0);
+		out.clear();
 
 		do
 		{
@@ -126,7 +139,7 @@ public class Jarvis
 
 			if (out.size() > length)
 			{
-				return null;
+				return false;
 			}
 
 			// the next point - all points are to the right of the
@@ -150,7 +163,7 @@ public class Jarvis
 		}
 		while (current != left);
 
-		return out;
+		return true;
 	}
 
 	private static int square(int x)
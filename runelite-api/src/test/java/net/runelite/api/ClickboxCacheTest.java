@@ -0,0 +1,158 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Rectangle;
+import java.awt.Shape;
+import java.lang.reflect.Proxy;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Before;
+import org.junit.Test;
+
+public class ClickboxCacheTest
+{
+	private int[] verticesX = {0, 10, 20};
+	private int cameraX;
+	private int gameCycle;
+
+	private Client client;
+	private Model model;
+
+	@Before
+	public void before()
+	{
+		client = (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class[]{Client.class},
+			(proxy, method, args) ->
+			{
+				switch (method.getName())
+				{
+					case "getCameraX":
+						return cameraX;
+					case "getGameCycle":
+						return gameCycle;
+					default:
+						return 0;
+				}
+			});
+		model = (Model) Proxy.newProxyInstance(Model.class.getClassLoader(), new Class[]{Model.class}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "getVerticesCount":
+					return verticesX.length;
+				case "getVerticesX":
+					return verticesX;
+				case "getVerticesY":
+				case "getVerticesZ":
+					return new int[verticesX.length];
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+
+	@Test
+	public void testCache()
+	{
+		ClickboxCache cache = new ClickboxCache();
+
+		cache.validate(client);
+		assertNull(cache.get(model, 0, 64, 64, 0));
+		Shape clickbox = cache.put(new Rectangle(1, 2, 3, 4));
+		assertSame(clickbox, cache.get(model, 0, 64, 64, 0));
+
+		// the cached clickbox can't be modified
+		assertFalse(clickbox instanceof Rectangle);
+		assertTrue(clickbox.contains(2, 3));
+		assertFalse(clickbox.contains(0, 0));
+
+		// different orientation or position
+		assertNull(cache.get(model, 512, 64, 64, 0));
+		assertNull(cache.get(model, 0, 192, 64, 0));
+		assertSame(ClickboxCache.NONE, cache.put(null));
+		assertSame(ClickboxCache.NONE, cache.get(model, 0, 192, 64, 0));
+
+		// animated
+		verticesX[1] = 11;
+		assertNull(cache.get(model, 0, 64, 64, 0));
+		verticesX[1] = 10;
+		assertSame(clickbox, cache.get(model, 0, 64, 64, 0));
+
+		// the camera moved
+		cameraX = 100;
+		++gameCycle;
+		cache.validate(client);
+		assertNull(cache.get(model, 0, 64, 64, 0));
+	}
+
+	@Test
+	public void testCameraMoving()
+	{
+		ClickboxCache cache = new ClickboxCache();
+		cache.validate(client);
+		cache.get(model, 0, 64, 64, 0);
+		cache.put(new Rectangle(1, 2, 3, 4));
+
+		// clickboxes aren't cached on frames where the camera moved
+		cameraX = 100;
+		++gameCycle;
+		cache.validate(client);
+		assertNull(cache.get(model, 0, 64, 64, 0));
+		Shape clickbox = new Rectangle(1, 2, 3, 4);
+		assertSame(clickbox, cache.put(clickbox));
+		assertNull(cache.get(model, 0, 64, 64, 0));
+
+		// the camera is only checked once per cycle
+		cache.validate(client);
+		assertNull(cache.get(model, 0, 64, 64, 0));
+
+		// the camera stopped
+		++gameCycle;
+		cache.validate(client);
+		assertNull(cache.get(model, 0, 64, 64, 0));
+		clickbox = cache.put(clickbox);
+		assertSame(clickbox, cache.get(model, 0, 64, 64, 0));
+	}
+
+	@Test
+	public void testUnhashedVertex()
+	{
+		ClickboxCache cache = new ClickboxCache();
+		verticesX = new int[100];
+
+		cache.validate(client);
+		assertNull(cache.get(model, 0, 64, 64, 0));
+		Shape clickbox = cache.put(new Rectangle(1, 2, 3, 4));
+
+		// every vertex is part of the key
+		verticesX[1] = 1;
+		assertNull(cache.get(model, 0, 64, 64, 0));
+		verticesX[1] = 0;
+		assertSame(clickbox, cache.get(model, 0, 64, 64, 0));
+	}
+}
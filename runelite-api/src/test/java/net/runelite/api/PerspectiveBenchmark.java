@@ -0,0 +1,323 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.api;
+
+import java.awt.Shape;
+import java.io.IOException;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.geometry.SimplePolygon;
+import net.runelite.cache.IndexType;
+import net.runelite.cache.NpcManager;
+import net.runelite.cache.ObjectManager;
+import net.runelite.cache.StoreLocation;
+import net.runelite.cache.definitions.ModelDefinition;
+import net.runelite.cache.definitions.ObjectDefinition;
+import net.runelite.cache.definitions.loaders.ModelLoader;
+import net.runelite.cache.fs.Archive;
+import net.runelite.cache.fs.Index;
+import net.runelite.cache.fs.Store;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Calculates the clickbox of a model in front of the camera, either through the clickbox cache as
+ * with a static camera, through the cache with a turning camera, or uncached while reusing the hull polygon. The models are those of
+ * npcs and objects from the cache.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class PerspectiveBenchmark
+{
+	private static final int X = 6400, Y = 6400;
+
+	public enum Source
+	{
+		MAN(NpcID.MAN_3106, -1),
+		KING_BLACK_DRAGON(NpcID.KING_BLACK_DRAGON, -1),
+		TZTOKJAD(NpcID.TZTOKJAD, -1),
+		TREE(-1, ObjectID.TREE),
+		BANK_BOOTH(-1, ObjectID.BANK_BOOTH);
+
+		private final int npcId;
+		private final int objectId;
+
+		Source(int npcId, int objectId)
+		{
+			this.npcId = npcId;
+			this.objectId = objectId;
+		}
+	}
+
+	@Param
+	public Source source;
+
+	@Param({"false", "true"})
+	public boolean clickable;
+
+	private Client client;
+	private Model model;
+	private final SimplePolygon hull = new SimplePolygon();
+	private int yaw;
+	private int gameCycle;
+
+	@Setup
+	public void setup() throws IOException
+	{
+		client = (Client) Proxy.newProxyInstance(Client.class.getClassLoader(), new Class[]{Client.class}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "getGameCycle":
+					return gameCycle;
+				case "getCameraX":
+					return X;
+				case "getCameraY":
+					return Y - 1500;
+				case "getCameraZ":
+					return -800;
+				case "getCameraPitch":
+					return 256;
+				case "getCameraYaw":
+					return yaw;
+				case "getViewportWidth":
+					return 765;
+				case "getViewportHeight":
+					return 503;
+				case "getViewportXOffset":
+				case "getViewportYOffset":
+					return 4;
+				case "getScale":
+					return 512;
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+		model = createModel(loadModels(source), clickable);
+
+		if (Perspective.getClickbox(client, model, 0, X, Y, 0) == null)
+		{
+			throw new IllegalStateException("model is not on screen");
+		}
+	}
+
+	@Benchmark
+	public Shape getClickbox()
+	{
+		// each call is a new frame
+		++gameCycle;
+		return Perspective.getClickbox(client, model, 0, X, Y, 0);
+	}
+
+	@Benchmark
+	public Shape getClickboxCameraTurning()
+	{
+		// the camera moving clears the clickbox cache, so every call misses
+		++gameCycle;
+		yaw ^= 1;
+		return Perspective.getClickbox(client, model, 0, X, Y, 0);
+	}
+
+	@Benchmark
+	public Shape getClickboxReusedHull()
+	{
+		return Perspective.getClickbox(client, model, 0, X, Y, 0, hull);
+	}
+
+	/**
+	 * Load the models the npc or object is made of
+	 */
+	private static List<ModelDefinition> loadModels(Source source) throws IOException
+	{
+		try (Store store = new Store(StoreLocation.LOCATION))
+		{
+			store.load();
+
+			final List<Integer> modelIds = new ArrayList<>();
+			if (source.npcId != -1)
+			{
+				NpcManager npcManager = new NpcManager(store);
+				npcManager.load();
+				for (int modelId : npcManager.get(source.npcId).models)
+				{
+					modelIds.add(modelId);
+				}
+			}
+			else
+			{
+				ObjectManager objectManager = new ObjectManager(store);
+				objectManager.load();
+				ObjectDefinition object = objectManager.getObject(source.objectId);
+				int[] objectModels = object.getObjectModels();
+				int[] objectTypes = object.getObjectTypes();
+				for (int i = 0; i < objectModels.length; i++)
+				{
+					// the models of a typed object are alternatives, use the centrepiece
+					if (objectTypes == null || objectTypes[i] == 10)
+					{
+						modelIds.add(objectModels[i]);
+					}
+				}
+			}
+
+			final Index index = store.getIndex(IndexType.MODELS);
+			final ModelLoader loader = new ModelLoader();
+			final List<ModelDefinition> models = new ArrayList<>();
+			for (int modelId : modelIds)
+			{
+				Archive archive = index.getArchive(modelId);
+				byte[] contents = archive.decompress(store.getStorage().loadArchive(archive));
+				models.add(loader.load(modelId, contents));
+			}
+			return models;
+		}
+	}
+
+	/**
+	 * Merge the models into one, as the client does when drawing an npc
+	 */
+	private static Model createModel(List<ModelDefinition> parts, boolean clickable)
+	{
+		int count = 0, faceCount = 0;
+		for (ModelDefinition part : parts)
+		{
+			count += part.vertexCount;
+			faceCount += part.faceCount;
+		}
+
+		final int[] vx = new int[count], vy = new int[count], vz = new int[count];
+		final int[] f1 = new int[faceCount], f2 = new int[faceCount], f3 = new int[faceCount];
+		final int[] colors = new int[faceCount];
+		int v = 0, f = 0;
+		for (ModelDefinition part : parts)
+		{
+			for (int i = 0; i < part.faceCount; i++)
+			{
+				f1[f] = v + part.faceIndices1[i];
+				f2[f] = v + part.faceIndices2[i];
+				f3[f] = v + part.faceIndices3[i];
+				// hidden faces are skipped by the clickbox
+				colors[f++] = part.faceRenderTypes != null && (part.faceRenderTypes[i] & 3) == 2 ? -2 : 0;
+			}
+			System.arraycopy(part.vertexX, 0, vx, v, part.vertexCount);
+			System.arraycopy(part.vertexY, 0, vy, v, part.vertexCount);
+			System.arraycopy(part.vertexZ, 0, vz, v, part.vertexCount);
+			v += part.vertexCount;
+		}
+
+		final int minX = min(vx, count), maxX = max(vx, count);
+		final int minY = min(vy, count), maxY = max(vy, count);
+		final int minZ = min(vz, count), maxZ = max(vz, count);
+		final int vertexCount = count, faces = faceCount;
+
+		return (Model) Proxy.newProxyInstance(Model.class.getClassLoader(), new Class[]{Model.class}, (proxy, method, args) ->
+		{
+			switch (method.getName())
+			{
+				case "calculateExtreme":
+					return null;
+				case "getCenterX":
+					return (minX + maxX) / 2;
+				case "getCenterY":
+					return (minY + maxY) / 2;
+				case "getCenterZ":
+					return (minZ + maxZ) / 2;
+				case "getExtremeX":
+					return (maxX - minX + 1) / 2;
+				case "getExtremeY":
+					return (maxY - minY + 1) / 2;
+				case "getExtremeZ":
+					return (maxZ - minZ + 1) / 2;
+				case "isClickable":
+					return clickable;
+				case "getVerticesCount":
+					return vertexCount;
+				case "getVerticesX":
+					return vx;
+				case "getVerticesY":
+					return vy;
+				case "getVerticesZ":
+					return vz;
+				case "getFaceCount":
+					return faces;
+				case "getFaceIndices1":
+					return f1;
+				case "getFaceIndices2":
+					return f2;
+				case "getFaceIndices3":
+					return f3;
+				case "getFaceColors3":
+					return colors;
+				default:
+					throw new UnsupportedOperationException(method.getName());
+			}
+		});
+	}
+
+	private static int min(int[] values, int count)
+	{
+		int min = Integer.MAX_VALUE;
+		for (int i = 0; i < count; i++)
+		{
+			min = Math.min(min, values[i]);
+		}
+		return min;
+	}
+
+	private static int max(int[] values, int count)
+	{
+		int max = Integer.MIN_VALUE;
+		for (int i = 0; i < count; i++)
+		{
+			max = Math.max(max, values[i]);
+		}
+		return max;
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(PerspectiveBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
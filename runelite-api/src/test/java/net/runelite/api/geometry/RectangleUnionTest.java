@@ -36,6 +36,7 @@ import java.util.Random;
 import javax.imageio.ImageIO;
 import lombok.extern.slf4j.Slf4j;
 import org.junit.Assert;
+import org.junit.Test;
 
 @Slf4j
 public class RectangleUnionTest
@@ -47,9 +48,20 @@ public class RectangleUnionTest
 	// @Test
 	public void test() throws IOException
 	{
-		for (int count = 1; count < MAX_RECTS; count++)
+		test(MAX_RECTS, ITERATIONS);
+	}
+
+	@Test
+	public void testQuick() throws IOException
+	{
+		test(10, 5);
+	}
+
+	private void test(int maxRects, int iterations) throws IOException
+	{
+		for (int count = 1; count < maxRects; count++)
 		{
-			for (int r = 0; r < ITERATIONS; r++)
+			for (int r = 0; r < iterations; r++)
 			{
 				Random rand = new Random(count << 16 | r);
 				String id = count + "rects_iteration" + r;
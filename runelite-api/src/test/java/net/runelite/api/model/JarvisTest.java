@@ -27,6 +27,7 @@ package net.runelite.api.model;
 import java.util.Arrays;
 import java.util.List;
 import net.runelite.api.Point;
+import net.runelite.api.geometry.SimplePolygon;
 import org.junit.Assert;
 import org.junit.Test;
 
@@ -107,4 +108,30 @@ public class JarvisTest
 		};
 		Jarvis.convexHull(Arrays.asList(points));
 	}
+
+	@Test
+	public void testReuse()
+	{
+		SimplePolygon out = new SimplePolygon();
+
+		int[] xs = {0, 1, 2, 4, 0, 1, 3, 3, 0};
+		int[] ys = {3, 1, 2, 4, 0, 2, 1, 3, 0};
+		// only the first 8 points are used
+		Assert.assertTrue(Jarvis.convexHull(xs, ys, 8, out));
+		Assert.assertEquals(4, out.size());
+		Assert.assertEquals(0, out.getX(0));
+		Assert.assertEquals(0, out.getY(0));
+		Assert.assertEquals(3, out.getX(3));
+		Assert.assertEquals(1, out.getY(3));
+
+		// the previous hull is replaced
+		xs = new int[]{0, 5, Integer.MIN_VALUE, 0};
+		ys = new int[]{0, 0, Integer.MIN_VALUE, 5};
+		Assert.assertTrue(Jarvis.convexHull(xs, ys, 4, out));
+		Assert.assertEquals(3, out.size());
+
+		xs = new int[]{0, Integer.MIN_VALUE, 0};
+		ys = new int[]{0, Integer.MIN_VALUE, 5};
+		Assert.assertFalse(Jarvis.convexHull(xs, ys, 3, out));
+	}
 }
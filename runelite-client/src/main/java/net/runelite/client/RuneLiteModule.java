@@ -35,7 +35,6 @@ import java.applet.Applet;
 import java.io.File;
 import java.util.Map;
 import java.util.Properties;
-import java.util.concurrent.Executors;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.function.Supplier;
 import javax.annotation.Nullable;
@@ -54,9 +53,9 @@ import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.game.ItemManager;
 import net.runelite.client.menus.MenuManager;
 import net.runelite.client.plugins.PluginManager;
+import net.runelite.client.task.ExecutorManager;
 import net.runelite.client.task.Scheduler;
 import net.runelite.client.util.DeferredEventBus;
-import net.runelite.client.util.ExecutorServiceExceptionLogger;
 import net.runelite.http.api.RuneLiteAPI;
 import okhttp3.HttpUrl;
 import okhttp3.OkHttpClient;
@@ -113,7 +112,15 @@ public class RuneLiteModule extends AbstractModule
 		bindConstant().annotatedWith(Names.named("safeMode")).to(safeMode);
 		bind(File.class).annotatedWith(Names.named("sessionfile")).toInstance(sessionfile);
 		bind(File.class).annotatedWith(Names.named("config")).toInstance(config);
-		bind(ScheduledExecutorService.class).toInstance(new ExecutorServiceExceptionLogger(Executors.newSingleThreadScheduledExecutor()));
+
+		ExecutorManager executorManager = new ExecutorManager();
+		bind(ExecutorManager.class).toInstance(executorManager);
+		bind(ScheduledExecutorService.class).toInstance(executorManager.getExecutor(ExecutorManager.DEFAULT));
+		for (String lane : ExecutorManager.LANES.keySet())
+		{
+			bind(ScheduledExecutorService.class).annotatedWith(Names.named(lane)).toInstance(executorManager.getExecutor(lane));
+		}
+
 		bind(OkHttpClient.class).toInstance(okHttpClient);
 		bind(MenuManager.class);
 		bind(ChatMessageManager.class);
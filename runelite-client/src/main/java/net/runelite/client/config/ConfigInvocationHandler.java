@@ -24,11 +24,14 @@
  */
 package net.runelite.client.config;
 
-import com.google.common.cache.Cache;
-import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.google.common.collect.ImmutableListMultimap;
 import java.lang.reflect.InvocationHandler;
 import java.lang.reflect.Method;
+import java.util.Map;
 import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
 
@@ -39,9 +42,11 @@ class ConfigInvocationHandler implements InvocationHandler
 	private static final Object NULL = new Object();
 
 	private final ConfigManager manager;
-	private final Cache<Method, Object> cache = CacheBuilder.newBuilder()
-		.maximumSize(256)
-		.build();
+	// Value caches for each proxy class, each sized to the number of config items on its interface
+	private final Map<Class<?>, ValueCache> caches = new ConcurrentHashMap<>();
+	private final LongAdder hits = new LongAdder();
+	private final LongAdder misses = new LongAdder();
+	private final LongAdder invalidations = new LongAdder();
 
 	ConfigInvocationHandler(ConfigManager manager)
 	{
@@ -51,17 +56,24 @@ class ConfigInvocationHandler implements InvocationHandler
 	@Override
 	public Object invoke(Object proxy, Method method, Object[] args) throws Throwable
 	{
+		ValueCache cache = caches.get(proxy.getClass());
+		if (cache == null)
+		{
+			cache = caches.computeIfAbsent(proxy.getClass(), ValueCache::new);
+		}
+
 		// Use cached configuration value if available
 		if (args == null)
 		{
-			Object cachedValue = cache.getIfPresent(method);
+			Object cachedValue = cache.values.get(method);
 			if (cachedValue != null)
 			{
+				hits.increment();
 				return cachedValue == NULL ? null : cachedValue;
 			}
 		}
 
-		Class<?> iface = proxy.getClass().getInterfaces()[0];
+		Class<?> iface = cache.iface;
 
 		if ("toString".equals(method.getName()) && args == null)
 		{
@@ -95,7 +107,8 @@ class ConfigInvocationHandler implements InvocationHandler
 
 		if (args == null)
 		{
-			log.trace("cache miss (size: {}, group: {}, key: {})", cache.size(), group.value(), item.keyName());
+			misses.increment();
+			log.trace("cache miss (size: {}, group: {}, key: {})", cache.values.size(), group.value(), item.keyName());
 
 			// Getting configuration item
 			String value = manager.getConfiguration(group.value(), item.keyName());
@@ -105,11 +118,11 @@ class ConfigInvocationHandler implements InvocationHandler
 				if (method.isDefault())
 				{
 					Object defaultValue = callDefaultMethod(proxy, method, null);
-					cache.put(method, defaultValue == null ? NULL : defaultValue);
+					cache.values.put(method, defaultValue == null ? NULL : defaultValue);
 					return defaultValue;
 				}
 
-				cache.put(method, NULL);
+				cache.values.put(method, NULL);
 				return null;
 			}
 
@@ -117,7 +130,7 @@ class ConfigInvocationHandler implements InvocationHandler
 			try
 			{
 				Object objectValue = manager.stringToObject(value, method.getGenericReturnType());
-				cache.put(method, objectValue == null ? NULL : objectValue);
+				cache.values.put(method, objectValue == null ? NULL : objectValue);
 				return objectValue;
 			}
 			catch (Exception e)
@@ -187,6 +200,64 @@ class ConfigInvocationHandler implements InvocationHandler
 	void invalidate()
 	{
 		log.trace("cache invalidate");
-		cache.invalidateAll();
+		for (ValueCache cache : caches.values())
+		{
+			invalidations.add(cache.values.size());
+			cache.values.clear();
+		}
+	}
+
+	void invalidate(String group, String key)
+	{
+		log.trace("cache invalidate (group: {}, key: {})", group, key);
+		for (ValueCache cache : caches.values())
+		{
+			if (!group.equals(cache.group))
+			{
+				continue;
+			}
+
+			for (Method method : cache.methods.get(key))
+			{
+				if (cache.values.remove(method) != null)
+				{
+					invalidations.increment();
+				}
+			}
+		}
+	}
+
+	CacheStats stats()
+	{
+		return new CacheStats(hits.sum(), misses.sum(), 0, 0, 0, invalidations.sum());
+	}
+
+	private static class ValueCache
+	{
+		private final Class<?> iface;
+		private final String group;
+		// config key -> getters reading that key
+		private final ImmutableListMultimap<String, Method> methods;
+		private final Map<Method, Object> values;
+
+		ValueCache(Class<?> proxyClass)
+		{
+			iface = proxyClass.getInterfaces()[0];
+
+			ConfigGroup configGroup = iface.getAnnotation(ConfigGroup.class);
+			group = configGroup == null ? null : configGroup.value();
+
+			ImmutableListMultimap.Builder<String, Method> builder = ImmutableListMultimap.builder();
+			for (Method method : iface.getMethods())
+			{
+				ConfigItem item = method.getAnnotation(ConfigItem.class);
+				if (item != null && method.getParameterCount() == 0)
+				{
+					builder.put(item.keyName(), method);
+				}
+			}
+			methods = builder.build();
+			values = new ConcurrentHashMap<>(Math.max(methods.size(), 1));
+		}
 	}
 }
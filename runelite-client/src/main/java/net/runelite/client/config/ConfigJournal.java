@@ -0,0 +1,307 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.nio.charset.StandardCharsets;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Properties;
+import java.util.zip.CRC32;
+import javax.annotation.Nullable;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * An append only log of configuration changes made since the properties file was last written.
+ * Changes are coalesced in memory until {@link #flush(File)} appends them to the log, and the log
+ * is replayed on top of the properties file when the configuration is loaded.
+ */
+@Slf4j
+class ConfigJournal
+{
+	private static final int MAGIC = 0x524c434a;
+
+	private static final byte OP_SET = 0;
+	private static final byte OP_UNSET = 1;
+
+	// whole key -> value, or null for an unset
+	private final Map<String, String> pending = new LinkedHashMap<>();
+	// whether a change has been recorded since the last flush started
+	private boolean dirty;
+	// length of the journal file up to the end of the last complete append, or -1 if it hasn't been appended to
+	private long written = -1;
+
+	/**
+	 * Record a change to be appended on the next flush
+	 *
+	 * @param wholeKey the whole config key
+	 * @param value the new value, or null if the key was unset
+	 * @return true if this is the first change since the last flush started, and so a flush should be scheduled
+	 */
+	boolean put(String wholeKey, @Nullable String value)
+	{
+		synchronized (pending)
+		{
+			boolean first = !dirty;
+			dirty = true;
+			pending.put(wholeKey, value);
+			return first;
+		}
+	}
+
+	/**
+	 * Append all pending changes to the journal file and sync it to disk. If the write fails the
+	 * changes are kept pending, and are appended by the next flush. The partially written records of
+	 * a failed write are truncated, since replay stops at the first unreadable record.
+	 *
+	 * @param file journal file
+	 * @throws IOException
+	 */
+	synchronized void flush(File file) throws IOException
+	{
+		Map<String, String> changes;
+		synchronized (pending)
+		{
+			if (pending.isEmpty())
+			{
+				return;
+			}
+
+			changes = new LinkedHashMap<>(pending);
+			dirty = false;
+		}
+
+		ByteArrayOutputStream bout = new ByteArrayOutputStream();
+		DataOutputStream out = new DataOutputStream(bout);
+
+		ByteArrayOutputStream record = new ByteArrayOutputStream();
+		DataOutputStream recordOut = new DataOutputStream(record);
+		CRC32 crc = new CRC32();
+		for (Map.Entry<String, String> entry : changes.entrySet())
+		{
+			record.reset();
+			writeString(recordOut, entry.getKey());
+			if (entry.getValue() == null)
+			{
+				recordOut.writeByte(OP_UNSET);
+			}
+			else
+			{
+				recordOut.writeByte(OP_SET);
+				writeString(recordOut, entry.getValue());
+			}
+
+			crc.reset();
+			crc.update(record.toByteArray(), 0, record.size());
+
+			out.writeInt(record.size());
+			record.writeTo(out);
+			out.writeInt((int) crc.getValue());
+		}
+
+		file.getParentFile().mkdirs();
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			long length = raf.length();
+			if (written >= 0 && length > written)
+			{
+				// the torn tail of an earlier append which couldn't be truncated
+				log.warn("Discarding {} bytes of torn config journal records", length - written);
+				length = written;
+			}
+			written = length;
+
+			raf.setLength(length);
+			raf.seek(length);
+			try
+			{
+				if (length == 0)
+				{
+					raf.writeInt(MAGIC);
+				}
+				raf.write(bout.toByteArray());
+				raf.getChannel().force(true);
+			}
+			catch (IOException ex)
+			{
+				try
+				{
+					raf.setLength(length);
+				}
+				catch (IOException ex2)
+				{
+					ex.addSuppressed(ex2);
+				}
+				throw ex;
+			}
+			written = raf.length();
+		}
+
+		synchronized (pending)
+		{
+			// keep changes made to the same keys during the write
+			for (Map.Entry<String, String> entry : changes.entrySet())
+			{
+				pending.remove(entry.getKey(), entry.getValue());
+			}
+		}
+
+		log.debug("Appended {} changes to config journal", changes.size());
+	}
+
+	/**
+	 * Remove the journal file after its changes have been written out to the properties file.
+	 * Callers should hold the journal lock while writing the properties file, so that
+	 * no changes are appended between the write and the truncation.
+	 *
+	 * @param file journal file
+	 * @throws IOException
+	 */
+	synchronized void truncate(File file) throws IOException
+	{
+		if (file.exists() && !file.delete())
+		{
+			throw new IOException("unable to delete " + file);
+		}
+		written = -1;
+	}
+
+	/**
+	 * Apply the changes in the journal file to the given properties. A torn or corrupt tail, from
+	 * eg. a crash during a flush, is truncated so that future appends are readable.
+	 *
+	 * @param file journal file
+	 * @param properties properties to update
+	 * @return the number of changes replayed
+	 */
+	static int replay(File file, Properties properties)
+	{
+		if (!file.exists() || file.length() == 0)
+		{
+			return 0;
+		}
+
+		int count = 0;
+		// length of the readable prefix of the journal
+		long valid = 0;
+		try (DataInputStream in = new DataInputStream(new BufferedInputStream(new FileInputStream(file))))
+		{
+			if (in.readInt() == MAGIC)
+			{
+				valid = 4;
+			}
+
+			CRC32 crc = new CRC32();
+			while (valid > 0)
+			{
+				int length;
+				try
+				{
+					length = in.readInt();
+				}
+				catch (EOFException ex)
+				{
+					// clean end of journal
+					return count;
+				}
+
+				if (length <= 0 || length > file.length() - valid)
+				{
+					break;
+				}
+
+				byte[] record = new byte[length];
+				in.readFully(record);
+				int checksum = in.readInt();
+
+				crc.reset();
+				crc.update(record, 0, length);
+				if ((int) crc.getValue() != checksum)
+				{
+					break;
+				}
+
+				DataInputStream recordIn = new DataInputStream(new ByteArrayInputStream(record));
+				String key = readString(recordIn);
+				byte op = recordIn.readByte();
+				if (op == OP_SET)
+				{
+					properties.setProperty(key, readString(recordIn));
+				}
+				else
+				{
+					properties.remove(key);
+				}
+
+				valid += 4 + length + 4;
+				++count;
+			}
+		}
+		catch (EOFException ex)
+		{
+			// torn record
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to read config journal", ex);
+			return count;
+		}
+
+		log.warn("Config journal {} is corrupt after {} changes, truncating", file, count);
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(valid);
+		}
+		catch (IOException ex)
+		{
+			log.warn("Unable to truncate config journal", ex);
+		}
+		return count;
+	}
+
+	private static void writeString(DataOutputStream out, String s) throws IOException
+	{
+		byte[] b = s.getBytes(StandardCharsets.UTF_8);
+		out.writeInt(b.length);
+		out.write(b);
+	}
+
+	private static String readString(DataInputStream in) throws IOException
+	{
+		byte[] b = new byte[in.readInt()];
+		in.readFully(b);
+		return new String(b, StandardCharsets.UTF_8);
+	}
+}
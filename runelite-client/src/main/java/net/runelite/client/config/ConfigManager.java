@@ -26,6 +26,7 @@ package net.runelite.client.config;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Strings;
+import com.google.common.cache.CacheStats;
 import com.google.common.collect.ComparisonChain;
 import com.google.common.hash.Hasher;
 import com.google.common.hash.Hashing;
@@ -56,6 +57,7 @@ import java.text.DateFormat;
 import java.text.SimpleDateFormat;
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.Collections;
@@ -68,7 +70,9 @@ import java.util.Map;
 import java.util.Objects;
 import java.util.Properties;
 import java.util.Set;
+import java.util.SortedMap;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.Future;
 import java.util.concurrent.ScheduledExecutorService;
 import java.util.concurrent.TimeUnit;
@@ -94,6 +98,7 @@ import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.ClientShutdown;
 import net.runelite.client.events.ConfigChanged;
 import net.runelite.client.events.RuneScapeProfileChanged;
+import net.runelite.client.task.ExecutorManager;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.http.api.config.ConfigEntry;
 import net.runelite.http.api.config.Configuration;
@@ -116,8 +121,14 @@ public class ConfigManager
 	private static final int KEY_SPLITTER_PROFILE = 1;
 	private static final int KEY_SPLITTER_KEY = 2;
 
+	// delay before pending changes are appended to the config journal, coalescing rapid writes
+	private static final int JOURNAL_FLUSH_DELAY_SECONDS = 5;
+	// minimum size of the config journal before it is compacted into the properties file
+	private static final long JOURNAL_COMPACT_SIZE = 64 * 1024;
+
 	private final File settingsFileInput;
 	private final EventBus eventBus;
+	private final ScheduledExecutorService executor;
 	private final Gson gson;
 	@Nonnull
 	private final ConfigClient configClient;
@@ -130,8 +141,10 @@ public class ConfigManager
 
 	private final ConfigInvocationHandler handler = new ConfigInvocationHandler(this);
 	private final Map<String, String> pendingChanges = new HashMap<>();
+	private final ConfigJournal journal = new ConfigJournal();
 
-	private Properties properties = new Properties();
+	// whole key -> value, sorted so that key prefix lookups are range scans
+	private ConcurrentSkipListMap<String, String> properties = new ConcurrentSkipListMap<>();
 
 	// null => we need to make a new profile
 	@Nullable
@@ -140,7 +153,7 @@ public class ConfigManager
 	@Inject
 	public ConfigManager(
 		@Named("config") File config,
-		ScheduledExecutorService scheduledExecutorService,
+		@Named(ExecutorManager.DISK) ScheduledExecutorService scheduledExecutorService,
 		EventBus eventBus,
 		@Nullable Client client,
 		Gson gson,
@@ -148,6 +161,7 @@ public class ConfigManager
 	{
 		this.settingsFileInput = config;
 		this.eventBus = eventBus;
+		this.executor = scheduledExecutorService;
 		this.client = client;
 		this.propertiesFile = getPropertiesFile();
 		this.gson = gson;
@@ -240,7 +254,7 @@ public class ConfigManager
 
 		try
 		{
-			saveToFile(propertiesFile);
+			compact();
 
 			log.debug("Updated configuration on disk with the latest version");
 		}
@@ -252,23 +266,29 @@ public class ConfigManager
 
 	private void swapProperties(Properties newProperties, boolean saveToServer)
 	{
-		Set<Object> allKeys = new HashSet<>(newProperties.keySet());
+		ConcurrentSkipListMap<String, String> newMap = new ConcurrentSkipListMap<>();
+		for (String key : newProperties.stringPropertyNames())
+		{
+			newMap.put(key, newProperties.getProperty(key));
+		}
 
-		Properties oldProperties;
+		Set<String> allKeys = new HashSet<>(newMap.keySet());
+
+		ConcurrentSkipListMap<String, String> oldProperties;
 		synchronized (this)
 		{
 			handler.invalidate();
 			oldProperties = properties;
-			this.properties = newProperties;
+			this.properties = newMap;
 		}
 
 		updateRSProfile();
 
 		allKeys.addAll(oldProperties.keySet());
 
-		for (Object wholeKey : allKeys)
+		for (String wholeKey : allKeys)
 		{
-			String[] split = splitKey((String) wholeKey);
+			String[] split = splitKey(wholeKey);
 			if (split == null)
 			{
 				continue;
@@ -277,8 +297,8 @@ public class ConfigManager
 			String groupName = split[KEY_SPLITTER_GROUP];
 			String profile = split[KEY_SPLITTER_PROFILE];
 			String key = split[KEY_SPLITTER_KEY];
-			String oldValue = (String) oldProperties.get(wholeKey);
-			String newValue = (String) newProperties.get(wholeKey);
+			String oldValue = oldProperties.get(wholeKey);
+			String newValue = newMap.get(wholeKey);
 
 			if (Objects.equals(oldValue, newValue))
 			{
@@ -299,8 +319,9 @@ public class ConfigManager
 			{
 				synchronized (pendingChanges)
 				{
-					pendingChanges.put((String) wholeKey, newValue);
+					pendingChanges.put(wholeKey, newValue);
 				}
+				journalChange(wholeKey, newValue);
 			}
 		}
 	}
@@ -318,7 +339,8 @@ public class ConfigManager
 			return;
 		}
 
-		log.debug("Loading in config from disk for upload");
+		int changes = ConfigJournal.replay(getJournalFile(propertiesFile), properties);
+		log.debug("Loading in config from disk for upload, replayed {} journaled changes", changes);
 		swapProperties(properties, true);
 	}
 
@@ -363,7 +385,8 @@ public class ConfigManager
 			log.warn("Unable to load settings", ex);
 		}
 
-		log.debug("Loading in config from disk");
+		int changes = ConfigJournal.replay(getJournalFile(propertiesFile), newProperties);
+		log.debug("Loading in config from disk, replayed {} journaled changes", changes);
 		swapProperties(newProperties, false);
 	}
 
@@ -379,8 +402,11 @@ public class ConfigManager
 			FileChannel channel = out.getChannel();
 			OutputStreamWriter writer = new OutputStreamWriter(out, StandardCharsets.UTF_8))
 		{
+			Properties snapshot = new Properties();
+			snapshot.putAll(properties);
+
 			channel.lock();
-			properties.store(writer, "RuneLite configuration");
+			snapshot.store(writer, "RuneLite configuration");
 			channel.force(true);
 			// FileChannel.close() frees the lock
 		}
@@ -396,6 +422,69 @@ public class ConfigManager
 		}
 	}
 
+	private static File getJournalFile(File propertiesFile)
+	{
+		return new File(propertiesFile.getParentFile(), propertiesFile.getName() + ".journal");
+	}
+
+	private void journalChange(String wholeKey, String value)
+	{
+		if (journal.put(wholeKey, value))
+		{
+			executor.schedule(this::saveJournal, JOURNAL_FLUSH_DELAY_SECONDS, TimeUnit.SECONDS);
+		}
+	}
+
+	private void saveJournal()
+	{
+		File journalFile = getJournalFile(propertiesFile);
+		try
+		{
+			journal.flush(journalFile);
+
+			if (journalFile.length() > Math.max(JOURNAL_COMPACT_SIZE, propertiesFile.length()))
+			{
+				compact();
+			}
+		}
+		catch (IOException ex)
+		{
+			log.warn("unable to save configuration journal", ex);
+		}
+	}
+
+	/**
+	 * Write the full configuration to the properties file and discard the journal
+	 */
+	private void compact() throws IOException
+	{
+		// hold the journal lock so that no changes are appended between writing the properties and truncating
+		synchronized (journal)
+		{
+			saveToFile(propertiesFile);
+			journal.truncate(getJournalFile(propertiesFile));
+		}
+	}
+
+	private void invalidate(String groupName, String profile, String key)
+	{
+		// config proxies only read the profile-less keys
+		if (profile == null)
+		{
+			handler.invalidate(groupName, key);
+		}
+	}
+
+	/**
+	 * Get hit, miss, and eviction counts for the config proxy value cache
+	 *
+	 * @return config cache statistics
+	 */
+	public CacheStats getConfigCacheStats()
+	{
+		return handler.stats();
+	}
+
 	public <T extends Config> T getConfig(Class<T> clazz)
 	{
 		if (!Modifier.isPublic(clazz.getModifiers()))
@@ -411,12 +500,18 @@ public class ConfigManager
 		return t;
 	}
 
+	/**
+	 * Get the entries whose whole key starts with the given prefix
+	 */
+	private SortedMap<String, String> getPrefixed(String prefix)
+	{
+		// every key starting with prefix sorts below prefix followed by the maximum char
+		return properties.subMap(prefix, prefix + Character.MAX_VALUE);
+	}
+
 	public List<String> getConfigurationKeys(String prefix)
 	{
-		return properties.keySet().stream()
-			.map(String.class::cast)
-			.filter(k -> k.startsWith(prefix))
-			.collect(Collectors.toList());
+		return new ArrayList<>(getPrefixed(prefix).keySet());
 	}
 
 	public List<String> getRSProfileConfigurationKeys(String group, String profile, String keyPrefix)
@@ -429,9 +524,7 @@ public class ConfigManager
 		assert profile.startsWith(RSPROFILE_GROUP);
 
 		String prefix = group + "." + profile + "." + keyPrefix;
-		return properties.keySet().stream()
-			.map(String.class::cast)
-			.filter(k -> k.startsWith(prefix))
+		return getPrefixed(prefix).keySet().stream()
 			.map(k -> splitKey(k)[KEY_SPLITTER_KEY])
 			.collect(Collectors.toList());
 	}
@@ -466,7 +559,7 @@ public class ConfigManager
 
 	public String getConfiguration(String groupName, String profile, String key)
 	{
-		return properties.getProperty(getWholeKey(groupName, profile, key));
+		return properties.get(getWholeKey(groupName, profile, key));
 	}
 
 	public <T> T getConfiguration(String groupName, String key, Type clazz)
@@ -519,7 +612,7 @@ public class ConfigManager
 		String oldValue;
 		synchronized (this)
 		{
-			oldValue = (String) properties.setProperty(wholeKey, value);
+			oldValue = properties.put(wholeKey, value);
 		}
 
 		if (Objects.equals(oldValue, value))
@@ -528,12 +621,13 @@ public class ConfigManager
 		}
 
 		log.debug("Setting configuration value for {} to {}", wholeKey, value);
-		handler.invalidate();
+		invalidate(groupName, profile, key);
 
 		synchronized (pendingChanges)
 		{
 			pendingChanges.put(wholeKey, value);
 		}
+		journalChange(wholeKey, value);
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -605,7 +699,7 @@ public class ConfigManager
 		String oldValue;
 		synchronized (this)
 		{
-			oldValue = (String) properties.remove(wholeKey);
+			oldValue = properties.remove(wholeKey);
 		}
 
 		if (oldValue == null)
@@ -614,12 +708,13 @@ public class ConfigManager
 		}
 
 		log.debug("Unsetting configuration value for {}", wholeKey);
-		handler.invalidate();
+		invalidate(groupName, profile, key);
 
 		synchronized (pendingChanges)
 		{
 			pendingChanges.put(wholeKey, null);
 		}
+		journalChange(wholeKey, null);
 
 		ConfigChanged configChanged = new ConfigChanged();
 		configChanged.setGroup(groupName);
@@ -952,14 +1047,7 @@ public class ConfigManager
 			pendingChanges.clear();
 		}
 
-		try
-		{
-			saveToFile(propertiesFile);
-		}
-		catch (IOException ex)
-		{
-			log.warn("unable to save configuration file", ex);
-		}
+		saveJournal();
 
 		return future;
 	}
@@ -968,14 +1056,8 @@ public class ConfigManager
 	{
 		String prefix = RSPROFILE_GROUP + "." + RSPROFILE_GROUP + ".";
 		Set<String> profileKeys = new HashSet<>();
-		for (Object oKey : properties.keySet())
+		for (String key : getPrefixed(prefix).keySet())
 		{
-			String key = (String) oKey;
-			if (!key.startsWith(prefix))
-			{
-				continue;
-			}
-
 			String[] split = splitKey(key);
 			if (split == null)
 			{
@@ -419,6 +419,19 @@ public interface RuneLiteConfig extends Config
 		return ComponentConstants.STANDARD_BACKGROUND_COLOR;
 	}
 
+	@ConfigItem(
+		keyName = "overlayFrameBudget",
+		name = "Overlay frame budget",
+		description = "When overlays take longer than this to draw, overlays which allow it are redrawn less often. 0 to disable",
+		position = 45,
+		section = overlaySettings
+	)
+	@Units(Units.MILLISECONDS)
+	default int overlayFrameBudget()
+	{
+		return 0;
+	}
+
 	@ConfigItem(
 		keyName = "sidebarToggleKey",
 		name = "Sidebar Toggle Key",
@@ -26,8 +26,6 @@
 package net.runelite.client.eventbus;
 
 import com.google.common.base.Preconditions;
-import com.google.common.collect.ImmutableMultimap;
-import com.google.common.collect.Iterables;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -35,12 +33,29 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.Method;
 import java.lang.reflect.Modifier;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.function.Consumer;
+import java.util.function.Predicate;
 import javax.annotation.Nonnull;
 import javax.annotation.concurrent.ThreadSafe;
+import lombok.AccessLevel;
 import lombok.EqualsAndHashCode;
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
+import lombok.Setter;
+import lombok.ToString;
 import lombok.Value;
 import lombok.extern.slf4j.Slf4j;
 import net.runelite.client.util.ReflectUtil;
@@ -54,6 +69,11 @@ public class EventBus
 {
 	private static final Marker DEDUPLICATE = MarkerFactory.getMarker("DEDUPLICATE");
 
+	private static final Subscriber[] EMPTY = new Subscriber[0];
+
+	private static final Comparator<Subscriber> SUBSCRIBER_ORDER = Comparator.comparingDouble(Subscriber::getPriority).reversed()
+		.thenComparing(s -> s.object.getClass().getName());
+
 	@Value
 	public static class Subscriber
 	{
@@ -62,6 +82,19 @@ public class EventBus
 		private final float priority;
 		@EqualsAndHashCode.Exclude
 		private final Consumer<Object> lambda;
+		@EqualsAndHashCode.Exclude
+		@ToString.Exclude
+		@Getter(AccessLevel.NONE)
+		private final Timings timings = new Timings();
+
+		String getName()
+		{
+			if (method != null)
+			{
+				return method.getDeclaringClass().getName() + "." + method.getName();
+			}
+			return object.getClass().getName();
+		}
 
 		void invoke(final Object arg) throws Exception
 		{
@@ -76,10 +109,63 @@ public class EventBus
 		}
 	}
 
+	/**
+	 * Dispatch statistics for a single subscriber, recorded while profiling is enabled
+	 */
+	@Value
+	public static class SubscriberStats
+	{
+		private final Class<?> eventClass;
+		private final String subscriber;
+		private final long count;
+		private final long totalNanos;
+		private final long maxNanos;
+	}
+
+	private static class Timings
+	{
+		private final LongAdder count = new LongAdder();
+		private final LongAdder totalNanos = new LongAdder();
+		private final AtomicLong maxNanos = new AtomicLong();
+
+		void record(long nanos)
+		{
+			count.increment();
+			totalNanos.add(nanos);
+			if (nanos > maxNanos.get())
+			{
+				maxNanos.accumulateAndGet(nanos, Math::max);
+			}
+		}
+
+		void reset()
+		{
+			count.reset();
+			totalNanos.reset();
+			maxNanos.set(0);
+		}
+	}
+
 	private final Consumer<Throwable> exceptionHandler;
 
-	@Nonnull
-	private ImmutableMultimap<Class<?>, Subscriber> subscribers = ImmutableMultimap.of();
+	/**
+	 * Whether to record per subscriber dispatch counts and timings
+	 */
+	@Getter
+	@Setter
+	private volatile boolean profiling;
+
+	/**
+	 * Subscribers for each event class, sorted in dispatch order. The arrays are never modified once
+	 * published; registering and unregistering swap in a new array for just the affected event classes.
+	 */
+	private final Map<Class<?>, Subscriber[]> subscribers = new ConcurrentHashMap<>();
+
+	/**
+	 * Event classes each registered object is subscribed to, so that unregistering only has to
+	 * rebuild the subscribers of those classes. Guarded by this.
+	 */
+	private final Map<Object, Set<Class<?>>> registrations = new IdentityHashMap<>();
 
 	/**
 	 * Instantiates EventBus with default exception handler
@@ -98,10 +184,8 @@ public class EventBus
 	 */
 	public synchronized void register(@Nonnull final Object object)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
+		// validate every subscriber method before publishing any of them
+		final Map<Class<?>, List<Subscriber>> added = new LinkedHashMap<>();
 
 		for (Class<?> clazz = object.getClass(); clazz != null; clazz = clazz.getSuperclass())
 		{
@@ -159,27 +243,80 @@ public class EventBus
 				}
 
 				final Subscriber subscriber = new Subscriber(object, method, sub.priority(), lambda);
-				builder.put(parameterClazz, subscriber);
+				added.computeIfAbsent(parameterClazz, k -> new ArrayList<>()).add(subscriber);
 				log.debug("Registering {} - {}", parameterClazz, subscriber);
 			}
 		}
 
-		subscribers = builder.build();
+		for (Map.Entry<Class<?>, List<Subscriber>> entry : added.entrySet())
+		{
+			add(entry.getKey(), entry.getValue());
+		}
+
+		if (!added.isEmpty())
+		{
+			registrations.computeIfAbsent(object, k -> new HashSet<>()).addAll(added.keySet());
+		}
 	}
 
 	public synchronized <T> Subscriber register(Class<T> clazz, Consumer<T> subFn, float priority)
 	{
-		final ImmutableMultimap.Builder<Class<?>, Subscriber> builder = ImmutableMultimap.builder();
-		builder.putAll(subscribers);
-		builder.orderValuesBy(Comparator.comparingDouble(Subscriber::getPriority).reversed()
-			.thenComparing(s -> s.object.getClass().getName()));
-
 		Subscriber sub = new Subscriber(subFn, null, priority, (Consumer<Object>) subFn);
-		builder.put(clazz, sub);
+		add(clazz, Collections.singletonList(sub));
+		registrations.computeIfAbsent(subFn, k -> new HashSet<>()).add(clazz);
+		return sub;
+	}
 
-		subscribers = builder.build();
+	private void add(Class<?> clazz, List<Subscriber> added)
+	{
+		final List<Subscriber> updated = new ArrayList<>(Arrays.asList(subscribers.getOrDefault(clazz, EMPTY)));
+		for (Subscriber subscriber : added)
+		{
+			// insert after any subscribers which sort equal, so ties dispatch in registration order
+			int idx = updated.size();
+			while (idx > 0 && SUBSCRIBER_ORDER.compare(updated.get(idx - 1), subscriber) > 0)
+			{
+				--idx;
+			}
+			updated.add(idx, subscriber);
+		}
+		subscribers.put(clazz, updated.toArray(EMPTY));
+	}
 
-		return sub;
+	/**
+	 * Remove the subscribers matching the filter from the given event classes
+	 *
+	 * @return the event classes which still have a subscriber of {@code object}
+	 */
+	private Set<Class<?>> remove(Object object, Set<Class<?>> classes, Predicate<Subscriber> filter)
+	{
+		final Set<Class<?>> remaining = new HashSet<>();
+		for (Class<?> clazz : classes)
+		{
+			final Subscriber[] current = subscribers.get(clazz);
+			if (current == null)
+			{
+				continue;
+			}
+
+			final Subscriber[] updated = Arrays.stream(current)
+				.filter(filter.negate())
+				.toArray(Subscriber[]::new);
+			if (updated.length == 0)
+			{
+				subscribers.remove(clazz);
+			}
+			else if (updated.length != current.length)
+			{
+				subscribers.put(clazz, updated);
+			}
+
+			if (Arrays.stream(updated).anyMatch(s -> s.getObject() == object))
+			{
+				remaining.add(clazz);
+			}
+		}
+		return remaining;
 	}
 
 	/**
@@ -189,10 +326,11 @@ public class EventBus
 	 */
 	public synchronized void unregister(@Nonnull final Object object)
 	{
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> e.getValue().getObject() != object
-		));
+		final Set<Class<?>> classes = registrations.remove(object);
+		if (classes != null)
+		{
+			remove(object, classes, s -> s.getObject() == object);
+		}
 	}
 
 	public synchronized void unregister(Subscriber sub)
@@ -202,10 +340,22 @@ public class EventBus
 			return;
 		}
 
-		subscribers = ImmutableMultimap.copyOf(Iterables.filter(
-			subscribers.entries(),
-			e -> sub != e.getValue()
-		));
+		final Object object = sub.getObject();
+		final Set<Class<?>> classes = registrations.get(object);
+		if (classes == null)
+		{
+			return;
+		}
+
+		final Set<Class<?>> remaining = remove(object, classes, s -> s == sub);
+		if (remaining.isEmpty())
+		{
+			registrations.remove(object);
+		}
+		else
+		{
+			registrations.put(object, remaining);
+		}
 	}
 
 	/**
@@ -216,8 +366,36 @@ public class EventBus
 	 */
 	public void post(@Nonnull final Object event)
 	{
-		for (final Subscriber subscriber : subscribers.get(event.getClass()))
+		final Subscriber[] subs = subscribers.get(event.getClass());
+		if (subs == null)
+		{
+			return;
+		}
+
+		if (profiling)
+		{
+			postProfiled(event, subs);
+			return;
+		}
+
+		for (final Subscriber subscriber : subs)
+		{
+			try
+			{
+				subscriber.invoke(event);
+			}
+			catch (Exception e)
+			{
+				exceptionHandler.accept(e);
+			}
+		}
+	}
+
+	private void postProfiled(final Object event, final Subscriber[] subs)
+	{
+		for (final Subscriber subscriber : subs)
 		{
+			final long start = System.nanoTime();
 			try
 			{
 				subscriber.invoke(event);
@@ -226,6 +404,67 @@ public class EventBus
 			{
 				exceptionHandler.accept(e);
 			}
+			finally
+			{
+				subscriber.timings.record(System.nanoTime() - start);
+			}
+		}
+	}
+
+	/**
+	 * Get the dispatch statistics of the currently registered subscribers which have been
+	 * invoked while profiling was enabled, ordered by total time descending.
+	 *
+	 * @return subscriber statistics
+	 */
+	public List<SubscriberStats> getStats()
+	{
+		final List<SubscriberStats> stats = new ArrayList<>();
+		for (Map.Entry<Class<?>, Subscriber[]> entry : subscribers.entrySet())
+		{
+			for (Subscriber subscriber : entry.getValue())
+			{
+				final Timings timings = subscriber.timings;
+				final long count = timings.count.sum();
+				if (count > 0)
+				{
+					stats.add(new SubscriberStats(entry.getKey(), subscriber.getName(), count, timings.totalNanos.sum(), timings.maxNanos.get()));
+				}
+			}
+		}
+		stats.sort(Comparator.comparingLong(SubscriberStats::getTotalNanos).reversed());
+		return stats;
+	}
+
+	/**
+	 * Clear the dispatch statistics of all registered subscribers
+	 */
+	public void resetStats()
+	{
+		for (Subscriber[] subs : subscribers.values())
+		{
+			for (Subscriber subscriber : subs)
+			{
+				subscriber.timings.reset();
+			}
+		}
+	}
+
+	/**
+	 * Log the dispatch statistics of the subscribers which have used the most time
+	 *
+	 * @param limit maximum number of subscribers to log
+	 */
+	public void logStats(int limit)
+	{
+		final List<SubscriberStats> stats = getStats();
+		final StringBuilder sb = new StringBuilder("Event subscriber timings (event, subscriber, calls, total ms, avg us, max us):");
+		for (SubscriberStats stat : stats.subList(0, Math.min(limit, stats.size())))
+		{
+			sb.append(String.format("%n  %s %s %d %.1f %.1f %.1f",
+				stat.getEventClass().getSimpleName(), stat.getSubscriber(), stat.getCount(),
+				stat.getTotalNanos() / 1e6, stat.getTotalNanos() / 1e3 / stat.getCount(), stat.getMaxNanos() / 1e3));
 		}
+		log.info(sb.toString());
 	}
 }
@@ -31,6 +31,8 @@ import java.awt.Dimension;
 import java.awt.Graphics2D;
 import java.awt.Polygon;
 import java.awt.Shape;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Map;
 import java.util.function.Predicate;
 import net.runelite.api.Client;
@@ -52,6 +54,11 @@ class NpcOverlay extends Overlay
 	private final ModelOutlineRenderer modelOutlineRenderer;
 	private final Map<NPC, HighlightedNpc> highlightedNpcs;
 
+	// NPCs to be outlined after the other highlights are drawn, and named after the outlines
+	private final List<HighlightedNpc> outlinedNpcs = new ArrayList<>();
+	private final List<NPC> outlineBatch = new ArrayList<>();
+	private final List<HighlightedNpc> namedNpcs = new ArrayList<>();
+
 	NpcOverlay(Client client, ModelOutlineRenderer modelOutlineRenderer, Map<NPC, HighlightedNpc> highlightedNpcs)
 	{
 		this.client = client;
@@ -69,9 +76,71 @@ class NpcOverlay extends Overlay
 			renderNpcOverlay(graphics, highlightedNpc);
 		}
 
+		renderOutlines();
+		renderNames(graphics);
 		return null;
 	}
 
+	private void renderOutlines()
+	{
+		try
+		{
+			// NPCs with the same outline are outlined together, which is much faster than outlining them one at a time
+			for (int i = 0; i < outlinedNpcs.size(); i++)
+			{
+				final HighlightedNpc highlightedNpc = outlinedNpcs.get(i);
+				if (highlightedNpc == null)
+				{
+					continue;
+				}
+
+				for (int j = i; j < outlinedNpcs.size(); j++)
+				{
+					final HighlightedNpc other = outlinedNpcs.get(j);
+					if (other != null
+						&& (int) other.getBorderWidth() == (int) highlightedNpc.getBorderWidth()
+						&& other.getOutlineFeather() == highlightedNpc.getOutlineFeather()
+						&& other.getHighlightColor().equals(highlightedNpc.getHighlightColor()))
+					{
+						outlineBatch.add(other.getNpc());
+						outlinedNpcs.set(j, null);
+					}
+				}
+
+				modelOutlineRenderer.drawNpcOutlines(outlineBatch, (int) highlightedNpc.getBorderWidth(),
+					highlightedNpc.getHighlightColor(), highlightedNpc.getOutlineFeather());
+				outlineBatch.clear();
+			}
+		}
+		finally
+		{
+			outlinedNpcs.clear();
+			outlineBatch.clear();
+		}
+	}
+
+	private void renderNames(Graphics2D graphics)
+	{
+		try
+		{
+			for (HighlightedNpc highlightedNpc : namedNpcs)
+			{
+				NPC actor = highlightedNpc.getNpc();
+				String npcName = Text.removeTags(actor.getName());
+				Point textLocation = actor.getCanvasTextLocation(graphics, npcName, actor.getLogicalHeight() + 40);
+
+				if (textLocation != null)
+				{
+					OverlayUtil.renderTextLocation(graphics, textLocation, npcName, highlightedNpc.getHighlightColor());
+				}
+			}
+		}
+		finally
+		{
+			namedNpcs.clear();
+		}
+	}
+
 	private void renderNpcOverlay(Graphics2D graphics, HighlightedNpc highlightedNpc)
 	{
 		NPC actor = highlightedNpc.getNpc();
@@ -118,18 +187,12 @@ class NpcOverlay extends Overlay
 
 		if (highlightedNpc.isOutline())
 		{
-			modelOutlineRenderer.drawOutline(actor, (int) highlightedNpc.getBorderWidth(), borderColor, highlightedNpc.getOutlineFeather());
+			outlinedNpcs.add(highlightedNpc);
 		}
 
 		if (highlightedNpc.isName() && actor.getName() != null)
 		{
-			String npcName = Text.removeTags(actor.getName());
-			Point textLocation = actor.getCanvasTextLocation(graphics, npcName, actor.getLogicalHeight() + 40);
-
-			if (textLocation != null)
-			{
-				OverlayUtil.renderTextLocation(graphics, textLocation, npcName, borderColor);
-			}
+			namedNpcs.add(highlightedNpc);
 		}
 	}
 
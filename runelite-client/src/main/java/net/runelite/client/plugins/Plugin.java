@@ -49,6 +49,16 @@ public abstract class Plugin implements Module
 	{
 	}
 
+	/**
+	 * Called before each {@link #startUp()}, off the event dispatch thread when the client is starting.
+	 * Plugins may override this for startup work which is safe to do from any thread, such as loading
+	 * resources, but must not touch Swing components or wait on the event dispatch thread here.
+	 * Plugin dependencies may not have been started yet when this is called.
+	 */
+	protected void preStartUp() throws Exception
+	{
+	}
+
 	protected void startUp() throws Exception
 	{
 	}
@@ -0,0 +1,143 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Index of the plugins in a jar, generated at build time by {@link PluginIndexProcessor}
+ * so that plugins can be found without scanning and loading every class on the classpath.
+ * <p>
+ * The index is a UTF-8 text file with one tab separated line per plugin:
+ * the binary class name, the {@link PluginDescriptor} name, configName, developerPlugin,
+ * loadWhenOutdated and loadInSafeMode values, and a comma separated list of the classes
+ * from its {@link PluginDependency} annotations.
+ * <p>
+ * This is compiled together with the processor before the rest of the client, without
+ * lombok, so it must only depend on the JDK.
+ */
+final class PluginIndex
+{
+	static final String RESOURCE = "META-INF/runelite/plugins.idx";
+
+	private static final String HEADER = "# runelite plugin index v1";
+	private static final int FIELDS = 7;
+
+	static final class Entry
+	{
+		final String className;
+		final String name;
+		final String configName;
+		final boolean developerPlugin;
+		final boolean loadWhenOutdated;
+		final boolean loadInSafeMode;
+		final List<String> dependencies;
+
+		Entry(String className, String name, String configName, boolean developerPlugin, boolean loadWhenOutdated,
+			boolean loadInSafeMode, List<String> dependencies)
+		{
+			this.className = className;
+			this.name = name;
+			this.configName = configName;
+			this.developerPlugin = developerPlugin;
+			this.loadWhenOutdated = loadWhenOutdated;
+			this.loadInSafeMode = loadInSafeMode;
+			this.dependencies = Collections.unmodifiableList(new ArrayList<>(dependencies));
+		}
+	}
+
+	private PluginIndex()
+	{
+	}
+
+	static List<Entry> read(InputStream in) throws IOException
+	{
+		BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+		List<Entry> entries = new ArrayList<>();
+		String line;
+		while ((line = reader.readLine()) != null)
+		{
+			if (line.isEmpty() || line.startsWith("#"))
+			{
+				continue;
+			}
+
+			String[] fields = line.split("\t", -1);
+			if (fields.length != FIELDS)
+			{
+				throw new IOException("malformed plugin index entry: " + line);
+			}
+
+			List<String> dependencies = fields[6].isEmpty()
+				? Collections.emptyList()
+				: Arrays.asList(fields[6].split(","));
+			entries.add(new Entry(fields[0], fields[1], fields[2],
+				Boolean.parseBoolean(fields[3]), Boolean.parseBoolean(fields[4]), Boolean.parseBoolean(fields[5]),
+				dependencies));
+		}
+		return entries;
+	}
+
+	static void write(OutputStream out, List<Entry> entries) throws IOException
+	{
+		Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+		writer.write(HEADER);
+		writer.write('\n');
+		for (Entry entry : entries)
+		{
+			writer.write(entry.className);
+			writer.write('\t');
+			writer.write(clean(entry.name));
+			writer.write('\t');
+			writer.write(clean(entry.configName));
+			writer.write('\t');
+			writer.write(Boolean.toString(entry.developerPlugin));
+			writer.write('\t');
+			writer.write(Boolean.toString(entry.loadWhenOutdated));
+			writer.write('\t');
+			writer.write(Boolean.toString(entry.loadInSafeMode));
+			writer.write('\t');
+			writer.write(String.join(",", entry.dependencies));
+			writer.write('\n');
+		}
+		writer.flush();
+	}
+
+	private static String clean(String s)
+	{
+		return s.replace('\t', ' ').replace('\n', ' ').replace('\r', ' ');
+	}
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+import javax.annotation.processing.AbstractProcessor;
+import javax.annotation.processing.RoundEnvironment;
+import javax.annotation.processing.SupportedAnnotationTypes;
+import javax.lang.model.SourceVersion;
+import javax.lang.model.element.AnnotationMirror;
+import javax.lang.model.element.AnnotationValue;
+import javax.lang.model.element.Element;
+import javax.lang.model.element.ElementKind;
+import javax.lang.model.element.ExecutableElement;
+import javax.lang.model.element.TypeElement;
+import javax.lang.model.type.DeclaredType;
+import javax.lang.model.type.TypeMirror;
+import javax.tools.Diagnostic;
+import javax.tools.FileObject;
+import javax.tools.StandardLocation;
+
+/**
+ * Writes the {@link PluginIndex} for the {@link PluginDescriptor} annotated classes in a compilation.
+ * <p>
+ * Annotation values are read from the mirrors instead of the annotation classes, so the processor
+ * can run before the rest of the client has been compiled.
+ */
+@SupportedAnnotationTypes(PluginIndexProcessor.PLUGIN_DESCRIPTOR)
+public class PluginIndexProcessor extends AbstractProcessor
+{
+	static final String PLUGIN_DESCRIPTOR = "net.runelite.client.plugins.PluginDescriptor";
+	static final String PLUGIN_DEPENDENCY = "net.runelite.client.plugins.PluginDependency";
+	static final String PLUGIN_DEPENDENCIES = "net.runelite.client.plugins.PluginDependencies";
+
+	// binary class name -> entry, sorted so the output is reproducible
+	private final Map<String, PluginIndex.Entry> entries = new TreeMap<>();
+	// classes compiled in this run, whose previous index entries are stale
+	private final Set<String> compiled = new HashSet<>();
+
+	@Override
+	public SourceVersion getSupportedSourceVersion()
+	{
+		return SourceVersion.latestSupported();
+	}
+
+	@Override
+	public boolean process(Set<? extends TypeElement> annotations, RoundEnvironment roundEnv)
+	{
+		for (Element element : roundEnv.getRootElements())
+		{
+			if (element instanceof TypeElement)
+			{
+				compiled.add(binaryName((TypeElement) element));
+			}
+		}
+
+		TypeElement descriptor = processingEnv.getElementUtils().getTypeElement(PLUGIN_DESCRIPTOR);
+		if (descriptor != null)
+		{
+			for (Element element : roundEnv.getElementsAnnotatedWith(descriptor))
+			{
+				if (element.getKind() != ElementKind.CLASS)
+				{
+					processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "@PluginDescriptor on non-class", element);
+					continue;
+				}
+
+				TypeElement type = (TypeElement) element;
+				compiled.add(binaryName(type));
+				entries.put(binaryName(type), entry(type));
+			}
+		}
+
+		if (roundEnv.processingOver())
+		{
+			write();
+		}
+		return false;
+	}
+
+	private PluginIndex.Entry entry(TypeElement type)
+	{
+		String name = null;
+		String configName = "";
+		boolean developerPlugin = false;
+		boolean loadWhenOutdated = false;
+		boolean loadInSafeMode = true;
+		List<String> dependencies = new ArrayList<>();
+
+		for (AnnotationMirror mirror : type.getAnnotationMirrors())
+		{
+			String annotation = ((TypeElement) mirror.getAnnotationType().asElement()).getQualifiedName().toString();
+			switch (annotation)
+			{
+				case PLUGIN_DESCRIPTOR:
+					for (Map.Entry<? extends ExecutableElement, ? extends AnnotationValue> value :
+						processingEnv.getElementUtils().getElementValuesWithDefaults(mirror).entrySet())
+					{
+						Object v = value.getValue().getValue();
+						switch (value.getKey().getSimpleName().toString())
+						{
+							case "name":
+								name = (String) v;
+								break;
+							case "configName":
+								configName = (String) v;
+								break;
+							case "developerPlugin":
+								developerPlugin = (Boolean) v;
+								break;
+							case "loadWhenOutdated":
+								loadWhenOutdated = (Boolean) v;
+								break;
+							case "loadInSafeMode":
+								loadInSafeMode = (Boolean) v;
+								break;
+						}
+					}
+					break;
+				case PLUGIN_DEPENDENCY:
+					dependencies.add(dependency(mirror));
+					break;
+				case PLUGIN_DEPENDENCIES:
+					for (AnnotationValue value : mirror.getElementValues().values())
+					{
+						for (Object dependency : (List<?>) value.getValue())
+						{
+							dependencies.add(dependency((AnnotationMirror) ((AnnotationValue) dependency).getValue()));
+						}
+					}
+					break;
+			}
+		}
+
+		return new PluginIndex.Entry(binaryName(type), name, configName, developerPlugin, loadWhenOutdated, loadInSafeMode, dependencies);
+	}
+
+	private String dependency(AnnotationMirror pluginDependency)
+	{
+		for (AnnotationValue value : pluginDependency.getElementValues().values())
+		{
+			TypeMirror type = (TypeMirror) value.getValue();
+			return binaryName((TypeElement) ((DeclaredType) type).asElement());
+		}
+		throw new IllegalStateException("@PluginDependency without a value");
+	}
+
+	private String binaryName(TypeElement type)
+	{
+		return processingEnv.getElementUtils().getBinaryName(type).toString();
+	}
+
+	private void write()
+	{
+		// Keep the entries from a previous index for classes which were not recompiled, so an
+		// incremental compile of a few files does not drop the rest of the plugins
+		for (PluginIndex.Entry entry : readPrevious())
+		{
+			if (!compiled.contains(entry.className)
+				&& processingEnv.getElementUtils().getTypeElement(entry.className.replace('$', '.')) != null)
+			{
+				entries.putIfAbsent(entry.className, entry);
+			}
+		}
+
+		if (entries.isEmpty())
+		{
+			return;
+		}
+
+		try
+		{
+			FileObject file = processingEnv.getFiler().createResource(StandardLocation.CLASS_OUTPUT, "", PluginIndex.RESOURCE);
+			try (OutputStream out = file.openOutputStream())
+			{
+				PluginIndex.write(out, new ArrayList<>(entries.values()));
+			}
+		}
+		catch (IOException ex)
+		{
+			processingEnv.getMessager().printMessage(Diagnostic.Kind.ERROR, "Unable to write plugin index: " + ex);
+		}
+	}
+
+	private List<PluginIndex.Entry> readPrevious()
+	{
+		try
+		{
+			FileObject file = processingEnv.getFiler().getResource(StandardLocation.CLASS_OUTPUT, "", PluginIndex.RESOURCE);
+			try (InputStream in = file.openInputStream())
+			{
+				return PluginIndex.read(in);
+			}
+		}
+		catch (IOException | IllegalArgumentException ex)
+		{
+			// no previous index
+			return Collections.emptyList();
+		}
+	}
+}
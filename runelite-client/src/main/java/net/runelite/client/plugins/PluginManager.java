@@ -39,6 +39,7 @@ import com.google.inject.Key;
 import com.google.inject.Module;
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
 import java.lang.invoke.CallSite;
 import java.lang.invoke.LambdaMetafactory;
 import java.lang.invoke.MethodHandle;
@@ -46,15 +47,26 @@ import java.lang.invoke.MethodHandles;
 import java.lang.invoke.MethodType;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.net.URL;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
+import java.util.ListIterator;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiConsumer;
 import java.util.stream.Collectors;
 import javax.inject.Inject;
@@ -73,6 +85,7 @@ import net.runelite.client.eventbus.Subscribe;
 import net.runelite.client.events.PluginChanged;
 import net.runelite.client.events.SessionClose;
 import net.runelite.client.events.SessionOpen;
+import net.runelite.client.task.ExecutorManager;
 import net.runelite.client.task.Schedule;
 import net.runelite.client.task.ScheduledMethod;
 import net.runelite.client.task.Scheduler;
@@ -88,6 +101,9 @@ public class PluginManager
 	 * Base package where the core plugins are
 	 */
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+	// how long to hold the event dispatch thread when starting a batch of plugins
+	private static final long EDT_BATCH_NANOS = TimeUnit.MILLISECONDS.toNanos(50);
+	private static final int STARTUP_REPORT_LIMIT = 10;
 	private static final File SIDELOADED_PLUGINS = new File(RuneLite.RUNELITE_DIR, "sideloaded-plugins");
 
 	private final boolean developerMode;
@@ -96,8 +112,14 @@ public class PluginManager
 	private final Scheduler scheduler;
 	private final ConfigManager configManager;
 	private final Provider<GameEventManager> sceneTileManager;
+	// instantiation and preStartUp run here, off the event dispatch thread
+	private final ScheduledExecutorService executor;
 	private final List<Plugin> plugins = new CopyOnWriteArrayList<>();
 	private final List<Plugin> activePlugins = new CopyOnWriteArrayList<>();
+	// preStartUp tasks run ahead of startPlugins, consumed by startPlugin
+	private final Map<Plugin, CompletableFuture<Void>> preStartedPlugins = new ConcurrentHashMap<>();
+	private final Map<Plugin, StartupTiming> startupTimings = new ConcurrentHashMap<>();
+	private volatile boolean startupComplete;
 
 	@Setter
 	boolean isOutdated;
@@ -110,7 +132,8 @@ public class PluginManager
 		final EventBus eventBus,
 		final Scheduler scheduler,
 		final ConfigManager configManager,
-		final Provider<GameEventManager> sceneTileManager)
+		final Provider<GameEventManager> sceneTileManager,
+		@Named(ExecutorManager.CPU) final ScheduledExecutorService executor)
 	{
 		this.developerMode = developerMode;
 		this.safeMode = safeMode;
@@ -118,6 +141,7 @@ public class PluginManager
 		this.scheduler = scheduler;
 		this.configManager = configManager;
 		this.sceneTileManager = sceneTileManager;
+		this.executor = executor;
 	}
 
 	@Subscribe
@@ -236,42 +260,147 @@ public class PluginManager
 	public void startPlugins()
 	{
 		List<Plugin> scannedPlugins = new ArrayList<>(plugins);
-		int loaded = 0;
-		for (Plugin plugin : scannedPlugins)
+		long startTime = System.nanoTime();
+
+		try
 		{
-			try
+			// Run the thread-safe part of startup for every plugin which is going to start up front,
+			// so the event dispatch thread only has to wait for the slow ones
+			for (Plugin plugin : findPluginsToStart(scannedPlugins))
 			{
-				SwingUtilities.invokeAndWait(() ->
+				preStartedPlugins.put(plugin, CompletableFuture.runAsync(() ->
 				{
+					long start = System.nanoTime();
 					try
 					{
-						startPlugin(plugin);
+						plugin.preStartUp();
+					}
+					catch (Exception ex)
+					{
+						throw new CompletionException(ex);
 					}
-					catch (PluginInstantiationException ex)
+					finally
 					{
-						log.warn("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
-						plugins.remove(plugin);
+						timing(plugin).preStartUpNanos = System.nanoTime() - start;
 					}
-				});
+				}, executor));
 			}
-			catch (InterruptedException | InvocationTargetException e)
+
+			// Start the plugins in batches on the event dispatch thread, returning to it between
+			// batches so the splash screen stays responsive
+			ListIterator<Plugin> it = scannedPlugins.listIterator();
+			while (it.hasNext())
 			{
-				throw new RuntimeException(e);
+				try
+				{
+					SwingUtilities.invokeAndWait(() ->
+					{
+						long batchEnd = System.nanoTime() + EDT_BATCH_NANOS;
+						do
+						{
+							Plugin plugin = it.next();
+							long start = System.nanoTime();
+							try
+							{
+								startPlugin(plugin);
+							}
+							catch (PluginInstantiationException ex)
+							{
+								log.warn("Unable to start plugin {}", plugin.getClass().getSimpleName(), ex);
+								plugins.remove(plugin);
+							}
+							finally
+							{
+								timing(plugin).startUpNanos = System.nanoTime() - start;
+							}
+						}
+						while (it.hasNext() && System.nanoTime() < batchEnd);
+					});
+				}
+				catch (InterruptedException | InvocationTargetException e)
+				{
+					throw new RuntimeException(e);
+				}
+
+				SplashScreen.stage(.80, 1, null, "Starting plugins", it.nextIndex(), scannedPlugins.size(), false);
 			}
+		}
+		finally
+		{
+			preStartedPlugins.clear();
+		}
 
-			loaded++;
-			SplashScreen.stage(.80, 1, null, "Starting plugins", loaded, scannedPlugins.size(), false);
+		startupComplete = true;
+		logStartupTimings(System.nanoTime() - startTime);
+	}
+
+	/**
+	 * Find the plugins which starting each of the given plugins in order would start. A plugin
+	 * disables the plugins it conflicts with when it starts, so those later in the order don't start.
+	 */
+	private List<Plugin> findPluginsToStart(List<Plugin> scannedPlugins)
+	{
+		List<Plugin> toStart = new ArrayList<>();
+		Set<Plugin> disabled = new HashSet<>();
+		for (Plugin plugin : scannedPlugins)
+		{
+			if (activePlugins.contains(plugin) || disabled.contains(plugin) || !isPluginEnabled(plugin))
+			{
+				continue;
+			}
+
+			toStart.add(plugin);
+			disabled.addAll(conflictsForPlugin(plugin));
+		}
+		return toStart;
+	}
+
+	private void logStartupTimings(long totalNanos)
+	{
+		List<Map.Entry<Plugin, StartupTiming>> timings = new ArrayList<>(startupTimings.entrySet());
+		startupTimings.clear();
+		timings.sort(Comparator.comparingLong((Map.Entry<Plugin, StartupTiming> e) -> e.getValue().total()).reversed());
+
+		log.info("Started {} plugins in {}ms", timings.size(), TimeUnit.NANOSECONDS.toMillis(totalNanos));
+		for (int i = 0; i < timings.size(); ++i)
+		{
+			Plugin plugin = timings.get(i).getKey();
+			StartupTiming timing = timings.get(i).getValue();
+			String line = String.format("  %s: instantiate %dms, preStartUp %dms, startUp %dms",
+				plugin.getClass().getSimpleName(),
+				TimeUnit.NANOSECONDS.toMillis(timing.instantiateNanos),
+				TimeUnit.NANOSECONDS.toMillis(timing.preStartUpNanos),
+				TimeUnit.NANOSECONDS.toMillis(timing.startUpNanos));
+			if (i < STARTUP_REPORT_LIMIT)
+			{
+				log.info(line);
+			}
+			else
+			{
+				log.debug(line);
+			}
 		}
 	}
 
+	private StartupTiming timing(Plugin plugin)
+	{
+		// plugins loaded after startup, eg. from the plugin hub, are not reported
+		return startupComplete ? new StartupTiming() : startupTimings.computeIfAbsent(plugin, p -> new StartupTiming());
+	}
+
 	public void loadCorePlugins() throws IOException, PluginInstantiationException
 	{
 		SplashScreen.stage(.59, null, "Loading Plugins");
-		ClassPath classPath = ClassPath.from(getClass().getClassLoader());
+		ClassLoader classLoader = getClass().getClassLoader();
 
-		List<Class<?>> plugins = classPath.getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
-			.map(ClassInfo::load)
-			.collect(Collectors.toList());
+		List<Class<?>> plugins = loadPluginIndex(classLoader, PLUGIN_PACKAGE);
+		if (plugins == null)
+		{
+			log.debug("No plugin index found, scanning the classpath for plugins");
+			plugins = ClassPath.from(classLoader).getTopLevelClassesRecursive(PLUGIN_PACKAGE).stream()
+				.map(ClassInfo::load)
+				.collect(Collectors.toList());
+		}
 
 		loadPlugins(plugins, (loaded, total) ->
 			SplashScreen.stage(.60, .70, null, "Loading Plugins", loaded, total, false));
@@ -300,11 +429,15 @@ public class PluginManager
 				{
 					ClassLoader classLoader = new PluginClassLoader(f, getClass().getClassLoader());
 
-					List<Class<?>> plugins = ClassPath.from(classLoader)
-						.getAllClasses()
-						.stream()
-						.map(ClassInfo::load)
-						.collect(Collectors.toList());
+					List<Class<?>> plugins = loadPluginIndex(classLoader, null);
+					if (plugins == null)
+					{
+						plugins = ClassPath.from(classLoader)
+							.getAllClasses()
+							.stream()
+							.map(ClassInfo::load)
+							.collect(Collectors.toList());
+					}
 
 					loadPlugins(plugins, null);
 				}
@@ -316,6 +449,60 @@ public class PluginManager
 		}
 	}
 
+	/**
+	 * Load the plugin classes listed in the plugin indexes visible to the given class loader,
+	 * skipping plugins which would not be loaded anyway.
+	 *
+	 * @param classLoader class loader to read the indexes from and load the plugins with
+	 * @param pluginPackage if not null, only plugins in this package or its subpackages are loaded
+	 * @return the plugin classes, or null if there is no plugin index
+	 */
+	@VisibleForTesting
+	List<Class<?>> loadPluginIndex(ClassLoader classLoader, String pluginPackage) throws IOException
+	{
+		List<URL> indexes = Collections.list(classLoader.getResources(PluginIndex.RESOURCE));
+		if (indexes.isEmpty())
+		{
+			return null;
+		}
+
+		List<Class<?>> plugins = new ArrayList<>();
+		for (URL index : indexes)
+		{
+			List<PluginIndex.Entry> entries;
+			try (InputStream in = index.openStream())
+			{
+				entries = PluginIndex.read(in);
+			}
+
+			for (PluginIndex.Entry entry : entries)
+			{
+				// like ClassPath.getTopLevelClassesRecursive, nested classes are not core plugins
+				if (pluginPackage != null && (!entry.className.startsWith(pluginPackage + ".") || entry.className.indexOf('$') != -1))
+				{
+					continue;
+				}
+
+				if ((!entry.loadWhenOutdated && isOutdated) || (entry.developerPlugin && !developerMode))
+				{
+					continue;
+				}
+
+				try
+				{
+					plugins.add(classLoader.loadClass(entry.className));
+				}
+				catch (ClassNotFoundException ex)
+				{
+					log.warn("Plugin {} from index {} does not exist", entry.className, index, ex);
+				}
+			}
+		}
+
+		log.debug("Loaded {} plugin classes from {}", plugins.size(), indexes);
+		return plugins;
+	}
+
 	public List<Plugin> loadPlugins(List<Class<?>> plugins, BiConsumer<Integer, Integer> onPluginLoaded) throws PluginInstantiationException
 	{
 		MutableGraph<Class<? extends Plugin>> graph = GraphBuilder
@@ -384,21 +571,44 @@ public class PluginManager
 
 		List<Class<? extends Plugin>> sortedPlugins = topologicalSort(graph);
 
+		// Instantiate the plugins concurrently, each once all of its dependencies have been instantiated
+		Map<Class<?>, Plugin> instantiated = new ConcurrentHashMap<>();
+		this.plugins.forEach(p -> instantiated.put(p.getClass(), p));
+		Map<Class<? extends Plugin>, CompletableFuture<Plugin>> futures = new HashMap<>();
+		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
+		{
+			CompletableFuture<?>[] dependencies = graph.predecessors(pluginClazz).stream()
+				.map(futures::get)
+				.toArray(CompletableFuture[]::new);
+
+			futures.put(pluginClazz, CompletableFuture.allOf(dependencies).thenApplyAsync(v ->
+			{
+				long start = System.nanoTime();
+				try
+				{
+					Plugin plugin = instantiate(instantiated.values(), (Class<Plugin>) pluginClazz);
+					instantiated.put(pluginClazz, plugin);
+					timing(plugin).instantiateNanos = System.nanoTime() - start;
+					return plugin;
+				}
+				catch (PluginInstantiationException ex)
+				{
+					log.warn("Error instantiating plugin!", ex);
+					return null;
+				}
+			}, executor));
+		}
+
 		int loaded = 0;
 		List<Plugin> newPlugins = new ArrayList<>();
 		for (Class<? extends Plugin> pluginClazz : sortedPlugins)
 		{
-			Plugin plugin;
-			try
+			Plugin plugin = futures.get(pluginClazz).join();
+			if (plugin != null)
 			{
-				plugin = instantiate(this.plugins, (Class<Plugin>) pluginClazz);
 				newPlugins.add(plugin);
 				this.plugins.add(plugin);
 			}
-			catch (PluginInstantiationException ex)
-			{
-				log.warn("Error instantiating plugin!", ex);
-			}
 
 			loaded++;
 			if (onPluginLoaded != null)
@@ -437,6 +647,23 @@ public class PluginManager
 
 		try
 		{
+			CompletableFuture<Void> preStartUp = preStartedPlugins.remove(plugin);
+			if (preStartUp != null)
+			{
+				try
+				{
+					preStartUp.join();
+				}
+				catch (CompletionException ex)
+				{
+					throw ex.getCause();
+				}
+			}
+			else
+			{
+				plugin.preStartUp();
+			}
+
 			plugin.startUp();
 
 			log.debug("Plugin {} is now running", plugin.getClass().getSimpleName());
@@ -520,7 +747,7 @@ public class PluginManager
 		return value != null ? Boolean.parseBoolean(value) : pluginDescriptor.enabledByDefault();
 	}
 
-	private Plugin instantiate(List<Plugin> scannedPlugins, Class<Plugin> clazz) throws PluginInstantiationException
+	private Plugin instantiate(Collection<Plugin> scannedPlugins, Class<Plugin> clazz) throws PluginInstantiationException
 	{
 		PluginDependency[] pluginDependencies = clazz.getAnnotationsByType(PluginDependency.class);
 		List<Plugin> deps = new ArrayList<>();
@@ -742,4 +969,16 @@ public class PluginManager
 			})
 			.collect(Collectors.toList());
 	}
+
+	private static class StartupTiming
+	{
+		private volatile long instantiateNanos;
+		private volatile long preStartUpNanos;
+		private volatile long startUpNanos;
+
+		long total()
+		{
+			return instantiateNanos + preStartUpNanos + startUpNanos;
+		}
+	}
 }
@@ -54,6 +54,7 @@ class BarrowsBrotherSlainOverlay extends OverlayPanel
 		super(plugin);
 		setPosition(OverlayPosition.TOP_LEFT);
 		setPriority(OverlayPriority.LOW);
+		setDeferrable(true);
 		this.client = client;
 		getMenuEntries().add(new OverlayMenuEntry(RUNELITE_OVERLAY_CONFIG, OPTION_CONFIGURE, "Barrows overlay"));
 	}
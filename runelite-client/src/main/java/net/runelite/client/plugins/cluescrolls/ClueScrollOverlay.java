@@ -97,6 +97,7 @@ public class ClueScrollOverlay extends OverlayPanel
 		this.plugin = plugin;
 		this.client = client;
 		setPriority(OverlayPriority.LOW);
+		setDeferrable(true);
 		getMenuEntries().add(new OverlayMenuEntry(RUNELITE_OVERLAY_CONFIG, OPTION_CONFIGURE, "Clue Scroll overlay"));
 		getMenuEntries().add(new OverlayMenuEntry(RUNELITE_OVERLAY, "Reset", "Clue Scroll overlay"));
 	}
@@ -58,6 +58,7 @@ class CorpDamageOverlay extends OverlayPanel
 		setPosition(OverlayPosition.TOP_LEFT);
 		setLayer(OverlayLayer.UNDER_WIDGETS);
 		setPriority(OverlayPriority.LOW);
+		setDeferrable(true);
 		this.client = client;
 		this.corpPlugin = corpPlugin;
 		this.config = config;
@@ -57,8 +57,10 @@ import net.runelite.client.chat.QueuedMessage;
 import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
 import net.runelite.client.eventbus.Subscribe;
+import net.runelite.client.events.ClientShutdown;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.task.ExecutorManager;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.JagexColors;
 import net.runelite.client.ui.NavigationButton;
@@ -99,6 +101,9 @@ public class DevToolsPlugin extends Plugin
 	@Inject
 	private CameraOverlay cameraOverlay;
 
+	@Inject
+	private OverlayTimingOverlay overlayTimingOverlay;
+
 	@Inject
 	private WorldMapLocationOverlay worldMapLocationOverlay;
 
@@ -111,6 +116,9 @@ public class DevToolsPlugin extends Plugin
 	@Inject
 	private EventBus eventBus;
 
+	@Inject
+	private ExecutorManager executorManager;
+
 	@Inject
 	private ConfigManager configManager;
 
@@ -133,6 +141,7 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton movementFlags;
 	private DevToolsButton lineOfSight;
 	private DevToolsButton cameraPosition;
+	private DevToolsButton overlayTiming;
 	private DevToolsButton worldMapLocation;
 	private DevToolsButton tileLocation;
 	private DevToolsButton interacting;
@@ -143,6 +152,7 @@ public class DevToolsPlugin extends Plugin
 	private DevToolsButton soundEffects;
 	private DevToolsButton scriptInspector;
 	private DevToolsButton inventoryInspector;
+	private DevToolsButton eventProfiler;
 	private DevToolsButton roofs;
 	private DevToolsButton shell;
 	private NavigationButton navButton;
@@ -172,6 +182,7 @@ public class DevToolsPlugin extends Plugin
 		worldMapLocation = new DevToolsButton("World Map Location");
 		tileLocation = new DevToolsButton("Tile Location");
 		cameraPosition = new DevToolsButton("Camera Position");
+		overlayTiming = new DevToolsButton("Overlay Timing");
 
 		chunkBorders = new DevToolsButton("Chunk Borders");
 		mapSquares = new DevToolsButton("Map Squares");
@@ -188,6 +199,7 @@ public class DevToolsPlugin extends Plugin
 		soundEffects = new DevToolsButton("Sound Effects");
 		scriptInspector = new DevToolsButton("Script Inspector");
 		inventoryInspector = new DevToolsButton("Inventory Inspector");
+		eventProfiler = new DevToolsButton("Event Profiler");
 		roofs = new DevToolsButton("Roofs");
 		shell = new DevToolsButton("Shell");
 
@@ -195,6 +207,7 @@ public class DevToolsPlugin extends Plugin
 		overlayManager.add(locationOverlay);
 		overlayManager.add(sceneOverlay);
 		overlayManager.add(cameraOverlay);
+		overlayManager.add(overlayTimingOverlay);
 		overlayManager.add(worldMapLocationOverlay);
 		overlayManager.add(mapRegionOverlay);
 		overlayManager.add(soundEffectOverlay);
@@ -223,12 +236,22 @@ public class DevToolsPlugin extends Plugin
 		overlayManager.remove(locationOverlay);
 		overlayManager.remove(sceneOverlay);
 		overlayManager.remove(cameraOverlay);
+		overlayManager.remove(overlayTimingOverlay);
 		overlayManager.remove(worldMapLocationOverlay);
 		overlayManager.remove(mapRegionOverlay);
 		overlayManager.remove(soundEffectOverlay);
 		clientToolbar.removeNavigation(navButton);
 	}
 
+	@Subscribe
+	public void onClientShutdown(ClientShutdown event)
+	{
+		if (eventBus.isProfiling())
+		{
+			eventBus.logStats(EventProfiler.LOG_LIMIT);
+		}
+	}
+
 	@Subscribe
 	public void onCommandExecuted(CommandExecuted commandExecuted)
 	{
@@ -256,6 +279,12 @@ public class DevToolsPlugin extends Plugin
 				client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", message, null);
 				break;
 			}
+			case "executors":
+			{
+				executorManager.logStats();
+				client.addChatMessage(ChatMessageType.GAMEMESSAGE, "", "Executor stats have been logged", null);
+				break;
+			}
 			case "getvarp":
 			{
 				int varp = Integer.parseInt(args[0]);
@@ -0,0 +1,182 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins.devtools;
+
+import java.awt.BorderLayout;
+import java.awt.Dimension;
+import java.util.Collections;
+import java.util.List;
+import javax.inject.Inject;
+import javax.inject.Singleton;
+import javax.swing.JButton;
+import javax.swing.JCheckBox;
+import javax.swing.JPanel;
+import javax.swing.JScrollPane;
+import javax.swing.JTable;
+import javax.swing.Timer;
+import javax.swing.table.AbstractTableModel;
+import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.ui.ClientUI;
+
+@Singleton
+class EventProfiler extends DevToolsFrame
+{
+	private static final int REFRESH_INTERVAL_MS = 1000;
+	static final int LOG_LIMIT = 50;
+
+	private final EventBus eventBus;
+	private final StatsTableModel model = new StatsTableModel();
+	private final Timer refreshTimer = new Timer(REFRESH_INTERVAL_MS, e -> refresh());
+
+	@Inject
+	EventProfiler(EventBus eventBus)
+	{
+		this.eventBus = eventBus;
+
+		setLayout(new BorderLayout());
+		setTitle("RuneLite Event Profiler");
+		setIconImage(ClientUI.ICON);
+
+		final JTable table = new JTable(model);
+		table.setAutoCreateRowSorter(true);
+		table.getColumnModel().getColumn(0).setPreferredWidth(120);
+		table.getColumnModel().getColumn(1).setPreferredWidth(360);
+
+		final JScrollPane scrollPane = new JScrollPane(table);
+		scrollPane.setPreferredSize(new Dimension(800, 400));
+		add(scrollPane, BorderLayout.CENTER);
+
+		final JCheckBox profilingBox = new JCheckBox("Profiling", eventBus.isProfiling());
+		profilingBox.setFocusable(false);
+		profilingBox.addActionListener(e -> eventBus.setProfiling(profilingBox.isSelected()));
+
+		final JButton resetBtn = new JButton("Reset");
+		resetBtn.setFocusable(false);
+		resetBtn.addActionListener(e ->
+		{
+			eventBus.resetStats();
+			refresh();
+		});
+
+		final JButton logBtn = new JButton("Log");
+		logBtn.setFocusable(false);
+		logBtn.addActionListener(e -> eventBus.logStats(LOG_LIMIT));
+
+		final JPanel bottomRow = new JPanel();
+		bottomRow.add(profilingBox);
+		bottomRow.add(resetBtn);
+		bottomRow.add(logBtn);
+		add(bottomRow, BorderLayout.SOUTH);
+
+		pack();
+	}
+
+	@Override
+	public void open()
+	{
+		refresh();
+		refreshTimer.start();
+		super.open();
+	}
+
+	@Override
+	public void close()
+	{
+		refreshTimer.stop();
+		super.close();
+	}
+
+	private void refresh()
+	{
+		model.setStats(eventBus.getStats());
+	}
+
+	private static class StatsTableModel extends AbstractTableModel
+	{
+		private static final String[] COLUMNS = {"Event", "Subscriber", "Calls", "Total (ms)", "Avg (us)", "Max (us)"};
+
+		private List<EventBus.SubscriberStats> stats = Collections.emptyList();
+
+		void setStats(List<EventBus.SubscriberStats> stats)
+		{
+			this.stats = stats;
+			fireTableDataChanged();
+		}
+
+		@Override
+		public String getColumnName(int col)
+		{
+			return COLUMNS[col];
+		}
+
+		@Override
+		public Class<?> getColumnClass(int col)
+		{
+			switch (col)
+			{
+				case 0:
+				case 1:
+					return String.class;
+				case 2:
+					return Long.class;
+				default:
+					return Double.class;
+			}
+		}
+
+		@Override
+		public int getRowCount()
+		{
+			return stats.size();
+		}
+
+		@Override
+		public int getColumnCount()
+		{
+			return COLUMNS.length;
+		}
+
+		@Override
+		public Object getValueAt(int row, int col)
+		{
+			final EventBus.SubscriberStats stat = stats.get(row);
+			switch (col)
+			{
+				case 0:
+					return stat.getEventClass().getSimpleName();
+				case 1:
+					return stat.getSubscriber();
+				case 2:
+					return stat.getCount();
+				case 3:
+					return stat.getTotalNanos() / 1e6;
+				case 4:
+					return stat.getTotalNanos() / 1e3 / stat.getCount();
+				default:
+					return stat.getMaxNanos() / 1e3;
+			}
+		}
+	}
+}
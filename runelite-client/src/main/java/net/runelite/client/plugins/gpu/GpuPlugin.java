@@ -50,13 +50,10 @@ import java.awt.Canvas;
 import java.awt.Component;
 import java.awt.Dimension;
 import java.awt.Graphics2D;
-import java.awt.Image;
 import java.awt.event.ComponentAdapter;
 import java.awt.event.ComponentEvent;
 import java.awt.event.ComponentListener;
 import java.awt.geom.AffineTransform;
-import java.awt.image.BufferedImage;
-import java.awt.image.DataBufferInt;
 import java.nio.Buffer;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
@@ -105,6 +102,7 @@ import net.runelite.client.plugins.gpu.config.AntiAliasingMode;
 import net.runelite.client.plugins.gpu.config.UIScalingMode;
 import net.runelite.client.plugins.gpu.template.Template;
 import net.runelite.client.ui.DrawManager;
+import net.runelite.client.ui.FrameBuffer;
 import net.runelite.client.util.OSType;
 import org.jocl.CL;
 import static org.jocl.CL.CL_MEM_READ_ONLY;
@@ -235,6 +233,11 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 
 	private int unorderedModels;
 
+	/**
+	 * buffer the front framebuffer is read into for screenshots
+	 */
+	private IntBuffer screenshotBuffer;
+
 	/**
 	 * number of models in small buffer
 	 */
@@ -581,6 +584,8 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 			modelBuffer = null;
 			modelBufferUnordered = null;
 
+			screenshotBuffer = null;
+
 			lastAnisotropicFilteringLevel = -1;
 
 			// force main buffer provider rebuild to turn off alpha channel
@@ -1404,7 +1409,7 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 
 		glDrawable.swapBuffers();
 
-		drawManager.processDrawComplete(this::screenshot);
+		drawManager.processDrawComplete(this::screenshotSize, this::screenshot);
 	}
 
 	private float[] makeProjectionMatrix(float w, float h, float n)
@@ -1476,11 +1481,11 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 	}
 
 	/**
-	 * Convert the front framebuffer to an Image
+	 * Get the size of the front framebuffer
 	 *
 	 * @return
 	 */
-	private Image screenshot()
+	private Dimension screenshotSize()
 	{
 		int width  = client.getCanvasWidth();
 		int height = client.getCanvasHeight();
@@ -1501,29 +1506,41 @@ public class GpuPlugin extends Plugin implements DrawCallbacks
 			graphics.dispose();
 		}
 
-		ByteBuffer buffer = ByteBuffer.allocateDirect(width * height * 4)
-			.order(ByteOrder.nativeOrder());
+		return new Dimension(width, height);
+	}
 
-		gl.glReadBuffer(gl.GL_FRONT);
-		gl.glReadPixels(0, 0, width, height, GL.GL_RGBA, gl.GL_UNSIGNED_BYTE, buffer);
+	/**
+	 * Copy the front framebuffer into a frame
+	 *
+	 * @param frame
+	 */
+	private void screenshot(FrameBuffer frame)
+	{
+		final int width = frame.getWidth();
+		final int height = frame.getHeight();
 
-		BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
-		int[] pixels = ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+		if (screenshotBuffer == null || screenshotBuffer.capacity() < width * height)
+		{
+			screenshotBuffer = ByteBuffer.allocateDirect(width * height * 4)
+				.order(ByteOrder.nativeOrder())
+				.asIntBuffer();
+		}
+		screenshotBuffer.clear();
 
+		// read as 0xAARRGGBB so the rows can be copied straight into the frame
+		gl.glReadBuffer(gl.GL_FRONT);
+		gl.glReadPixels(0, 0, width, height, gl.GL_BGRA, gl.GL_UNSIGNED_INT_8_8_8_8_REV, screenshotBuffer);
+
+		final int[] pixels = frame.getPixels();
 		for (int y = 0; y < height; ++y)
 		{
-			for (int x = 0; x < width; ++x)
-			{
-				int r = buffer.get() & 0xff;
-				int g = buffer.get() & 0xff;
-				int b = buffer.get() & 0xff;
-				buffer.get(); // alpha
-
-				pixels[(height - y - 1) * width + x] = (r << 16) | (g << 8) | b;
-			}
+			screenshotBuffer.get(pixels, (height - y - 1) * width, width);
 		}
 
-		return image;
+		for (int i = 0; i < pixels.length; ++i)
+		{
+			pixels[i] &= 0xffffff;
+		}
 	}
 
 	@Override
@@ -30,11 +30,12 @@ import java.util.List;
 import java.util.Objects;
 import java.util.stream.Collectors;
 import javax.annotation.Nonnull;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 {
 	private final List<ItemThreshold> itemThresholds;
+	private final WildcardMatcherSet itemNames;
 
 	WildcardMatchLoader(List<String> configEntries)
 	{
@@ -42,6 +43,9 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 			.map(ItemThreshold::fromConfigEntry)
 			.filter(Objects::nonNull)
 			.collect(Collectors.toList());
+		this.itemNames = WildcardMatcherSet.compile(itemThresholds.stream()
+			.map(ItemThreshold::getItemName)
+			.collect(Collectors.toList()));
 	}
 
 	@Override
@@ -53,16 +57,6 @@ class WildcardMatchLoader extends CacheLoader<NamedQuantity, Boolean>
 		}
 
 		final String filteredName = key.getName().trim();
-
-		for (final ItemThreshold entry : itemThresholds)
-		{
-			if (WildcardMatcher.matches(entry.getItemName(), filteredName)
-				&& entry.quantityHolds(key.getQuantity()))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return itemNames.anyMatch(filteredName, i -> itemThresholds.get(i).quantityHolds(key.getQuantity()));
 	}
 }
@@ -60,6 +60,7 @@ import java.util.regex.Pattern;
 import java.util.stream.Collectors;
 import javax.annotation.Nullable;
 import javax.inject.Inject;
+import javax.inject.Named;
 import javax.swing.JOptionPane;
 import javax.swing.SwingUtilities;
 import lombok.AccessLevel;
@@ -112,6 +113,7 @@ import net.runelite.client.game.LootManager;
 import net.runelite.client.game.SpriteManager;
 import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
+import net.runelite.client.task.ExecutorManager;
 import net.runelite.client.task.Schedule;
 import net.runelite.client.ui.ClientToolbar;
 import net.runelite.client.ui.NavigationButton;
@@ -132,6 +134,8 @@ import org.apache.commons.text.WordUtils;
 @Slf4j
 public class LootTrackerPlugin extends Plugin
 {
+	// loot is submitted in order on its own executor lane, so slow submissions do not hold up other tasks
+	static final String EXECUTOR = "loottracker";
 	private static final int MAX_DROPS = 1024;
 	private static final Duration MAX_AGE = Duration.ofDays(365L);
 
@@ -313,6 +317,7 @@ public class LootTrackerPlugin extends Plugin
 	private SessionManager sessionManager;
 
 	@Inject
+	@Named(EXECUTOR)
 	private ScheduledExecutorService executor;
 
 	@Inject
@@ -386,6 +391,13 @@ public class LootTrackerPlugin extends Plugin
 		return configManager.getConfig(LootTrackerConfig.class);
 	}
 
+	@Provides
+	@Named(EXECUTOR)
+	ScheduledExecutorService provideExecutor(ExecutorManager executorManager)
+	{
+		return executorManager.getExecutor(EXECUTOR);
+	}
+
 	@Subscribe
 	public void onSessionOpen(SessionOpen sessionOpen)
 	{
@@ -1055,7 +1067,8 @@ public class LootTrackerPlugin extends Plugin
 	@Schedule(
 		period = 5,
 		unit = ChronoUnit.MINUTES,
-		asynchronous = true
+		asynchronous = true,
+		executor = EXECUTOR
 	)
 	public void submitLootTask()
 	{
@@ -65,6 +65,7 @@ class NightmareZoneOverlay extends OverlayPanel
 		super(plugin);
 		setPosition(OverlayPosition.TOP_LEFT);
 		setPriority(OverlayPriority.LOW);
+		setDeferrable(true);
 		this.client = client;
 		this.config = config;
 		this.plugin = plugin;
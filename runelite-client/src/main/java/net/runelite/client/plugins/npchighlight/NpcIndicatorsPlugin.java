@@ -70,7 +70,7 @@ import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.util.ColorUtil;
 import net.runelite.client.util.Text;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 @PluginDescriptor(
 	name = "NPC Indicators",
@@ -140,6 +140,11 @@ public class NpcIndicatorsPlugin extends Plugin
 	 */
 	private List<String> highlights = new ArrayList<>();
 
+	/**
+	 * Highlight strings compiled for matching against NPC names
+	 */
+	private WildcardMatcherSet highlightMatcher = WildcardMatcherSet.compile(Collections.emptyList());
+
 	/**
 	 * NPC ids marked with the Tag option
 	 */
@@ -284,9 +289,7 @@ public class NpcIndicatorsPlugin extends Plugin
 			}
 
 			final String npcName = npc.getName();
-			boolean matchesList = highlights.stream()
-				.filter(highlight -> !highlight.equalsIgnoreCase(npcName))
-				.anyMatch(highlight -> WildcardMatcher.matches(highlight, npcName));
+			boolean matchesList = highlightMatcher.anyMatch(npcName, i -> !highlights.get(i).equalsIgnoreCase(npcName));
 
 			// Only add Untag-All option to npcs not highlighted by a wildcard entry, because untag-all will not remove wildcards
 			if (!matchesList)
@@ -521,6 +524,7 @@ public class NpcIndicatorsPlugin extends Plugin
 	void rebuild()
 	{
 		highlights = getHighlights();
+		highlightMatcher = WildcardMatcherSet.compile(highlights);
 		highlightedNpcs.clear();
 
 		if (client.getGameState() != GameState.LOGGED_IN &&
@@ -565,15 +569,7 @@ public class NpcIndicatorsPlugin extends Plugin
 
 	private boolean highlightMatchesNPCName(String npcName)
 	{
-		for (String highlight : highlights)
-		{
-			if (WildcardMatcher.matches(highlight, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return highlightMatcher.matchesAny(npcName);
 	}
 
 	private void validateSpawnedNpcs()
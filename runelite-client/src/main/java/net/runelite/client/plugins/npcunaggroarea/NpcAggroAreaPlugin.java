@@ -35,7 +35,6 @@ import java.awt.image.BufferedImage;
 import java.time.Duration;
 import java.time.Instant;
 import java.util.Arrays;
-import java.util.List;
 import javax.inject.Inject;
 import lombok.Getter;
 import net.runelite.api.Client;
@@ -60,7 +59,7 @@ import net.runelite.client.plugins.Plugin;
 import net.runelite.client.plugins.PluginDescriptor;
 import net.runelite.client.ui.overlay.OverlayManager;
 import net.runelite.client.ui.overlay.infobox.InfoBoxManager;
-import net.runelite.client.util.WildcardMatcher;
+import net.runelite.client.util.WildcardMatcherSet;
 
 @PluginDescriptor(
 	name = "NPC Aggression Timer",
@@ -131,7 +130,7 @@ public class NpcAggroAreaPlugin extends Plugin
 	private boolean loggingIn;
 	private boolean notifyOnce;
 
-	private List<String> npcNamePatterns;
+	private WildcardMatcherSet npcNamePatterns;
 
 	@Provides
 	NpcAggroAreaConfig provideConfig(ConfigManager configManager)
@@ -144,7 +143,7 @@ public class NpcAggroAreaPlugin extends Plugin
 	{
 		overlayManager.add(overlay);
 		overlayManager.add(notWorkingOverlay);
-		npcNamePatterns = NAME_SPLITTER.splitToList(config.npcNamePatterns());
+		npcNamePatterns = WildcardMatcherSet.compile(NAME_SPLITTER.splitToList(config.npcNamePatterns()));
 		recheckActive();
 	}
 
@@ -270,15 +269,7 @@ public class NpcAggroAreaPlugin extends Plugin
 			return false;
 		}
 
-		for (String pattern : npcNamePatterns)
-		{
-			if (WildcardMatcher.matches(pattern, npcName))
-			{
-				return true;
-			}
-		}
-
-		return false;
+		return npcNamePatterns.matchesAny(npcName);
 	}
 
 	private void checkAreaNpcs(final NPC... npcs)
@@ -388,7 +379,7 @@ public class NpcAggroAreaPlugin extends Plugin
 				calculateLinesToDisplay();
 				break;
 			case "npcUnaggroNames":
-				npcNamePatterns = NAME_SPLITTER.splitToList(config.npcNamePatterns());
+				npcNamePatterns = WildcardMatcherSet.compile(NAME_SPLITTER.splitToList(config.npcNamePatterns()));
 				recheckActive();
 				break;
 		}
@@ -219,6 +219,13 @@ class OpponentInfoOverlay extends OverlayPanel
 		return super.render(graphics);
 	}
 
+	@Override
+	public long getContentVersion()
+	{
+		// the opponent and its health are only updated on game ticks
+		return client.getTickCount();
+	}
+
 	/**
 	 * Check if the hp hud is active for an opponent
 	 * @param opponent
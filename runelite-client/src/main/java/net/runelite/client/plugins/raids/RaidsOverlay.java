@@ -69,6 +69,7 @@ class RaidsOverlay extends OverlayPanel
 		super(plugin);
 		setPosition(OverlayPosition.TOP_LEFT);
 		setPriority(OverlayPriority.LOW);
+		setDeferrable(true);
 		this.client = client;
 		this.plugin = plugin;
 		this.config = config;
@@ -97,10 +97,15 @@ public class RoofRemovalPlugin extends Plugin
 	}
 
 	@Override
-	public void startUp() throws IOException
+	public void preStartUp() throws IOException
 	{
-		buildConfigOverrides();
 		loadRoofOverrides();
+	}
+
+	@Override
+	public void startUp()
+	{
+		buildConfigOverrides();
 		clientThread.invoke(() ->
 		{
 			if (client.getGameState() == GameState.LOGGED_IN)
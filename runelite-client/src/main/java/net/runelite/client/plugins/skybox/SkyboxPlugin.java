@@ -59,7 +59,7 @@ public class SkyboxPlugin extends Plugin
 	private Skybox skybox;
 
 	@Override
-	public void startUp() throws IOException
+	public void preStartUp() throws IOException
 	{
 		try (InputStream in = SkyboxPlugin.class.getResourceAsStream("skybox.txt"))
 		{
@@ -51,6 +51,7 @@ class TeamCapesOverlay extends OverlayPanel
 		super(plugin);
 		setPosition(OverlayPosition.TOP_LEFT);
 		setPriority(OverlayPriority.LOW);
+		setDeferrable(true);
 		this.plugin = plugin;
 		this.config = config;
 		this.manager = manager;
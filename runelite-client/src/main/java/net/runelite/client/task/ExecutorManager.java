@@ -0,0 +1,120 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import com.google.common.collect.ImmutableMap;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.inject.Singleton;
+import lombok.extern.slf4j.Slf4j;
+import net.runelite.client.util.ExecutorServiceExceptionLogger;
+
+/**
+ * Provides separate executors ("lanes") for different kinds of background work, so that eg. a slow
+ * http request does not hold up disk writes. The builtin lanes are bound in the injector and can be
+ * injected with {@code @Named(ExecutorManager.NETWORK) ScheduledExecutorService}, other lanes are
+ * created on first use with {@link #getExecutor(String)}.
+ */
+@Singleton
+@Slf4j
+public class ExecutorManager
+{
+	/**
+	 * The lane for the unqualified {@link ScheduledExecutorService} binding. It has a single thread,
+	 * so tasks submitted to it run in order.
+	 */
+	public static final String DEFAULT = "default";
+	/**
+	 * Lane for http requests and other blocking network io
+	 */
+	public static final String NETWORK = "network";
+	/**
+	 * Lane for file io
+	 */
+	public static final String DISK = "disk";
+	/**
+	 * Lane for cpu bound work
+	 */
+	public static final String CPU = "cpu";
+
+	/**
+	 * The builtin lanes and their thread counts
+	 */
+	public static final Map<String, Integer> LANES = ImmutableMap.of(
+		DEFAULT, 1,
+		NETWORK, 4,
+		DISK, 2,
+		CPU, Math.max(1, Runtime.getRuntime().availableProcessors() - 1)
+	);
+
+	private final Map<String, LaneExecutor> lanes = new ConcurrentHashMap<>();
+	private final Map<String, ScheduledExecutorService> executors = new ConcurrentHashMap<>();
+
+	/**
+	 * Get the executor for a lane, creating a single threaded lane if it does not exist
+	 *
+	 * @param name lane name
+	 * @return the executor
+	 */
+	public ScheduledExecutorService getExecutor(String name)
+	{
+		return executors.computeIfAbsent(name, n ->
+		{
+			LaneExecutor executor = new LaneExecutor(n, LANES.getOrDefault(n, 1));
+			lanes.put(n, executor);
+			log.debug("Created executor lane {} with {} threads", n, executor.getCorePoolSize());
+			return new ExecutorServiceExceptionLogger(executor);
+		});
+	}
+
+	public List<ExecutorStats> getStats()
+	{
+		List<ExecutorStats> stats = new ArrayList<>(lanes.size());
+		for (LaneExecutor executor : lanes.values())
+		{
+			stats.add(executor.getStats());
+		}
+		stats.sort((a, b) -> a.getName().compareTo(b.getName()));
+		return Collections.unmodifiableList(stats);
+	}
+
+	public void logStats()
+	{
+		final StringBuilder sb = new StringBuilder("Executor lanes (lane, threads, active, queued, completed, avg wait ms, max wait ms, avg run ms, max run ms):");
+		for (ExecutorStats stat : getStats())
+		{
+			long completed = Math.max(1, stat.getCompletedTasks());
+			sb.append(String.format("%n  %s %d %d %d %d %.1f %.1f %.1f %.1f",
+				stat.getName(), stat.getThreads(), stat.getActiveTasks(), stat.getQueuedTasks(), stat.getCompletedTasks(),
+				stat.getTotalWaitNanos() / 1e6 / completed, stat.getMaxWaitNanos() / 1e6,
+				stat.getTotalRunNanos() / 1e6 / completed, stat.getMaxRunNanos() / 1e6));
+		}
+		log.info(sb.toString());
+	}
+}
@@ -0,0 +1,94 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import com.google.common.util.concurrent.ThreadFactoryBuilder;
+import java.util.concurrent.Delayed;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+import lombok.Getter;
+
+/**
+ * A fixed size scheduled executor which records how long tasks wait past their
+ * scheduled time before starting, and how long they run for.
+ */
+class LaneExecutor extends ScheduledThreadPoolExecutor
+{
+	@Getter
+	private final String name;
+
+	private final ThreadLocal<long[]> taskStart = ThreadLocal.withInitial(() -> new long[1]);
+	private final LongAdder tasks = new LongAdder();
+	private final LongAdder totalWaitNanos = new LongAdder();
+	private final AtomicLong maxWaitNanos = new AtomicLong();
+	private final LongAdder totalRunNanos = new LongAdder();
+	private final AtomicLong maxRunNanos = new AtomicLong();
+
+	LaneExecutor(String name, int threads)
+	{
+		super(threads, new ThreadFactoryBuilder()
+			.setNameFormat("executor-" + name + "-%d")
+			.setDaemon(true)
+			.build());
+		this.name = name;
+		setRemoveOnCancelPolicy(true);
+	}
+
+	@Override
+	protected void beforeExecute(Thread t, Runnable r)
+	{
+		super.beforeExecute(t, r);
+
+		long now = System.nanoTime();
+		taskStart.get()[0] = now;
+
+		// tasks submitted to a scheduled executor are all Delayed, with a negative delay once they are late
+		if (r instanceof Delayed)
+		{
+			long wait = Math.max(0L, -((Delayed) r).getDelay(TimeUnit.NANOSECONDS));
+			totalWaitNanos.add(wait);
+			maxWaitNanos.accumulateAndGet(wait, Math::max);
+		}
+	}
+
+	@Override
+	protected void afterExecute(Runnable r, Throwable t)
+	{
+		super.afterExecute(r, t);
+
+		long run = System.nanoTime() - taskStart.get()[0];
+		tasks.increment();
+		totalRunNanos.add(run);
+		maxRunNanos.accumulateAndGet(run, Math::max);
+	}
+
+	ExecutorStats getStats()
+	{
+		return new ExecutorStats(name, getCorePoolSize(), getActiveCount(), getQueue().size(),
+			tasks.sum(), totalWaitNanos.sum(), maxWaitNanos.get(), totalRunNanos.sum(), maxRunNanos.get());
+	}
+}
@@ -39,4 +39,9 @@ public @interface Schedule
 	ChronoUnit unit();
 
 	boolean asynchronous() default false;
+
+	/**
+	 * The {@link ExecutorManager} lane asynchronous methods are run on
+	 */
+	String executor() default ExecutorManager.DEFAULT;
 }
@@ -31,7 +31,6 @@ import java.time.Instant;
 import java.util.Collections;
 import java.util.List;
 import java.util.concurrent.CopyOnWriteArrayList;
-import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import lombok.extern.slf4j.Slf4j;
@@ -43,7 +42,7 @@ public class Scheduler
 	private final List<ScheduledMethod> scheduledMethods = new CopyOnWriteArrayList<>();
 
 	@Inject
-	ScheduledExecutorService executor;
+	ExecutorManager executorManager;
 
 	public void addScheduledMethod(ScheduledMethod method)
 	{
@@ -81,7 +80,7 @@ public class Scheduler
 
 				if (schedule.asynchronous())
 				{
-					executor.submit(() -> run(scheduledMethod));
+					executorManager.getExecutor(schedule.executor()).submit(() -> run(scheduledMethod));
 				}
 				else
 				{
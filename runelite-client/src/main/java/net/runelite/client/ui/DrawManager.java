@@ -24,6 +24,7 @@
  */
 package net.runelite.client.ui;
 
+import java.awt.Dimension;
 import java.awt.Image;
 import java.util.List;
 import java.util.Queue;
@@ -38,8 +39,16 @@ import lombok.extern.slf4j.Slf4j;
 @Slf4j
 public class DrawManager
 {
+	/**
+	 * Number of free frame buffers kept for reuse, which is enough for one frame being drawn
+	 * while listeners still hold the previous two
+	 */
+	private static final int FRAME_POOL_SIZE = 3;
+
 	private final List<Runnable> everyFrame = new CopyOnWriteArrayList<>();
+	private final List<Consumer<FrameBuffer>> frameListeners = new CopyOnWriteArrayList<>();
 	private final Queue<Consumer<Image>> nextFrame = new ConcurrentLinkedQueue<>();
+	private final FrameBufferPool framePool = new FrameBufferPool(FRAME_POOL_SIZE);
 
 	public void registerEveryFrameListener(Runnable everyFrameListener)
 	{
@@ -54,12 +63,142 @@ public class DrawManager
 		everyFrame.remove(everyFrameListener);
 	}
 
+	/**
+	 * Register a listener which is given a copy of every drawn frame, on the client thread. The
+	 * frame is reused once the listener returns unless it has been {@link FrameBuffer#retain() retained}.
+	 *
+	 * @param frameListener the listener
+	 */
+	public void registerFrameListener(Consumer<FrameBuffer> frameListener)
+	{
+		if (!frameListeners.contains(frameListener))
+		{
+			frameListeners.add(frameListener);
+		}
+	}
+
+	public void unregisterFrameListener(Consumer<FrameBuffer> frameListener)
+	{
+		frameListeners.remove(frameListener);
+	}
+
+	/**
+	 * Request a copy of the next drawn frame. The image is owned by the listener, and is not reused.
+	 *
+	 * @param nextFrameListener the listener
+	 */
 	public void requestNextFrameListener(Consumer<Image> nextFrameListener)
 	{
 		nextFrame.add(nextFrameListener);
 	}
 
 	public void processDrawComplete(Supplier<Image> imageSupplier)
+	{
+		if (!processEveryFrame())
+		{
+			return;
+		}
+
+		final Image image;
+		try
+		{
+			image = imageSupplier.get();
+		}
+		catch (Exception ex)
+		{
+			log.warn("error getting screenshot", ex);
+			nextFrame.clear();
+			return;
+		}
+
+		if (image == null)
+		{
+			nextFrame.clear();
+			return;
+		}
+
+		if (!frameListeners.isEmpty())
+		{
+			final FrameBuffer frame = framePool.acquire(image.getWidth(null), image.getHeight(null));
+			try
+			{
+				frame.draw(image);
+				processFrameListeners(frame);
+			}
+			finally
+			{
+				frame.release();
+			}
+		}
+
+		processNextFrameListeners(image);
+	}
+
+	/**
+	 * Called when a frame has been drawn. The frame is only copied if a listener wants it, and is
+	 * only drawn into a pooled frame buffer if a frame listener is registered.
+	 *
+	 * @param frameSize supplies the size of the frame
+	 * @param frameWriter writes the frame into a frame buffer of that size
+	 */
+	public void processDrawComplete(Supplier<Dimension> frameSize, Consumer<FrameBuffer> frameWriter)
+	{
+		if (!processEveryFrame())
+		{
+			return;
+		}
+
+		// without frame listeners the frame goes only to the next frame listeners, who keep it
+		final boolean pooled = !frameListeners.isEmpty();
+		final FrameBuffer frame;
+		try
+		{
+			final Dimension size = frameSize.get();
+			frame = pooled ? framePool.acquire(size.width, size.height) : new FrameBuffer(null, size.width, size.height);
+		}
+		catch (Exception ex)
+		{
+			log.warn("error getting screenshot", ex);
+			nextFrame.clear();
+			return;
+		}
+
+		try
+		{
+			try
+			{
+				frameWriter.accept(frame);
+			}
+			catch (Exception ex)
+			{
+				log.warn("error getting screenshot", ex);
+				nextFrame.clear();
+				return;
+			}
+
+			if (pooled)
+			{
+				processFrameListeners(frame);
+			}
+
+			if (!nextFrame.isEmpty())
+			{
+				// these listeners may keep the image, so they need their own copy of a pooled frame
+				processNextFrameListeners(pooled ? frame.copy() : frame.getImage());
+			}
+		}
+		finally
+		{
+			frame.release();
+		}
+	}
+
+	/**
+	 * Run the every frame listeners
+	 *
+	 * @return whether any listener wants a copy of the frame
+	 */
+	private boolean processEveryFrame()
 	{
 		for (Runnable everyFrameListener : everyFrame)
 		{
@@ -73,28 +212,29 @@ public class DrawManager
 			}
 		}
 
-		Consumer<Image> nextFrameListener = nextFrame.poll();
-		Image image = null;
-		while (nextFrameListener != null)
+		return !frameListeners.isEmpty() || !nextFrame.isEmpty();
+	}
+
+	private void processFrameListeners(FrameBuffer frame)
+	{
+		for (Consumer<FrameBuffer> frameListener : frameListeners)
 		{
-			if (image == null)
+			try
 			{
-				try
-				{
-					image = imageSupplier.get();
-				}
-				catch (Exception ex)
-				{
-					log.warn("error getting screenshot", ex);
-				}
+				frameListener.accept(frame);
 			}
-
-			if (image == null)
+			catch (Exception e)
 			{
-				nextFrame.clear();
-				break;
+				log.error("Error in draw consumer", e);
 			}
+		}
+	}
 
+	private void processNextFrameListeners(Image image)
+	{
+		Consumer<Image> nextFrameListener;
+		while ((nextFrameListener = nextFrame.poll()) != null)
+		{
 			try
 			{
 				nextFrameListener.accept(image);
@@ -103,7 +243,6 @@ public class DrawManager
 			{
 				log.error("Error in draw consumer", e);
 			}
-			nextFrameListener = nextFrame.poll();
 		}
 	}
 }
@@ -0,0 +1,142 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui;
+
+import java.awt.Graphics;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.util.concurrent.atomic.AtomicInteger;
+import lombok.Getter;
+
+/**
+ * A reference counted copy of a drawn frame, which is returned to its pool for reuse once it has
+ * been released by everyone holding it. Listeners which hold onto a frame after returning must
+ * {@link #retain()} it, and {@link #release()} it once they are done with it.
+ */
+public class FrameBuffer
+{
+	private final FrameBufferPool pool;
+	private final AtomicInteger refCount = new AtomicInteger(1);
+
+	@Getter
+	private final BufferedImage image;
+	@Getter
+	private final int width;
+	@Getter
+	private final int height;
+
+	/**
+	 * Create a frame with a reference count of 1
+	 *
+	 * @param pool the pool the frame is returned to once released, or null if it isn't reused
+	 */
+	FrameBuffer(final FrameBufferPool pool, final int width, final int height)
+	{
+		this.pool = pool;
+		this.width = width;
+		this.height = height;
+		this.image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+	}
+
+	/**
+	 * Get the pixels of the frame, as {@code 0xRRGGBB} in rows from top to bottom. This is backed
+	 * by the image, and must not be used after the frame has been released.
+	 *
+	 * @return the pixels
+	 */
+	public int[] getPixels()
+	{
+		return ((DataBufferInt) image.getRaster().getDataBuffer()).getData();
+	}
+
+	/**
+	 * Draw an image onto the frame
+	 *
+	 * @param src the image
+	 */
+	public void draw(final Image src)
+	{
+		final Graphics graphics = image.getGraphics();
+		graphics.drawImage(src, 0, 0, width, height, null);
+		graphics.dispose();
+	}
+
+	/**
+	 * Copy the frame into a new image, which is not reused
+	 *
+	 * @return the image
+	 */
+	public BufferedImage copy()
+	{
+		final BufferedImage copy = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+		final int[] pixels = ((DataBufferInt) copy.getRaster().getDataBuffer()).getData();
+		System.arraycopy(getPixels(), 0, pixels, 0, pixels.length);
+		return copy;
+	}
+
+	/**
+	 * Take a reference to the frame
+	 *
+	 * @return this frame
+	 */
+	public FrameBuffer retain()
+	{
+		if (refCount.getAndIncrement() <= 0)
+		{
+			refCount.decrementAndGet();
+			throw new IllegalStateException("frame has already been released");
+		}
+		return this;
+	}
+
+	/**
+	 * Release a reference to the frame, returning it to the pool if it was the last one
+	 */
+	public void release()
+	{
+		final int count = refCount.decrementAndGet();
+		if (count == 0)
+		{
+			if (pool != null)
+			{
+				pool.free(this);
+			}
+		}
+		else if (count < 0)
+		{
+			refCount.incrementAndGet();
+			throw new IllegalStateException("frame has already been released");
+		}
+	}
+
+	/**
+	 * Set the reference count of a frame taken out of the pool
+	 */
+	void acquired()
+	{
+		refCount.set(1);
+	}
+}
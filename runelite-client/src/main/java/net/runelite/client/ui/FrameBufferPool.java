@@ -0,0 +1,98 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+
+/**
+ * A pool of reusable frame buffers. The free frames are always of the same size, frames of another
+ * size are dropped once the client has been resized.
+ */
+class FrameBufferPool
+{
+	private final int capacity;
+	private final Deque<FrameBuffer> free = new ArrayDeque<>();
+
+	FrameBufferPool(final int capacity)
+	{
+		this.capacity = capacity;
+	}
+
+	/**
+	 * Get a frame buffer of the given size with a reference count of 1
+	 *
+	 * @param width frame width
+	 * @param height frame height
+	 * @return the frame buffer
+	 */
+	FrameBuffer acquire(final int width, final int height)
+	{
+		FrameBuffer frame;
+		synchronized (free)
+		{
+			frame = free.pollFirst();
+			if (frame != null && (frame.getWidth() != width || frame.getHeight() != height))
+			{
+				// the client was resized, and the free frames are all the old size
+				free.clear();
+				frame = null;
+			}
+		}
+
+		if (frame == null)
+		{
+			frame = new FrameBuffer(this, width, height);
+		}
+
+		frame.acquired();
+		return frame;
+	}
+
+	void free(final FrameBuffer frame)
+	{
+		synchronized (free)
+		{
+			final FrameBuffer newest = free.peekFirst();
+			if (newest != null && (newest.getWidth() != frame.getWidth() || newest.getHeight() != frame.getHeight()))
+			{
+				free.clear();
+			}
+
+			if (free.size() < capacity)
+			{
+				free.addFirst(frame);
+			}
+		}
+	}
+
+	int size()
+	{
+		synchronized (free)
+		{
+			return free.size();
+		}
+	}
+}
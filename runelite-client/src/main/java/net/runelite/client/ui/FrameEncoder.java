@@ -0,0 +1,107 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.atomic.AtomicInteger;
+import javax.imageio.ImageIO;
+import javax.inject.Inject;
+import javax.inject.Named;
+import javax.inject.Singleton;
+import net.runelite.client.task.ExecutorManager;
+
+/**
+ * Encodes frames to image files off of the client thread, for frame listeners which capture frames
+ * continuously. Frames are dropped instead of queued when the encoder falls too far behind.
+ */
+@Singleton
+public class FrameEncoder
+{
+	private static final int MAX_PENDING = 4;
+
+	private final ScheduledExecutorService executor;
+	private final AtomicInteger pending = new AtomicInteger();
+
+	@Inject
+	private FrameEncoder(@Named(ExecutorManager.CPU) ScheduledExecutorService executor)
+	{
+		this.executor = executor;
+	}
+
+	/**
+	 * Encode a frame. The frame is retained until it has been encoded, so this may be called
+	 * from a frame listener.
+	 *
+	 * @param frame the frame
+	 * @param format an {@link ImageIO} format name, eg. {@code png} or {@code jpg}
+	 * @return the encoded image, or {@code null} if the frame was dropped
+	 */
+	public CompletableFuture<byte[]> encode(FrameBuffer frame, String format)
+	{
+		if (pending.incrementAndGet() > MAX_PENDING)
+		{
+			pending.decrementAndGet();
+			return null;
+		}
+
+		frame.retain();
+
+		final CompletableFuture<byte[]> future = new CompletableFuture<>();
+		try
+		{
+			executor.execute(() ->
+			{
+				try
+				{
+					final ByteArrayOutputStream out = new ByteArrayOutputStream();
+					if (!ImageIO.write(frame.getImage(), format, out))
+					{
+						throw new IOException("no writer for format " + format);
+					}
+					future.complete(out.toByteArray());
+				}
+				catch (Exception ex)
+				{
+					future.completeExceptionally(ex);
+				}
+				finally
+				{
+					frame.release();
+					pending.decrementAndGet();
+				}
+			});
+		}
+		catch (RuntimeException ex)
+		{
+			frame.release();
+			pending.decrementAndGet();
+			throw ex;
+		}
+		return future;
+	}
+}
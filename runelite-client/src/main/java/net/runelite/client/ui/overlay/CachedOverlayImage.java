@@ -0,0 +1,138 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.awt.AlphaComposite;
+import java.awt.Dimension;
+import java.awt.Font;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.Objects;
+import lombok.Getter;
+
+/**
+ * An off-screen image of an overlay, so that it can be drawn without rendering it again
+ */
+class CachedOverlayImage
+{
+	private BufferedImage image;
+	/**
+	 * The dimension the overlay returned when it was rendered into the image
+	 */
+	@Getter
+	private Dimension size;
+	@Getter
+	private long frame;
+	private long version;
+	private Font font;
+	private Dimension preferredSize;
+
+	boolean isValid()
+	{
+		return image != null;
+	}
+
+	/**
+	 * Check if the image is still what the overlay would draw, assuming it only changes with its content version
+	 *
+	 * @param overlay overlay
+	 * @param font font the overlay would be drawn with
+	 * @param version current content version of the overlay
+	 * @return true if the image can be drawn in place of the overlay
+	 */
+	boolean isCurrent(Overlay overlay, Font font, long version)
+	{
+		return image != null
+			&& this.version == version
+			&& Objects.equals(this.font, font)
+			&& Objects.equals(preferredSize, overlay.getPreferredSize());
+	}
+
+	void invalidate()
+	{
+		image = null;
+		size = null;
+	}
+
+	/**
+	 * Render the overlay into the image. If the overlay draws larger than the given size
+	 * the image is left invalid, and the overlay needs to be drawn directly instead.
+	 *
+	 * @param overlay overlay to render
+	 * @param target graphics the image will be drawn to, for the font and rendering hints
+	 * @param width image width
+	 * @param height image height
+	 * @param frame current frame number
+	 * @param version content version of the overlay
+	 */
+	void render(Overlay overlay, Graphics2D target, int width, int height, long frame, long version)
+	{
+		if (image == null || image.getWidth() < width || image.getHeight() < height)
+		{
+			image = new BufferedImage(width, height, BufferedImage.TYPE_INT_ARGB);
+		}
+
+		final Graphics2D graphics = image.createGraphics();
+		final Dimension dimension;
+		try
+		{
+			graphics.setComposite(AlphaComposite.Clear);
+			graphics.fillRect(0, 0, image.getWidth(), image.getHeight());
+			graphics.setComposite(target.getComposite());
+			graphics.setRenderingHints(target.getRenderingHints());
+			graphics.setFont(target.getFont());
+			graphics.setColor(target.getColor());
+			graphics.setStroke(target.getStroke());
+
+			dimension = overlay.render(graphics);
+		}
+		catch (RuntimeException ex)
+		{
+			invalidate();
+			throw ex;
+		}
+		finally
+		{
+			graphics.dispose();
+		}
+
+		if (dimension != null && (dimension.width > image.getWidth() || dimension.height > image.getHeight()))
+		{
+			invalidate();
+			return;
+		}
+
+		this.size = dimension;
+		this.frame = frame;
+		this.version = version;
+		this.font = target.getFont();
+		this.preferredSize = overlay.getPreferredSize() != null ? new Dimension(overlay.getPreferredSize()) : null;
+	}
+
+	void draw(Graphics2D graphics)
+	{
+		graphics.drawImage(image, 0, 0, null);
+	}
+}
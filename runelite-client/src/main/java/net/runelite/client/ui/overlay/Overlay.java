@@ -57,6 +57,13 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	private int minimumSize = 32;
 	private boolean resettable = true;
 
+	/**
+	 * Whether this overlay may be drawn less often, from an image of a previous frame, while
+	 * overlays are taking longer than the configured overlay frame budget to draw. This has
+	 * no effect on {@link OverlayPosition#DYNAMIC} and {@link OverlayPosition#TOOLTIP} overlays.
+	 */
+	private boolean deferrable;
+
 	/**
 	 * Whether this overlay can be dragged onto other overlays &amp; have
 	 * other overlays dragged onto it.
@@ -161,4 +168,17 @@ public abstract class Overlay implements LayoutableRenderableEntity
 	public void revalidate()
 	{
 	}
+
+	/**
+	 * Get the version of what this overlay currently draws. Overlays returning a version other than -1
+	 * are rendered to an off-screen image, which is drawn instead of rendering the overlay again until
+	 * the version changes, the overlay is resized, or any config changes. Such overlays must not draw
+	 * anything which changes without the version changing, such as hover effects or animations.
+	 *
+	 * @return the content version, or -1 to render the overlay every frame
+	 */
+	public long getContentVersion()
+	{
+		return -1;
+	}
 }
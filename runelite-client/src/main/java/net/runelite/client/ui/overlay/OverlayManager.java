@@ -26,14 +26,18 @@ package net.runelite.client.ui.overlay;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.MoreObjects;
-import com.google.common.collect.ArrayListMultimap;
 import java.awt.Dimension;
 import java.awt.Point;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Predicate;
 import javax.inject.Inject;
 import javax.inject.Singleton;
@@ -87,12 +91,18 @@ public class OverlayManager
 			: b.getPriority().compareTo(a.getPriority());
 	};
 
+	private static final Overlay[] EMPTY = new Overlay[0];
+
 	/**
 	 * Insertion-order sorted set of overlays
 	 * All access to this must be guarded by a lock on this OverlayManager
 	 */
-	@Getter(AccessLevel.PACKAGE)
 	private final List<Overlay> overlays = new ArrayList<>();
+	/**
+	 * Copy of overlays which is republished on every change, for reading without the lock
+	 */
+	@Getter(AccessLevel.PACKAGE)
+	private volatile Overlay[] overlaySnapshot = EMPTY;
 	@Getter
 	@Setter
 	private Collection<WidgetItem> widgetItems = Collections.emptyList();
@@ -102,8 +112,15 @@ public class OverlayManager
 	 * OverlayLayer ABOVE_SCENE, UNDER_WIDGETS, and ALWAYS_ON_TOP
 	 * A component id that is a layer
 	 * An interface id << 16 | 0xffff
+	 *
+	 * Neither the map nor its arrays are modified after being published, changes
+	 * copy them instead, so the render and input threads read them without locking.
 	 */
-	private ArrayListMultimap<Object, Overlay> overlayMap = ArrayListMultimap.create();
+	private volatile Map<Object, Overlay[]> overlayMap = Collections.emptyMap();
+
+	private final Map<Overlay, OverlayRenderTimer> renderTimers = new ConcurrentHashMap<>();
+	private final Map<Overlay, CachedOverlayImage> contentImages = new ConcurrentHashMap<>();
+	private final Map<Overlay, CachedOverlayImage> deferredImages = new ConcurrentHashMap<>();
 
 	private final ConfigManager configManager;
 	private final RuneLiteConfig runeLiteConfig;
@@ -118,6 +135,9 @@ public class OverlayManager
 	@Subscribe
 	public void onConfigChanged(final ConfigChanged event)
 	{
+		// fonts, colors, and plugin settings all change what overlays draw
+		contentImages.clear();
+
 		if (!RuneLiteConfig.GROUP_NAME.equals(event.getGroup()) || !"overlayBackgroundColor".equals(event.getKey()))
 		{
 			return;
@@ -127,31 +147,37 @@ public class OverlayManager
 	}
 
 	@Subscribe
-	public void onPluginChanged(final PluginChanged event)
+	public synchronized void onPluginChanged(final PluginChanged event)
 	{
 		overlays.forEach(this::loadOverlay);
-		rebuildOverlayLayers();
+
+		// overlays of the plugin itself are added and removed incrementally, so only rebuild
+		// when an overlay has moved, or changed its layer or priority, since it was added
+		if (!isLayoutCurrent(overlays, overlayMap))
+		{
+			rebuildOverlayLayers();
+		}
 	}
 
 	/**
 	 * Gets all of the overlays on a layer sorted by priority and position
 	 *
 	 * @param layer the layer
-	 * @return An immutable list of all of the overlays on that layer
+	 * @return the overlays on that layer, which must not be modified
 	 */
-	Collection<Overlay> getLayer(OverlayLayer layer)
+	Overlay[] getLayer(OverlayLayer layer)
 	{
-		return Collections.unmodifiableCollection(overlayMap.get(layer));
+		return overlayMap.getOrDefault(layer, EMPTY);
 	}
 
-	Collection<Overlay> getForInterface(int interfaceId)
+	Overlay[] getForInterface(int interfaceId)
 	{
-		return Collections.unmodifiableCollection(overlayMap.get(interfaceId << 16 | 0xffff));
+		return overlayMap.getOrDefault(interfaceId << 16 | 0xffff, EMPTY);
 	}
 
-	Collection<Overlay> getForLayer(int layerId)
+	Overlay[] getForLayer(int layerId)
 	{
-		return Collections.unmodifiableCollection(overlayMap.get(layerId));
+		return overlayMap.getOrDefault(layerId, EMPTY);
 	}
 
 	/**
@@ -179,7 +205,12 @@ public class OverlayManager
 			((WidgetItemOverlay) overlay).setOverlayManager(this);
 		}
 
-		rebuildOverlayLayers();
+		final Map<Object, Overlay[]> overlayMap = new HashMap<>(this.overlayMap);
+		for (Object key : getKeys(overlay))
+		{
+			overlayMap.put(key, insert(overlayMap.getOrDefault(key, EMPTY), overlay));
+		}
+		publish(overlayMap);
 		return true;
 	}
 
@@ -195,7 +226,26 @@ public class OverlayManager
 
 		if (remove)
 		{
-			rebuildOverlayLayers();
+			// the overlay may have moved since it was added, so check every key
+			final Map<Object, Overlay[]> overlayMap = new HashMap<>(this.overlayMap);
+			for (Iterator<Map.Entry<Object, Overlay[]>> it = overlayMap.entrySet().iterator(); it.hasNext(); )
+			{
+				final Map.Entry<Object, Overlay[]> entry = it.next();
+				final Overlay[] layer = remove(entry.getValue(), overlay);
+				if (layer.length == 0)
+				{
+					it.remove();
+				}
+				else
+				{
+					entry.setValue(layer);
+				}
+			}
+			publish(overlayMap);
+
+			renderTimers.remove(overlay);
+			contentImages.remove(overlay);
+			deferredImages.remove(overlay);
 		}
 
 		return remove;
@@ -266,50 +316,214 @@ public class OverlayManager
 		overlay.revalidate();
 	}
 
+	/**
+	 * Get the render times of the overlays which have been drawn, most expensive first
+	 *
+	 * @return the render times
+	 */
+	public List<OverlayRenderStats> getRenderStats()
+	{
+		final List<OverlayRenderStats> stats = new ArrayList<>(renderTimers.size());
+		for (Map.Entry<Overlay, OverlayRenderTimer> entry : renderTimers.entrySet())
+		{
+			final OverlayRenderTimer timer = entry.getValue();
+			stats.add(new OverlayRenderStats(entry.getKey(), timer.getLastNanos(), timer.getAverageNanos(), timer.getPercentileNanos(.99)));
+		}
+		stats.sort(Comparator.comparingLong(OverlayRenderStats::getAverageNanos).reversed());
+		return stats;
+	}
+
+	OverlayRenderTimer getRenderTimer(final Overlay overlay)
+	{
+		final OverlayRenderTimer timer = renderTimers.get(overlay);
+		return timer != null ? timer : renderTimers.computeIfAbsent(overlay, o -> new OverlayRenderTimer());
+	}
+
+	CachedOverlayImage getContentImage(final Overlay overlay)
+	{
+		final CachedOverlayImage image = contentImages.get(overlay);
+		return image != null ? image : contentImages.computeIfAbsent(overlay, o -> new CachedOverlayImage());
+	}
+
+	CachedOverlayImage getDeferredImage(final Overlay overlay)
+	{
+		final CachedOverlayImage image = deferredImages.get(overlay);
+		return image != null ? image : deferredImages.computeIfAbsent(overlay, o -> new CachedOverlayImage());
+	}
+
+	void clearDeferredImages()
+	{
+		if (!deferredImages.isEmpty())
+		{
+			deferredImages.clear();
+		}
+	}
+
+	/**
+	 * Rebuild all of the overlay layers, for when overlays have moved between
+	 * layers or positions
+	 */
 	synchronized void rebuildOverlayLayers()
 	{
-		ArrayListMultimap<Object, Overlay> overlayMap = ArrayListMultimap.create();
+		final Map<Object, List<Overlay>> lists = new HashMap<>();
 		for (final Overlay overlay : overlays)
 		{
-			OverlayLayer layer = overlay.getLayer();
+			for (Object key : getKeys(overlay))
+			{
+				lists.computeIfAbsent(key, k -> new ArrayList<>()).add(overlay);
+			}
+		}
 
-			if (overlay.getPreferredLocation() != null && overlay.getPreferredPosition() == null)
+		final Map<Object, Overlay[]> overlayMap = new HashMap<>(lists.size());
+		for (Map.Entry<Object, List<Overlay>> entry : lists.entrySet())
+		{
+			final List<Overlay> list = entry.getValue();
+			list.sort(OVERLAY_COMPARATOR);
+			overlayMap.put(entry.getKey(), list.toArray(EMPTY));
+		}
+
+		publish(overlayMap);
+
+		// drop the render times and images of removed overlays
+		renderTimers.keySet().retainAll(overlays);
+		contentImages.keySet().retainAll(overlays);
+		deferredImages.keySet().retainAll(overlays);
+	}
+
+	private void publish(final Map<Object, Overlay[]> overlayMap)
+	{
+		this.overlayMap = Collections.unmodifiableMap(overlayMap);
+		overlaySnapshot = overlays.toArray(EMPTY);
+	}
+
+	/**
+	 * Get the keys of the overlay map which the overlay is drawn under
+	 */
+	private static List<Object> getKeys(final Overlay overlay)
+	{
+		final List<Object> keys = new ArrayList<>(3 + overlay.getDrawHooks().size());
+		OverlayLayer layer = overlay.getLayer();
+
+		if (overlay.getPreferredLocation() != null && overlay.getPreferredPosition() == null)
+		{
+			// When UNDER_WIDGET overlays are in preferred locations, move to
+			// ABOVE_WIDGETS so that it can draw over interfaces
+			if (layer == OverlayLayer.UNDER_WIDGETS && !(overlay instanceof WidgetOverlay))
+			{
+				layer = OverlayLayer.ABOVE_WIDGETS;
+			}
+		}
+
+		switch (layer)
+		{
+			case ABOVE_SCENE:
+			case UNDER_WIDGETS:
+			case ALWAYS_ON_TOP:
+				keys.add(layer);
+				break;
+			case ABOVE_WIDGETS:
+				// draw after each of the top level interfaces
+				keys.add(WidgetID.FIXED_VIEWPORT_GROUP_ID << 16 | 0xffff);
+				keys.add(WidgetID.RESIZABLE_VIEWPORT_OLD_SCHOOL_BOX_GROUP_ID << 16 | 0xffff);
+				keys.add(WidgetID.RESIZABLE_VIEWPORT_BOTTOM_LINE_GROUP_ID << 16 | 0xffff);
+				break;
+		}
+
+		keys.addAll(overlay.getDrawHooks());
+		return keys;
+	}
+
+	/**
+	 * Check whether the overlay map has every overlay under each of its keys, and nothing else,
+	 * sorted by priority and position
+	 */
+	@VisibleForTesting
+	static boolean isLayoutCurrent(final List<Overlay> overlays, final Map<Object, Overlay[]> overlayMap)
+	{
+		int expected = 0;
+		for (Overlay overlay : overlays)
+		{
+			expected += getKeys(overlay).size();
+		}
+
+		int published = 0;
+		for (Map.Entry<Object, Overlay[]> entry : overlayMap.entrySet())
+		{
+			final Overlay[] layer = entry.getValue();
+			for (int i = 0; i < layer.length; ++i)
 			{
-				// When UNDER_WIDGET overlays are in preferred locations, move to
-				// ABOVE_WIDGETS so that it can draw over interfaces
-				if (layer == OverlayLayer.UNDER_WIDGETS && !(overlay instanceof WidgetOverlay))
+				if (!getKeys(layer[i]).contains(entry.getKey())
+					|| i > 0 && OVERLAY_COMPARATOR.compare(layer[i - 1], layer[i]) > 0)
 				{
-					layer = OverlayLayer.ABOVE_WIDGETS;
+					return false;
 				}
 			}
+			published += layer.length;
+		}
 
-			switch (layer)
+		// each overlay is only inserted once per key, so with no misplaced overlays equal counts means none are missing
+		return published == expected;
+	}
+
+	/**
+	 * Copy a sorted overlay array with the overlay inserted after any overlays which
+	 * sort equal to it, which is the same order a stable sort would give
+	 */
+	@VisibleForTesting
+	static Overlay[] insert(final Overlay[] overlays, final Overlay overlay)
+	{
+		int low = 0;
+		int high = overlays.length;
+		while (low < high)
+		{
+			final int mid = (low + high) >>> 1;
+			if (OVERLAY_COMPARATOR.compare(overlays[mid], overlay) <= 0)
+			{
+				low = mid + 1;
+			}
+			else
 			{
-				case ABOVE_SCENE:
-				case UNDER_WIDGETS:
-				case ALWAYS_ON_TOP:
-					overlayMap.put(layer, overlay);
-					break;
-				case ABOVE_WIDGETS:
-					// draw after each of the top level interfaces
-					overlayMap.put(WidgetID.FIXED_VIEWPORT_GROUP_ID << 16 | 0xffff, overlay);
-					overlayMap.put(WidgetID.RESIZABLE_VIEWPORT_OLD_SCHOOL_BOX_GROUP_ID << 16 | 0xffff, overlay);
-					overlayMap.put(WidgetID.RESIZABLE_VIEWPORT_BOTTOM_LINE_GROUP_ID << 16 | 0xffff, overlay);
-					break;
+				high = mid;
 			}
+		}
+
+		final Overlay[] result = new Overlay[overlays.length + 1];
+		System.arraycopy(overlays, 0, result, 0, low);
+		result[low] = overlay;
+		System.arraycopy(overlays, low, result, low + 1, overlays.length - low);
+		return result;
+	}
 
-			for (int drawHook : overlay.getDrawHooks())
+	/**
+	 * Copy an overlay array without the overlay, or return it as-is if it does not contain it
+	 */
+	@VisibleForTesting
+	static Overlay[] remove(final Overlay[] overlays, final Overlay overlay)
+	{
+		int count = 0;
+		for (Overlay o : overlays)
+		{
+			if (o == overlay)
 			{
-				overlayMap.put(drawHook, overlay);
+				++count;
 			}
 		}
 
-		for (Object key : overlayMap.keys())
+		if (count == 0)
 		{
-			overlayMap.get(key).sort(OVERLAY_COMPARATOR);
+			return overlays;
 		}
 
-		this.overlayMap = overlayMap;
+		final Overlay[] result = new Overlay[overlays.length - count];
+		int i = 0;
+		for (Overlay o : overlays)
+		{
+			if (o != overlay)
+			{
+				result[i++] = o;
+			}
+		}
+		return result;
 	}
 
 	private void loadOverlay(final Overlay overlay)
@@ -0,0 +1,77 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay;
+
+import java.util.Arrays;
+
+/**
+ * Render times of an overlay. Samples are recorded from the client thread only.
+ */
+class OverlayRenderTimer
+{
+	// number of recent samples kept for the average and percentiles, must be a power of two
+	private static final int SAMPLES = 128;
+
+	private final long[] samples = new long[SAMPLES];
+	private volatile int count;
+	// sum of the samples in the window
+	private volatile long total;
+	private volatile long last;
+
+	void record(long nanos)
+	{
+		int c = count;
+		int idx = c & (SAMPLES - 1);
+		total += nanos - samples[idx];
+		samples[idx] = nanos;
+		last = nanos;
+		count = c + 1;
+	}
+
+	long getLastNanos()
+	{
+		return last;
+	}
+
+	long getAverageNanos()
+	{
+		int n = Math.min(count, SAMPLES);
+		return n == 0 ? 0 : total / n;
+	}
+
+	long getPercentileNanos(double percentile)
+	{
+		int n = Math.min(count, SAMPLES);
+		if (n == 0)
+		{
+			return 0;
+		}
+
+		long[] sorted = Arrays.copyOf(samples, n);
+		Arrays.sort(sorted);
+		int idx = (int) Math.ceil(n * percentile) - 1;
+		return sorted[Math.max(0, Math.min(n - 1, idx))];
+	}
+}
@@ -41,6 +41,7 @@ import java.awt.geom.AffineTransform;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 import javax.inject.Inject;
 import javax.inject.Singleton;
 import javax.swing.SwingUtilities;
@@ -85,6 +86,12 @@ public class OverlayRenderer extends MouseAdapter
 	private static final Color MOVING_OVERLAY_ACTIVE_COLOR = new Color(255, 255, 0, 200);
 	private static final Color MOVING_OVERLAY_TARGET_COLOR = Color.RED;
 	private static final Color MOVING_OVERLAY_RESIZING_COLOR = new Color(255, 0, 255, 200);
+	// frames between redraws of deferrable overlays while over the overlay frame budget
+	private static final int DEFERRED_RENDER_INTERVAL = 4;
+	// frames to keep deferring overlays after the budget was last exceeded, so it doesn't flip every frame
+	private static final int BUDGET_HOLD_FRAMES = 50;
+	// extra space around the last bounds of cached overlays, so they can grow a bit
+	private static final int CACHED_IMAGE_PADDING = 16;
 
 	private final Client client;
 	private final OverlayManager overlayManager;
@@ -111,6 +118,11 @@ public class OverlayRenderer extends MouseAdapter
 	private boolean isResizeable;
 	private OverlayBounds emptySnapCorners, snapCorners;
 
+	// Overlay frame budget
+	private long frame;
+	private long frameOverlayNanos;
+	private long deferUntilFrame;
+
 	private final HotkeyListener hotkeyListener;
 
 	@Inject
@@ -205,6 +217,19 @@ public class OverlayRenderer extends MouseAdapter
 	@Subscribe
 	public void onBeforeRender(BeforeRender event)
 	{
+		final int budget = runeLiteConfig.overlayFrameBudget();
+		if (budget > 0 && frameOverlayNanos > TimeUnit.MILLISECONDS.toNanos(budget))
+		{
+			deferUntilFrame = frame + BUDGET_HOLD_FRAMES;
+		}
+		else if (frame >= deferUntilFrame)
+		{
+			overlayManager.clearDeferredImages();
+		}
+
+		frameOverlayNanos = 0;
+		++frame;
+
 		hoveredOverlay = null;
 
 		if (client.getGameState() == GameState.LOGGED_IN)
@@ -222,13 +247,13 @@ public class OverlayRenderer extends MouseAdapter
 
 	public void renderOverlayLayer(Graphics2D graphics, final OverlayLayer layer)
 	{
-		final Collection<Overlay> overlays = overlayManager.getLayer(layer);
+		final Overlay[] overlays = overlayManager.getLayer(layer);
 		renderOverlays(graphics, overlays, layer);
 	}
 
 	public void renderAfterInterface(Graphics2D graphics, int interfaceId, Collection<WidgetItem> widgetItems)
 	{
-		Collection<Overlay> overlays = overlayManager.getForInterface(interfaceId);
+		final Overlay[] overlays = overlayManager.getForInterface(interfaceId);
 		overlayManager.setWidgetItems(widgetItems);
 		renderOverlays(graphics, overlays, OverlayLayer.ABOVE_WIDGETS);
 		overlayManager.setWidgetItems(Collections.emptyList());
@@ -236,16 +261,15 @@ public class OverlayRenderer extends MouseAdapter
 
 	public void renderAfterLayer(Graphics2D graphics, Widget layer, Collection<WidgetItem> widgetItems)
 	{
-		Collection<Overlay> overlays = overlayManager.getForLayer(layer.getId());
+		final Overlay[] overlays = overlayManager.getForLayer(layer.getId());
 		overlayManager.setWidgetItems(widgetItems);
 		renderOverlays(graphics, overlays, OverlayLayer.ABOVE_WIDGETS);
 		overlayManager.setWidgetItems(Collections.emptyList());
 	}
 
-	private void renderOverlays(Graphics2D graphics, Collection<Overlay> overlays, OverlayLayer layer)
+	private void renderOverlays(Graphics2D graphics, Overlay[] overlays, OverlayLayer layer)
 	{
-		if (overlays == null
-			|| overlays.isEmpty()
+		if (overlays.length == 0
 			|| client.getGameState() != GameState.LOGGED_IN)
 		{
 			return;
@@ -500,21 +524,18 @@ public class OverlayRenderer extends MouseAdapter
 	 */
 	private Overlay findMangedOverlay(Point mousePoint)
 	{
-		synchronized (overlayManager)
+		for (Overlay overlay : overlayManager.getOverlaySnapshot())
 		{
-			for (Overlay overlay : overlayManager.getOverlays())
+			if (overlay.getPosition() == OverlayPosition.DYNAMIC || overlay.getPosition() == OverlayPosition.TOOLTIP)
 			{
-				if (overlay.getPosition() == OverlayPosition.DYNAMIC || overlay.getPosition() == OverlayPosition.TOOLTIP)
-				{
-					// never allow moving dynamic or tooltip overlays
-					continue;
-				}
+				// never allow moving dynamic or tooltip overlays
+				continue;
+			}
 
-				final Rectangle bounds = overlay.getBounds();
-				if (bounds.contains(mousePoint))
-				{
-					return overlay;
-				}
+			final Rectangle bounds = overlay.getBounds();
+			if (bounds.contains(mousePoint))
+			{
+				return overlay;
 			}
 		}
 		return null;
@@ -746,21 +767,77 @@ public class OverlayRenderer extends MouseAdapter
 		graphics.translate(point.x, point.y);
 		overlay.getBounds().setLocation(point);
 
+		final OverlayRenderTimer timer = overlayManager.getRenderTimer(overlay);
+		final long start = System.nanoTime();
 		final Dimension overlayDimension;
 		try
 		{
-			overlayDimension = overlay.render(graphics);
+			overlayDimension = renderOverlay(overlay, position, graphics);
 		}
 		catch (Exception ex)
 		{
 			log.warn(DEDUPLICATE, "Error during overlay rendering", ex);
 			return;
 		}
+		finally
+		{
+			final long elapsed = System.nanoTime() - start;
+			timer.record(elapsed);
+			frameOverlayNanos += elapsed;
+		}
 
 		final Dimension dimension = MoreObjects.firstNonNull(overlayDimension, new Dimension());
 		overlay.getBounds().setSize(dimension);
 	}
 
+	private Dimension renderOverlay(Overlay overlay, OverlayPosition position, Graphics2D graphics)
+	{
+		if (position == OverlayPosition.DYNAMIC || position == OverlayPosition.TOOLTIP)
+		{
+			return overlay.render(graphics);
+		}
+
+		final long version = overlay.getContentVersion();
+		if (version != -1)
+		{
+			// Draw the overlay from an image which is only updated when its content changes
+			final CachedOverlayImage image = overlayManager.getContentImage(overlay);
+			return renderCached(overlay, graphics, image, image.isCurrent(overlay, graphics.getFont(), version), version);
+		}
+
+		if (frame >= deferUntilFrame || !overlay.isDeferrable())
+		{
+			return overlay.render(graphics);
+		}
+
+		// Over the frame budget, draw the overlay from an image which is only updated every few frames
+		final CachedOverlayImage image = overlayManager.getDeferredImage(overlay);
+		return renderCached(overlay, graphics, image, image.isValid() && frame - image.getFrame() < DEFERRED_RENDER_INTERVAL, version);
+	}
+
+	private Dimension renderCached(Overlay overlay, Graphics2D graphics, CachedOverlayImage image, boolean current, long version)
+	{
+		if (!current)
+		{
+			final Rectangle bounds = overlay.getBounds();
+			if (bounds.width <= 0 || bounds.height <= 0)
+			{
+				// the overlay hasn't been drawn yet, so the image size isn't known
+				return overlay.render(graphics);
+			}
+
+			image.render(overlay, graphics, bounds.width + CACHED_IMAGE_PADDING, bounds.height + CACHED_IMAGE_PADDING, frame, version);
+			if (!image.isValid())
+			{
+				// the overlay outgrew the image
+				return overlay.render(graphics);
+			}
+		}
+
+		image.draw(graphics);
+		return image.getSize();
+	}
+
 	private OverlayPosition getCorrectedOverlayPosition(final Overlay overlay)
 	{
 		OverlayPosition overlayPosition = overlay.getPosition();
@@ -31,6 +31,7 @@ import java.awt.image.BufferedImage;
 import java.awt.image.DataBufferInt;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collection;
 import java.util.Comparator;
 import java.util.List;
 import lombok.AccessLevel;
@@ -78,9 +79,19 @@ public class ModelOutlineRenderer
 
 	private final Client client;
 	
-	// Vertex positions projected on the screen.
-	private final int[] projectedVerticesX = new int[6500];
-	private final int[] projectedVerticesY = new int[6500];
+	// Vertex positions projected on the screen, for all of the models in the batch.
+	private int[] projectedVerticesX = new int[8192];
+	private int[] projectedVerticesY = new int[8192];
+
+	// Vertex positions of a single model projected on the screen, before being added to the batch.
+	private int[] modelVerticesX = new int[8192];
+	private int[] modelVerticesY = new int[8192];
+
+	// Indices in the projected vertices of the faces of all of the models in the batch, three per face.
+	// These are copied when a model is added, since actor models are shared and overwritten by the client.
+	private int[] batchFaceIndices = new int[3 * 8192];
+	private int batchFaceIndexCount;
+	private int batchVertexCount;
 
 	// Window boundaries for the ingame world
 	private int clipX1;
@@ -513,56 +524,91 @@ public class ModelOutlineRenderer
 	}
 
 	/**
-	 * Translates the vertices 3D points to the screen canvas 2D points.
+	 * Translates the vertices 3D points to the screen canvas 2D points, and adds
+	 * the model to the batch if any of them are inside the clip area.
 	 *
 	 * @param localX The local x position of the vertices.
 	 * @param localY The local y position of the vertices.
 	 * @param localZ The local z position of the vertices.
 	 * @param vertexOrientation The orientation of the vertices.
-	 * @return Returns true if any of them are inside the clip area, otherwise false.
 	 */
-	private boolean projectVertices(Model model, int localX, int localY, int localZ, final int vertexOrientation)
+	private void addModel(Model model, int localX, int localY, int localZ, final int vertexOrientation)
 	{
+		if (model == null)
+		{
+			return;
+		}
+
 		final int vertexCount = model.getVerticesCount();
+		if (modelVerticesX.length < vertexCount)
+		{
+			modelVerticesX = new int[nextPowerOfTwo(vertexCount)];
+			modelVerticesY = new int[modelVerticesX.length];
+		}
+
 		Perspective.modelToCanvas(client,
 			vertexCount,
 			localX, localY, localZ,
 			vertexOrientation,
 			model.getVerticesX(), model.getVerticesZ(), model.getVerticesY(),
-			projectedVerticesX, projectedVerticesY);
+			modelVerticesX, modelVerticesY);
 
 		boolean anyVisible = false;
+		int minX = Integer.MAX_VALUE;
+		int maxX = Integer.MIN_VALUE;
+		int minY = Integer.MAX_VALUE;
+		int maxY = Integer.MIN_VALUE;
 
 		for (int i = 0; i < vertexCount; i++)
 		{
-			int x = projectedVerticesX[i];
-			int y = projectedVerticesY[i];
+			int x = modelVerticesX[i];
+			int y = modelVerticesY[i];
 
+			// Vertices which are too close or behind the camera aren't rendered and have y = Integer.MIN_VALUE
 			if (y != Integer.MIN_VALUE)
 			{
 				boolean visibleX = x >= clipX1 && x < clipX2;
 				boolean visibleY = y >= clipY1 && y < clipY2;
 				anyVisible |= visibleX && visibleY;
 
-				croppedX1 = Math.min(croppedX1, x);
-				croppedX2 = Math.max(croppedX2, x + 1);
-				croppedY1 = Math.min(croppedY1, y);
-				croppedY2 = Math.max(croppedY2, y + 1);
-			}
-			else
-			{
-				// Vertex is too close or behind camera and isn't rendered
-				projectedVerticesY[i] = Integer.MIN_VALUE;
+				minX = Math.min(minX, x);
+				maxX = Math.max(maxX, x + 1);
+				minY = Math.min(minY, y);
+				maxY = Math.max(maxY, y + 1);
 			}
 		}
 
-		return anyVisible;
+		if (!anyVisible)
+		{
+			// No vertex of the model is visible on the screen, so we can
+			// assume there are no parts of the model to outline.
+			return;
+		}
+
+		croppedX1 = Math.min(croppedX1, minX);
+		croppedX2 = Math.max(croppedX2, maxX);
+		croppedY1 = Math.min(croppedY1, minY);
+		croppedY2 = Math.max(croppedY2, maxY);
+
+		final int offset = batchVertexCount;
+		if (projectedVerticesX.length < offset + vertexCount)
+		{
+			projectedVerticesX = Arrays.copyOf(projectedVerticesX, nextPowerOfTwo(offset + vertexCount));
+			projectedVerticesY = Arrays.copyOf(projectedVerticesY, projectedVerticesX.length);
+		}
+		System.arraycopy(modelVerticesX, 0, projectedVerticesX, offset, vertexCount);
+		System.arraycopy(modelVerticesY, 0, projectedVerticesY, offset, vertexCount);
+		batchVertexCount += vertexCount;
+
+		addFaces(model, offset);
 	}
 
 	/**
-	 * Simulates rendering of the model and marks every pixel visited.
+	 * Copies the faces of the model which can be rendered to the batch.
+	 *
+	 * @param vertexOffset The offset of the model's vertices in the projected vertices.
 	 */
-	private void simulateModelRasterizationForOutline(Model model)
+	private void addFaces(Model model, int vertexOffset)
 	{
 		final int triangleCount = model.getFaceCount();
 		final int[] indices1 = model.getFaceIndices1();
@@ -570,28 +616,51 @@ public class ModelOutlineRenderer
 		final int[] indices3 = model.getFaceIndices3();
 		final byte[] triangleTransparencies = model.getFaceTransparencies();
 
+		if (batchFaceIndices.length < batchFaceIndexCount + triangleCount * 3)
+		{
+			batchFaceIndices = Arrays.copyOf(batchFaceIndices, nextPowerOfTwo(batchFaceIndexCount + triangleCount * 3));
+		}
+
 		for (int i = 0; i < triangleCount; i++)
 		{
-			if (projectedVerticesY[indices1[i]] != Integer.MIN_VALUE &&
-				projectedVerticesY[indices2[i]] != Integer.MIN_VALUE &&
-				projectedVerticesY[indices3[i]] != Integer.MIN_VALUE &&
+			final int index1 = indices1[i] + vertexOffset;
+			final int index2 = indices2[i] + vertexOffset;
+			final int index3 = indices3[i] + vertexOffset;
+
+			if (projectedVerticesY[index1] != Integer.MIN_VALUE &&
+				projectedVerticesY[index2] != Integer.MIN_VALUE &&
+				projectedVerticesY[index3] != Integer.MIN_VALUE &&
 				// 254 and 255 counts as fully transparent
 				(triangleTransparencies == null || (triangleTransparencies[i] & 255) < 254))
 			{
-				final int index1 = indices1[i];
-				final int index2 = indices2[i];
-				final int index3 = indices3[i];
-				final int v1x = projectedVerticesX[index1];
-				final int v1y = projectedVerticesY[index1];
-				final int v2x = projectedVerticesX[index2];
-				final int v2y = projectedVerticesY[index2];
-				final int v3x = projectedVerticesX[index3];
-				final int v3y = projectedVerticesY[index3];
-
-				if (!cullFace(v1x, v1y, v2x, v2y, v3x, v3y))
-				{
-					simulateTriangleRasterizationForOutline(v1x, v1y, v2x, v2y, v3x, v3y);
-				}
+				batchFaceIndices[batchFaceIndexCount++] = index1;
+				batchFaceIndices[batchFaceIndexCount++] = index2;
+				batchFaceIndices[batchFaceIndexCount++] = index3;
+			}
+		}
+	}
+
+	/**
+	 * Simulates rendering of the faces in the batch and marks every pixel visited.
+	 */
+	private void simulateBatchRasterizationForOutline()
+	{
+		for (int i = 0; i < batchFaceIndexCount; i += 3)
+		{
+			final int index1 = batchFaceIndices[i];
+			final int index2 = batchFaceIndices[i + 1];
+			final int index3 = batchFaceIndices[i + 2];
+
+			final int v1x = projectedVerticesX[index1];
+			final int v1y = projectedVerticesY[index1];
+			final int v2x = projectedVerticesX[index2];
+			final int v2y = projectedVerticesY[index2];
+			final int v3x = projectedVerticesX[index3];
+			final int v3y = projectedVerticesY[index3];
+
+			if (!cullFace(v1x, v1y, v2x, v2y, v3x, v3y))
+			{
+				simulateTriangleRasterizationForOutline(v1x, v1y, v2x, v2y, v3x, v3y);
 			}
 		}
 	}
@@ -885,37 +954,21 @@ public class ModelOutlineRenderer
 	}
 
 	/**
-	 * Draws an outline around a model to an image
+	 * Starts a new batch of models to be outlined together.
 	 *
-	 * @param localX The local x position of the model
-	 * @param localY The local y position of the model
-	 * @param localZ The local z position of the model
-	 * @param orientation The orientation of the model
 	 * @param outlineWidth The width of the outline
 	 * @param color The color of the outline
+	 * @return Returns false if the outline would not be visible, in which case no models should be added.
 	 */
-	private void drawModelOutline(Model model,
-		int localX, int localY, int localZ, int orientation,
-		int outlineWidth, Color color, int feather)
+	private boolean beginBatch(int outlineWidth, Color color)
 	{
-		if (outlineWidth <= 0 || color.getAlpha() == 0 || model == null)
-		{
-			return;
-		}
-
-		if (outlineWidth > MAX_OUTLINE_WIDTH)
+		if (outlineWidth <= 0 || color.getAlpha() == 0)
 		{
-			outlineWidth = MAX_OUTLINE_WIDTH;
+			return false;
 		}
 
-		if (feather < 0)
-		{
-			feather = 0;
-		}
-		else if (feather > MAX_FEATHER)
-		{
-			feather = MAX_FEATHER;
-		}
+		batchFaceIndexCount = 0;
+		batchVertexCount = 0;
 
 		croppedX1 = Integer.MAX_VALUE;
 		croppedX2 = Integer.MIN_VALUE;
@@ -926,14 +979,37 @@ public class ModelOutlineRenderer
 		clipY1 = client.getViewportYOffset();
 		clipX2 = client.getViewportWidth() + clipX1;
 		clipY2 = client.getViewportHeight() + clipY1;
+		return true;
+	}
 
-		if (!projectVertices(model, localX, localY, localZ, orientation))
+	/**
+	 * Draws one outline around all of the models in the batch to the client image buffer.
+	 *
+	 * @param outlineWidth The width of the outline
+	 * @param color The color of the outline
+	 * @param feather The feather of the outline
+	 */
+	private void drawBatch(int outlineWidth, Color color, int feather)
+	{
+		if (batchFaceIndexCount == 0)
 		{
-			// No vertex of the model is visible on the screen, so we can
-			// assume there are no parts of the model to outline.
 			return;
 		}
 
+		if (outlineWidth > MAX_OUTLINE_WIDTH)
+		{
+			outlineWidth = MAX_OUTLINE_WIDTH;
+		}
+
+		if (feather < 0)
+		{
+			feather = 0;
+		}
+		else if (feather > MAX_FEATHER)
+		{
+			feather = MAX_FEATHER;
+		}
+
 		croppedX1 = Math.max(croppedX1 - outlineWidth, clipX1);
 		croppedX2 = Math.min(croppedX2 + outlineWidth, clipX2);
 		croppedX2 += ~(croppedX2 - croppedX1 - 1) & 31; // Increases width to next multiple of 32 so bitset segments align
@@ -944,7 +1020,8 @@ public class ModelOutlineRenderer
 
 		resetVisited(croppedWidth * croppedHeight);
 
-		simulateModelRasterizationForOutline(model);
+		simulateBatchRasterizationForOutline();
+		batchFaceIndexCount = 0;
 
 		// We can improve performance and reduce memory needed when drawing
 		// only a small outline around the model by skipping the pixel queueing
@@ -981,6 +1058,58 @@ public class ModelOutlineRenderer
 	}
 
 	public void drawOutline(NPC npc, int outlineWidth, Color color, int feather)
+	{
+		if (beginBatch(outlineWidth, color))
+		{
+			addNpc(npc);
+			drawBatch(outlineWidth, color, feather);
+		}
+	}
+
+	/**
+	 * Draws one outline around all of the passed NPCs. This is faster than outlining each
+	 * of them separately, and NPCs which overlap on the screen share a single outline.
+	 */
+	public void drawNpcOutlines(Collection<? extends NPC> npcs, int outlineWidth, Color color, int feather)
+	{
+		if (beginBatch(outlineWidth, color))
+		{
+			for (NPC npc : npcs)
+			{
+				addNpc(npc);
+			}
+			drawBatch(outlineWidth, color, feather);
+		}
+	}
+
+	public void drawOutline(Player player, int outlineWidth, Color color, int feather)
+	{
+		if (beginBatch(outlineWidth, color))
+		{
+			addPlayer(player);
+			drawBatch(outlineWidth, color, feather);
+		}
+	}
+
+	public void drawOutline(TileObject tileObject, int outlineWidth, Color color, int feather)
+	{
+		if (beginBatch(outlineWidth, color))
+		{
+			addTileObject(tileObject);
+			drawBatch(outlineWidth, color, feather);
+		}
+	}
+
+	public void drawOutline(GraphicsObject graphicsObject, int outlineWidth, Color color, int feather)
+	{
+		if (beginBatch(outlineWidth, color))
+		{
+			addGraphicsObject(graphicsObject);
+			drawBatch(outlineWidth, color, feather);
+		}
+	}
+
+	private void addNpc(NPC npc)
 	{
 		int size = 1;
 		NPCComposition composition = npc.getTransformedComposition();
@@ -997,24 +1126,24 @@ public class ModelOutlineRenderer
 			final int northEastY = lp.getY() + Perspective.LOCAL_TILE_SIZE * (size - 1) / 2;
 			final LocalPoint northEastLp = new LocalPoint(northEastX, northEastY);
 
-			drawModelOutline(npc.getModel(), lp.getX(), lp.getY(),
+			addModel(npc.getModel(), lp.getX(), lp.getY(),
 				Perspective.getTileHeight(client, northEastLp, client.getPlane()),
-				npc.getCurrentOrientation(), outlineWidth, color, feather);
+				npc.getCurrentOrientation());
 		}
 	}
 
-	public void drawOutline(Player player, int outlineWidth, Color color, int feather)
+	private void addPlayer(Player player)
 	{
 		LocalPoint lp = player.getLocalLocation();
 		if (lp != null)
 		{
-			drawModelOutline(player.getModel(), lp.getX(), lp.getY(),
+			addModel(player.getModel(), lp.getX(), lp.getY(),
 				Perspective.getTileHeight(client, lp, client.getPlane()),
-				player.getCurrentOrientation(), outlineWidth, color, feather);
+				player.getCurrentOrientation());
 		}
 	}
 
-	private void drawOutline(GameObject gameObject, int outlineWidth, Color color, int feather)
+	private void addGameObject(GameObject gameObject)
 	{
 		Renderable renderable = gameObject.getRenderable();
 		if (renderable != null)
@@ -1022,13 +1151,12 @@ public class ModelOutlineRenderer
 			Model model = renderable instanceof Model ? (Model) renderable : renderable.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, gameObject.getX(), gameObject.getY(), gameObject.getZ(),
-					gameObject.getModelOrientation(), outlineWidth, color, feather);
+				addModel(model, gameObject.getX(), gameObject.getY(), gameObject.getZ(), gameObject.getModelOrientation());
 			}
 		}
 	}
 
-	private void drawOutline(GroundObject groundObject, int outlineWidth, Color color, int feather)
+	private void addGroundObject(GroundObject groundObject)
 	{
 		Renderable renderable = groundObject.getRenderable();
 		if (renderable != null)
@@ -1036,13 +1164,12 @@ public class ModelOutlineRenderer
 			Model model = renderable instanceof Model ? (Model) renderable : renderable.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, groundObject.getX(), groundObject.getY(), groundObject.getZ(),
-					0, outlineWidth, color, feather);
+				addModel(model, groundObject.getX(), groundObject.getY(), groundObject.getZ(), 0);
 			}
 		}
 	}
 
-	private void drawOutline(ItemLayer itemLayer, int outlineWidth, Color color, int feather)
+	private void addItemLayer(ItemLayer itemLayer)
 	{
 		Renderable bottomRenderable = itemLayer.getBottom();
 		if (bottomRenderable != null)
@@ -1050,8 +1177,7 @@ public class ModelOutlineRenderer
 			Model model = bottomRenderable instanceof Model ? (Model) bottomRenderable : bottomRenderable.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(),
-					0, outlineWidth, color, feather);
+				addModel(model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(), 0);
 			}
 		}
 
@@ -1061,8 +1187,7 @@ public class ModelOutlineRenderer
 			Model model = middleRenderable instanceof Model ? (Model) middleRenderable : middleRenderable.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(),
-					0, outlineWidth, color, feather);
+				addModel(model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(), 0);
 			}
 		}
 
@@ -1072,13 +1197,12 @@ public class ModelOutlineRenderer
 			Model model = topRenderable instanceof Model ? (Model) topRenderable : topRenderable.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(),
-					0, outlineWidth, color, feather);
+				addModel(model, itemLayer.getX(), itemLayer.getY(), itemLayer.getZ() - itemLayer.getHeight(), 0);
 			}
 		}
 	}
 
-	private void drawOutline(DecorativeObject decorativeObject, int outlineWidth, Color color, int feather)
+	private void addDecorativeObject(DecorativeObject decorativeObject)
 	{
 		Renderable renderable1 = decorativeObject.getRenderable();
 		if (renderable1 != null)
@@ -1086,11 +1210,10 @@ public class ModelOutlineRenderer
 			Model model = renderable1 instanceof Model ? (Model) renderable1 : renderable1.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model,
+				addModel(model,
 					decorativeObject.getX() + decorativeObject.getXOffset(),
 					decorativeObject.getY() + decorativeObject.getYOffset(),
-					decorativeObject.getZ(),
-					0, outlineWidth, color, feather);
+					decorativeObject.getZ(), 0);
 			}
 		}
 
@@ -1101,13 +1224,12 @@ public class ModelOutlineRenderer
 			if (model != null)
 			{
 				// Offset is not used for the second model
-				drawModelOutline(model, decorativeObject.getX(), decorativeObject.getY(), decorativeObject.getZ(),
-					0, outlineWidth, color, feather);
+				addModel(model, decorativeObject.getX(), decorativeObject.getY(), decorativeObject.getZ(), 0);
 			}
 		}
 	}
 
-	private void drawOutline(WallObject wallObject, int outlineWidth, Color color, int feather)
+	private void addWallObject(WallObject wallObject)
 	{
 		Renderable renderable1 = wallObject.getRenderable1();
 		if (renderable1 != null)
@@ -1115,8 +1237,7 @@ public class ModelOutlineRenderer
 			Model model = renderable1 instanceof Model ? (Model) renderable1 : renderable1.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, wallObject.getX(), wallObject.getY(), wallObject.getZ(),
-					0, outlineWidth, color, feather);
+				addModel(model, wallObject.getX(), wallObject.getY(), wallObject.getZ(), 0);
 			}
 		}
 
@@ -1126,37 +1247,36 @@ public class ModelOutlineRenderer
 			Model model = renderable2 instanceof Model ? (Model) renderable2 : renderable2.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, wallObject.getX(), wallObject.getY(), wallObject.getZ(),
-					0, outlineWidth, color, feather);
+				addModel(model, wallObject.getX(), wallObject.getY(), wallObject.getZ(), 0);
 			}
 		}
 	}
 
-	public void drawOutline(TileObject tileObject, int outlineWidth, Color color, int feather)
+	private void addTileObject(TileObject tileObject)
 	{
 		if (tileObject instanceof GameObject)
 		{
-			drawOutline((GameObject) tileObject, outlineWidth, color, feather);
+			addGameObject((GameObject) tileObject);
 		}
 		else if (tileObject instanceof GroundObject)
 		{
-			drawOutline((GroundObject) tileObject, outlineWidth, color, feather);
+			addGroundObject((GroundObject) tileObject);
 		}
 		else if (tileObject instanceof ItemLayer)
 		{
-			drawOutline((ItemLayer) tileObject, outlineWidth, color, feather);
+			addItemLayer((ItemLayer) tileObject);
 		}
 		else if (tileObject instanceof DecorativeObject)
 		{
-			drawOutline((DecorativeObject) tileObject, outlineWidth, color, feather);
+			addDecorativeObject((DecorativeObject) tileObject);
 		}
 		else if (tileObject instanceof WallObject)
 		{
-			drawOutline((WallObject) tileObject, outlineWidth, color, feather);
+			addWallObject((WallObject) tileObject);
 		}
 	}
 
-	public void drawOutline(GraphicsObject graphicsObject, int outlineWidth, Color color, int feather)
+	private void addGraphicsObject(GraphicsObject graphicsObject)
 	{
 		LocalPoint lp = graphicsObject.getLocation();
 		if (lp != null)
@@ -1164,8 +1284,7 @@ public class ModelOutlineRenderer
 			Model model = graphicsObject.getModel();
 			if (model != null)
 			{
-				drawModelOutline(model, lp.getX(), lp.getY(), graphicsObject.getZ(),
-					0, outlineWidth, color, feather);
+				addModel(model, lp.getX(), lp.getY(), graphicsObject.getZ(), 0);
 			}
 		}
 	}
@@ -24,34 +24,153 @@
  */
 package net.runelite.client.util;
 
-import java.util.regex.Matcher;
-import java.util.regex.Pattern;
+import com.google.common.base.Splitter;
+import java.util.List;
 
-public class WildcardMatcher
+/**
+ * A case insensitive glob matcher where {@code *} matches any number of characters,
+ * and every other character in the pattern is literal.
+ */
+public final class WildcardMatcher
 {
-	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*)");
+	private static final Splitter WILDCARD_SPLITTER = Splitter.on('*');
+
+	private final String pattern;
+	// literal segments of the pattern between wildcards, lower case
+	private final String[] segments;
+	private final boolean wildcard;
+	private final int minLength;
+
+	private WildcardMatcher(String pattern)
+	{
+		this.pattern = pattern;
+
+		List<String> parts = WILDCARD_SPLITTER.splitToList(pattern);
+		this.segments = new String[parts.size()];
+		int len = 0;
+		for (int i = 0; i < segments.length; ++i)
+		{
+			segments[i] = toLowerCase(parts.get(i));
+			len += segments[i].length();
+		}
+		this.wildcard = segments.length > 1;
+		this.minLength = len;
+	}
+
+	/**
+	 * Compile a wildcard pattern
+	 *
+	 * @param pattern pattern, where {@code *} matches any number of characters
+	 * @return
+	 */
+	public static WildcardMatcher compile(String pattern)
+	{
+		return new WildcardMatcher(pattern);
+	}
 
 	public static boolean matches(String pattern, String text)
 	{
-		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
-		final StringBuffer buffer = new StringBuffer();
+		return compile(pattern).matches(text);
+	}
+
+	public String getPattern()
+	{
+		return pattern;
+	}
+
+	/**
+	 * Whether the pattern has any wildcards
+	 */
+	public boolean isWildcard()
+	{
+		return wildcard;
+	}
+
+	/**
+	 * Lower case literal prefix of the pattern, up to the first wildcard
+	 */
+	String getPrefix()
+	{
+		return segments[0];
+	}
+
+	public boolean matches(String text)
+	{
+		final int length = text.length();
+		if (!wildcard)
+		{
+			return length == minLength && text.regionMatches(true, 0, segments[0], 0, minLength);
+		}
+
+		if (length < minLength)
+		{
+			return false;
+		}
+
+		final String first = segments[0];
+		final String last = segments[segments.length - 1];
+		final int end = length - last.length();
 
-		buffer.append("(?i)");
-		while (matcher.find())
+		if (!text.regionMatches(true, 0, first, 0, first.length())
+			|| !text.regionMatches(true, end, last, 0, last.length()))
 		{
-			if (matcher.group(1) != null)
+			return false;
+		}
+
+		// the segments between the first and last wildcard can match anywhere in between, in order.
+		// taking the earliest match for each leaves the most room for the segments after it.
+		int pos = first.length();
+		for (int i = 1; i < segments.length - 1; ++i)
+		{
+			final String segment = segments[i];
+			final int idx = indexOfIgnoreCase(text, segment, pos, end);
+			if (idx == -1)
 			{
-				matcher.appendReplacement(buffer, ".*");
+				return false;
 			}
-			else
+			pos = idx + segment.length();
+		}
+
+		return true;
+	}
+
+	private static int indexOfIgnoreCase(String text, String segment, int from, int end)
+	{
+		final int segmentLength = segment.length();
+		for (int i = from; i + segmentLength <= end; ++i)
+		{
+			if (text.regionMatches(true, i, segment, 0, segmentLength))
 			{
-				matcher.appendReplacement(buffer, Matcher.quoteReplacement(Pattern.quote(matcher.group(0))));
+				return i;
 			}
 		}
+		return -1;
+	}
 
-		matcher.appendTail(buffer);
-		final String replaced = buffer.toString();
+	static String toLowerCase(String str)
+	{
+		// per character lower casing to match regionMatches, without the locale and
+		// length changing special cases of String.toLowerCase
+		char[] chars = null;
+		for (int i = 0; i < str.length(); ++i)
+		{
+			char c = str.charAt(i);
+			char lower = Character.toLowerCase(Character.toUpperCase(c));
+			if (c != lower)
+			{
+				if (chars == null)
+				{
+					chars = str.toCharArray();
+				}
+				chars[i] = lower;
+			}
+		}
+		return chars == null ? str : new String(chars);
+	}
 
-		return text.matches(replaced);
+	@Override
+	public String toString()
+	{
+		return pattern;
 	}
 }
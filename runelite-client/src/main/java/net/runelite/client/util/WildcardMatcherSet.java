@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import com.google.common.primitives.Ints;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntPredicate;
+
+/**
+ * A set of {@link WildcardMatcher} patterns which can be tested against a string at once.
+ * Patterns without wildcards are found with a single hash lookup, and patterns with wildcards
+ * are only tried if the string starts with their literal prefix. Patterns are identified by their
+ * index in the collection the set was compiled from.
+ */
+public final class WildcardMatcherSet
+{
+	private static final int[] NONE = new int[0];
+
+	private final WildcardMatcher[] matchers;
+	// lower case pattern -> indexes of patterns without wildcards
+	private final Map<String, int[]> exact = new HashMap<>();
+	// first character of the lower case prefix -> indexes of wildcard patterns with a prefix
+	private final Map<Character, int[]> prefixed = new HashMap<>();
+	// indexes of wildcard patterns starting with a wildcard
+	private final int[] unprefixed;
+
+	private WildcardMatcherSet(Collection<String> patterns)
+	{
+		matchers = new WildcardMatcher[patterns.size()];
+
+		Map<String, List<Integer>> exact = new HashMap<>();
+		Map<Character, List<Integer>> prefixed = new HashMap<>();
+		List<Integer> unprefixed = new ArrayList<>();
+
+		int i = 0;
+		for (String pattern : patterns)
+		{
+			WildcardMatcher matcher = matchers[i] = WildcardMatcher.compile(pattern);
+			String prefix = matcher.getPrefix();
+			if (!matcher.isWildcard())
+			{
+				exact.computeIfAbsent(prefix, k -> new ArrayList<>()).add(i);
+			}
+			else if (prefix.isEmpty())
+			{
+				unprefixed.add(i);
+			}
+			else
+			{
+				prefixed.computeIfAbsent(prefix.charAt(0), k -> new ArrayList<>()).add(i);
+			}
+			++i;
+		}
+
+		exact.forEach((k, v) -> this.exact.put(k, Ints.toArray(v)));
+		prefixed.forEach((k, v) -> this.prefixed.put(k, Ints.toArray(v)));
+		this.unprefixed = Ints.toArray(unprefixed);
+	}
+
+	public static WildcardMatcherSet compile(Collection<String> patterns)
+	{
+		return new WildcardMatcherSet(patterns);
+	}
+
+	public int size()
+	{
+		return matchers.length;
+	}
+
+	/**
+	 * Test if any pattern in the set matches the text
+	 *
+	 * @param text
+	 * @return
+	 */
+	public boolean matchesAny(String text)
+	{
+		return anyMatch(text, i -> true);
+	}
+
+	/**
+	 * Test if any pattern in the set both matches the text and is accepted by the filter
+	 *
+	 * @param text text to match
+	 * @param filter predicate over the index of a matching pattern
+	 * @return
+	 */
+	public boolean anyMatch(String text, IntPredicate filter)
+	{
+		if (matchers.length == 0)
+		{
+			return false;
+		}
+
+		final String lower = WildcardMatcher.toLowerCase(text);
+
+		for (int idx : exact.getOrDefault(lower, NONE))
+		{
+			if (filter.test(idx))
+			{
+				return true;
+			}
+		}
+
+		if (!lower.isEmpty())
+		{
+			for (int idx : prefixed.getOrDefault(lower.charAt(0), NONE))
+			{
+				if (matchers[idx].matches(lower) && filter.test(idx))
+				{
+					return true;
+				}
+			}
+		}
+
+		for (int idx : unprefixed)
+		{
+			if (matchers[idx].matches(lower) && filter.test(idx))
+			{
+				return true;
+			}
+		}
+
+		return false;
+	}
+}
@@ -0,0 +1,195 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.config;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.util.Properties;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class ConfigJournalTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testReplay() throws IOException
+	{
+		File file = new File(folder.getRoot(), "settings.properties.journal");
+
+		ConfigJournal journal = new ConfigJournal();
+		journal.put("test.key", "first");
+		journal.put("test.other", "value");
+		journal.put("test.key", "second");
+		journal.flush(file);
+
+		journal.put("test.other", null);
+		journal.put("test.unicode", "\u00e9\u4e2d");
+		journal.flush(file);
+
+		Properties properties = new Properties();
+		properties.setProperty("test.other", "old");
+		properties.setProperty("test.untouched", "value");
+
+		// rapid writes to the same key are coalesced
+		assertEquals(4, ConfigJournal.replay(file, properties));
+		assertEquals("second", properties.getProperty("test.key"));
+		assertNull(properties.getProperty("test.other"));
+		assertEquals("\u00e9\u4e2d", properties.getProperty("test.unicode"));
+		assertEquals("value", properties.getProperty("test.untouched"));
+	}
+
+	@Test
+	public void testTornWrite() throws IOException
+	{
+		File file = new File(folder.getRoot(), "settings.properties.journal");
+
+		ConfigJournal journal = new ConfigJournal();
+		journal.put("test.key", "value");
+		journal.flush(file);
+		long length = file.length();
+
+		journal.put("test.key", "torn");
+		journal.flush(file);
+
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.setLength(file.length() - 3);
+		}
+
+		Properties properties = new Properties();
+		assertEquals(1, ConfigJournal.replay(file, properties));
+		assertEquals("value", properties.getProperty("test.key"));
+		assertEquals(length, file.length());
+
+		// appends after the truncated tail are readable
+		journal.put("test.key", "after");
+		journal.flush(file);
+
+		properties = new Properties();
+		assertEquals(2, ConfigJournal.replay(file, properties));
+		assertEquals("after", properties.getProperty("test.key"));
+	}
+
+	@Test
+	public void testTornAppend() throws IOException
+	{
+		File file = new File(folder.getRoot(), "settings.properties.journal");
+
+		ConfigJournal journal = new ConfigJournal();
+		journal.put("test.key", "value");
+		journal.flush(file);
+
+		// part of a record left by an append which failed and couldn't be truncated
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.seek(raf.length());
+			raf.writeInt(64);
+			raf.writeInt(8);
+		}
+
+		journal.put("test.other", "after");
+		journal.flush(file);
+
+		Properties properties = new Properties();
+		assertEquals(2, ConfigJournal.replay(file, properties));
+		assertEquals("value", properties.getProperty("test.key"));
+		assertEquals("after", properties.getProperty("test.other"));
+	}
+
+	@Test
+	public void testTruncate() throws IOException
+	{
+		File file = new File(folder.getRoot(), "settings.properties.journal");
+
+		ConfigJournal journal = new ConfigJournal();
+		journal.put("test.key", "value");
+		journal.flush(file);
+		journal.truncate(file);
+
+		assertFalse(file.exists());
+		assertEquals(0, ConfigJournal.replay(file, new Properties()));
+	}
+
+	@Test
+	public void testFailedFlush() throws IOException
+	{
+		File file = new File(folder.getRoot(), "settings.properties.journal");
+		// the journal can't be created under a regular file
+		File unwritable = new File(folder.newFile(), "settings.properties.journal");
+
+		ConfigJournal journal = new ConfigJournal();
+		assertTrue(journal.put("test.key", "value"));
+		assertFalse(journal.put("test.other", "value"));
+
+		try
+		{
+			journal.flush(unwritable);
+			fail();
+		}
+		catch (IOException ex)
+		{
+			// expected
+		}
+
+		// changes from the failed flush are kept, and the next change schedules a flush again
+		assertTrue(journal.put("test.other", "changed"));
+		journal.flush(file);
+
+		Properties properties = new Properties();
+		assertEquals(2, ConfigJournal.replay(file, properties));
+		assertEquals("value", properties.getProperty("test.key"));
+		assertEquals("changed", properties.getProperty("test.other"));
+	}
+
+	@Test
+	public void testEmpty() throws IOException
+	{
+		File file = folder.newFile("settings.properties.journal");
+		assertEquals(0, ConfigJournal.replay(file, new Properties()));
+		assertEquals(0, file.length());
+
+		ConfigJournal journal = new ConfigJournal();
+		journal.put("test.key", "value");
+		journal.flush(file);
+		journal.truncate(file);
+
+		// only the magic number
+		try (RandomAccessFile raf = new RandomAccessFile(file, "rw"))
+		{
+			raf.writeInt(0x524c434a);
+		}
+		assertEquals(0, ConfigJournal.replay(file, new Properties()));
+		assertEquals(4, file.length());
+	}
+}
@@ -24,12 +24,15 @@
  */
 package net.runelite.client.config;
 
+import com.google.common.cache.CacheStats;
 import com.google.inject.Guice;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import java.io.File;
 import java.io.IOException;
 import java.time.Instant;
+import java.util.Arrays;
+import java.util.Collections;
 import java.util.UUID;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
@@ -38,6 +41,7 @@ import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.account.AccountSession;
 import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.task.ExecutorManager;
 import org.junit.Assert;
 import static org.junit.Assert.assertNotNull;
 import org.junit.Before;
@@ -55,6 +59,7 @@ public class ConfigManagerTest
 
 	@Mock
 	@Bind
+	@Named(ExecutorManager.DISK)
 	ScheduledExecutorService executor;
 
 	@Mock
@@ -143,6 +148,48 @@ public class ConfigManagerTest
 		Assert.assertNull(conf.nullDefaultKey());
 	}
 
+	@Test
+	public void testConfigCacheInvalidation()
+	{
+		TestConfig conf = manager.getConfig(TestConfig.class);
+		Assert.assertEquals("default", conf.key());
+		Assert.assertNull(conf.nullDefaultKey());
+
+		CacheStats stats = manager.getConfigCacheStats();
+		Assert.assertEquals("default", conf.key());
+		Assert.assertEquals(1, manager.getConfigCacheStats().minus(stats).hitCount());
+
+		// only the changed key is evicted
+		manager.setConfiguration("test", "key", "moo");
+		stats = manager.getConfigCacheStats();
+		Assert.assertEquals("moo", conf.key());
+		Assert.assertNull(conf.nullDefaultKey());
+		CacheStats delta = manager.getConfigCacheStats().minus(stats);
+		Assert.assertEquals(1, delta.missCount());
+		Assert.assertEquals(1, delta.hitCount());
+
+		// profile keys are not read by config proxies
+		manager.setConfiguration("test", "rsprofile.123", "key", "profile");
+		Assert.assertEquals("moo", conf.key());
+	}
+
+	@Test
+	public void testGetConfigurationKeys()
+	{
+		manager.setConfiguration("test", "a.one", "1");
+		manager.setConfiguration("test", "a.two", "2");
+		manager.setConfiguration("test", "b", "3");
+		manager.setConfiguration("testing", "a", "4");
+		manager.setConfiguration("test", "rsprofile.123", "a.three", "5");
+
+		Assert.assertEquals(Arrays.asList("test.a.one", "test.a.two"), manager.getConfigurationKeys("test.a."));
+		Assert.assertEquals(Arrays.asList("test.a.one", "test.a.two", "test.b"), manager.getConfigurationKeys("test.").subList(0, 3));
+		Assert.assertEquals(Collections.singletonList("a.three"), manager.getRSProfileConfigurationKeys("test", "rsprofile.123", "a."));
+
+		manager.unsetConfiguration("test", "a.one");
+		Assert.assertEquals(Collections.singletonList("test.a.two"), manager.getConfigurationKeys("test.a."));
+	}
+
 	@Test
 	public void testKeySplitter()
 	{
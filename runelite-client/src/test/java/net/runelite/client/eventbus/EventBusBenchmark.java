@@ -0,0 +1,202 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.events.AnimationChanged;
+import net.runelite.api.events.BeforeRender;
+import net.runelite.api.events.ChatMessage;
+import net.runelite.api.events.ClientTick;
+import net.runelite.api.events.GameObjectDespawned;
+import net.runelite.api.events.GameObjectSpawned;
+import net.runelite.api.events.GameStateChanged;
+import net.runelite.api.events.GameTick;
+import net.runelite.api.events.HitsplatApplied;
+import net.runelite.api.events.InteractingChanged;
+import net.runelite.api.events.ItemContainerChanged;
+import net.runelite.api.events.ItemDespawned;
+import net.runelite.api.events.ItemSpawned;
+import net.runelite.api.events.MenuEntryAdded;
+import net.runelite.api.events.MenuOpened;
+import net.runelite.api.events.MenuOptionClicked;
+import net.runelite.api.events.NpcDespawned;
+import net.runelite.api.events.NpcSpawned;
+import net.runelite.api.events.PlayerSpawned;
+import net.runelite.api.events.ScriptCallbackEvent;
+import net.runelite.api.events.StatChanged;
+import net.runelite.api.events.VarbitChanged;
+import net.runelite.api.events.WidgetLoaded;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Posts game and client ticks to a bus populated with roughly as many subscribers
+ * as a client with most plugins enabled, and toggles a plugin on and off.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class EventBusBenchmark
+{
+	// other commonly subscribed events, which make up most of the subscriber table
+	private static final Class<?>[] OTHER_EVENTS = {
+		AnimationChanged.class,
+		BeforeRender.class,
+		ChatMessage.class,
+		GameObjectSpawned.class,
+		GameObjectDespawned.class,
+		GameStateChanged.class,
+		HitsplatApplied.class,
+		InteractingChanged.class,
+		ItemContainerChanged.class,
+		ItemSpawned.class,
+		ItemDespawned.class,
+		MenuEntryAdded.class,
+		MenuOpened.class,
+		MenuOptionClicked.class,
+		NpcSpawned.class,
+		NpcDespawned.class,
+		PlayerSpawned.class,
+		ScriptCallbackEvent.class,
+		StatChanged.class,
+		VarbitChanged.class,
+		WidgetLoaded.class
+	};
+	private static final int OTHER_SUBSCRIBERS = 8;
+
+	@Param({"20", "80"})
+	public int gameTickSubscribers;
+
+	@Param({"10", "30"})
+	public int clientTickSubscribers;
+
+	private final EventBus eventBus = new EventBus();
+	private final GameTick gameTick = new GameTick();
+	private final ClientTick clientTick = new ClientTick();
+	private final TickPlugin toggled = new TickPlugin();
+
+	@Setup
+	public void setup()
+	{
+		for (int i = 0; i < Math.max(gameTickSubscribers, clientTickSubscribers); ++i)
+		{
+			if (i < gameTickSubscribers && i < clientTickSubscribers)
+			{
+				eventBus.register(new TickPlugin());
+			}
+			else if (i < gameTickSubscribers)
+			{
+				eventBus.register(GameTick.class, TickPlugin.counter::onGameTick, 0f);
+			}
+			else
+			{
+				eventBus.register(ClientTick.class, TickPlugin.counter::onClientTick, 0f);
+			}
+		}
+
+		for (Class<?> event : OTHER_EVENTS)
+		{
+			for (int i = 0; i < OTHER_SUBSCRIBERS; ++i)
+			{
+				eventBus.register((Class<Object>) event, e -> TickPlugin.counter.count++, i);
+			}
+		}
+	}
+
+	@Benchmark
+	public int postGameTick()
+	{
+		eventBus.post(gameTick);
+		return TickPlugin.counter.count;
+	}
+
+	@Benchmark
+	public int postClientTick()
+	{
+		eventBus.post(clientTick);
+		return TickPlugin.counter.count;
+	}
+
+	@Benchmark
+	public void togglePlugin()
+	{
+		eventBus.register(toggled);
+		eventBus.unregister(toggled);
+	}
+
+	public static class TickPlugin
+	{
+		static final Counter counter = new Counter();
+
+		@Subscribe
+		public void onGameTick(GameTick tick)
+		{
+			counter.count++;
+		}
+
+		@Subscribe
+		public void onClientTick(ClientTick tick)
+		{
+			counter.count++;
+		}
+	}
+
+	static class Counter
+	{
+		int count;
+
+		void onGameTick(GameTick tick)
+		{
+			count++;
+		}
+
+		void onClientTick(ClientTick tick)
+		{
+			count++;
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(EventBusBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,169 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.eventbus;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.Consumer;
+import net.runelite.api.events.GameTick;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+import org.junit.Test;
+
+public class EventBusTest
+{
+	private final List<String> calls = new ArrayList<>();
+	private final EventBus eventBus = new EventBus(e ->
+	{
+		throw new AssertionError(e);
+	});
+
+	public class Plugin
+	{
+		@Subscribe(priority = 1)
+		public void onGameTick(GameTick tick)
+		{
+			calls.add("plugin");
+		}
+	}
+
+	public static class InvalidBase
+	{
+		@Subscribe
+		public void onTick(GameTick tick)
+		{
+		}
+	}
+
+	public class InvalidPlugin extends InvalidBase
+	{
+		@Subscribe
+		public void onGameTick(GameTick tick)
+		{
+			calls.add("invalid");
+		}
+	}
+
+	private Consumer<GameTick> record(String name)
+	{
+		return e -> calls.add(name);
+	}
+
+	@Test
+	public void testPriorityOrder()
+	{
+		eventBus.register(GameTick.class, record("low"), -1);
+		eventBus.register(GameTick.class, record("first"), 0);
+		eventBus.register(new Plugin());
+		eventBus.register(GameTick.class, record("second"), 0);
+		eventBus.register(GameTick.class, record("high"), 5);
+
+		eventBus.post(new GameTick());
+		assertEquals(Arrays.asList("high", "plugin", "first", "second", "low"), calls);
+	}
+
+	@Test
+	public void testUnregister()
+	{
+		Plugin plugin = new Plugin();
+		eventBus.register(plugin);
+		EventBus.Subscriber sub = eventBus.register(GameTick.class, record("lambda"), 0);
+
+		eventBus.post(new GameTick());
+		assertEquals(Arrays.asList("plugin", "lambda"), calls);
+
+		calls.clear();
+		eventBus.unregister(plugin);
+		eventBus.post(new GameTick());
+		assertEquals(Arrays.asList("lambda"), calls);
+
+		calls.clear();
+		eventBus.unregister(sub);
+		eventBus.post(new GameTick());
+		assertTrue(calls.isEmpty());
+
+		// a class without subscribers can be registered again
+		eventBus.register(plugin);
+		eventBus.post(new GameTick());
+		assertEquals(Arrays.asList("plugin"), calls);
+
+		// the same consumer registered twice is unregistered one subscriber at a time
+		Consumer<GameTick> consumer = record("lambda");
+		EventBus.Subscriber first = eventBus.register(GameTick.class, consumer, 0);
+		EventBus.Subscriber second = eventBus.register(GameTick.class, consumer, 0);
+		eventBus.unregister(plugin);
+		eventBus.unregister(first);
+		calls.clear();
+		eventBus.post(new GameTick());
+		assertEquals(Arrays.asList("lambda"), calls);
+
+		eventBus.unregister(second);
+		calls.clear();
+		eventBus.post(new GameTick());
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test
+	public void testInvalidSubscriber()
+	{
+		// the superclass' misnamed subscriber is checked after the valid one in the subclass
+		try
+		{
+			eventBus.register(new InvalidPlugin());
+			fail();
+		}
+		catch (IllegalArgumentException ex)
+		{
+			// expected
+		}
+
+		eventBus.post(new GameTick());
+		assertTrue(calls.isEmpty());
+	}
+
+	@Test
+	public void testProfiling()
+	{
+		eventBus.register(new Plugin());
+		eventBus.post(new GameTick());
+		assertTrue(eventBus.getStats().isEmpty());
+
+		eventBus.setProfiling(true);
+		eventBus.post(new GameTick());
+		eventBus.post(new GameTick());
+
+		List<EventBus.SubscriberStats> stats = eventBus.getStats();
+		assertEquals(1, stats.size());
+		assertEquals(GameTick.class, stats.get(0).getEventClass());
+		assertEquals(Plugin.class.getName() + ".onGameTick", stats.get(0).getSubscriber());
+		assertEquals(2, stats.get(0).getCount());
+		assertTrue(stats.get(0).getMaxNanos() <= stats.get(0).getTotalNanos());
+
+		eventBus.resetStats();
+		assertTrue(eventBus.getStats().isEmpty());
+	}
+}
@@ -34,6 +34,7 @@ import net.runelite.api.Client;
 import net.runelite.api.ItemID;
 import net.runelite.client.callback.ClientThread;
 import net.runelite.client.config.RuneLiteConfig;
+import net.runelite.client.task.ExecutorManager;
 import net.runelite.http.api.item.ItemPrice;
 import static org.junit.Assert.assertEquals;
 import org.junit.Before;
@@ -54,6 +55,7 @@ public class ItemManagerTest
 
 	@Mock
 	@Bind
+	@Named(ExecutorManager.NETWORK)
 	private ScheduledExecutorService scheduledExecutorService;
 
 	@Mock
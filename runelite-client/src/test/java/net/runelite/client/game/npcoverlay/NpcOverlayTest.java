@@ -0,0 +1,152 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.game.npcoverlay;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import net.runelite.api.Client;
+import net.runelite.api.NPC;
+import net.runelite.api.NPCComposition;
+import net.runelite.client.ui.overlay.outline.ModelOutlineRenderer;
+import static org.junit.Assert.assertEquals;
+import org.junit.Before;
+import org.junit.Test;
+import org.junit.runner.RunWith;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+import org.mockito.junit.MockitoJUnitRunner;
+
+@RunWith(MockitoJUnitRunner.class)
+public class NpcOverlayTest
+{
+	@Mock
+	private Client client;
+
+	@Mock
+	private ModelOutlineRenderer modelOutlineRenderer;
+
+	@Mock
+	private NPCComposition composition;
+
+	@Mock
+	private Graphics2D graphics;
+
+	private final Map<NPC, HighlightedNpc> highlightedNpcs = new LinkedHashMap<>();
+	private final List<String> outlines = new ArrayList<>();
+
+	private NpcOverlay npcOverlay;
+
+	@Before
+	public void before()
+	{
+		when(composition.isInteractible()).thenReturn(true);
+
+		doAnswer(invocation ->
+		{
+			Collection<NPC> npcs = invocation.getArgument(0);
+			List<String> names = new ArrayList<>();
+			for (NPC npc : npcs)
+			{
+				names.add(npc.toString());
+			}
+			outlines.add(names + " " + invocation.getArgument(1) + " " + invocation.getArgument(2) + " " + invocation.getArgument(3));
+			return null;
+		}).when(modelOutlineRenderer).drawNpcOutlines(any(), anyInt(), any(), anyInt());
+
+		npcOverlay = new NpcOverlay(client, modelOutlineRenderer, highlightedNpcs);
+	}
+
+	@Test
+	public void testOutlineGrouping()
+	{
+		highlight("a", Color.RED, 2, 0);
+		highlight("b", Color.BLUE, 2, 0);
+		highlight("c", Color.RED, 2.5f, 0);
+		highlight("d", Color.RED, 4, 0);
+		highlight("e", Color.RED, 2, 1);
+		highlight("f", Color.BLUE, 2, 0);
+
+		npcOverlay.render(graphics);
+
+		// npcs with the same width, feather and color are outlined together, in the order they were first seen
+		assertEquals(Arrays.asList(
+			"[a, c] 2 " + Color.RED + " 0",
+			"[b, f] 2 " + Color.BLUE + " 0",
+			"[d] 4 " + Color.RED + " 0",
+			"[e] 2 " + Color.RED + " 1"
+		), outlines);
+
+		// the batches are not kept between frames
+		outlines.clear();
+		npcOverlay.render(graphics);
+		assertEquals(4, outlines.size());
+	}
+
+	@Test
+	public void testNamesAfterOutlines()
+	{
+		NPC npc = highlight("a", Color.RED, 2, 0, true);
+		when(npc.getName()).thenReturn("Man");
+
+		npcOverlay.render(graphics);
+
+		InOrder inOrder = inOrder(modelOutlineRenderer, npc);
+		inOrder.verify(modelOutlineRenderer).drawNpcOutlines(any(), anyInt(), any(), anyInt());
+		inOrder.verify(npc).getCanvasTextLocation(any(), anyString(), anyInt());
+	}
+
+	private NPC highlight(String name, Color color, float width, int feather)
+	{
+		return highlight(name, color, width, feather, false);
+	}
+
+	private NPC highlight(String name, Color color, float width, int feather, boolean showName)
+	{
+		NPC npc = mock(NPC.class, name);
+		when(npc.getTransformedComposition()).thenReturn(composition);
+		highlightedNpcs.put(npc, HighlightedNpc.builder()
+			.npc(npc)
+			.highlightColor(color)
+			.borderWidth(width)
+			.outlineFeather(feather)
+			.outline(true)
+			.name(showName)
+			.build());
+		return npc;
+	}
+}
@@ -0,0 +1,140 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.plugins;
+
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import javax.tools.JavaCompiler;
+import javax.tools.ToolProvider;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Rule;
+import org.junit.Test;
+import org.junit.rules.TemporaryFolder;
+
+public class PluginIndexProcessorTest
+{
+	@Rule
+	public TemporaryFolder folder = new TemporaryFolder();
+
+	@Test
+	public void testProcessor() throws IOException
+	{
+		File src = folder.newFolder("src");
+		File out = folder.newFolder("out");
+
+		File a = source(src, "APlugin",
+			"@PluginDescriptor(name = \"A\")\n" +
+			"public class APlugin extends Plugin {}");
+		File b = source(src, "BPlugin",
+			"@PluginDescriptor(name = \"B\", configName = \"bee\", developerPlugin = true, loadInSafeMode = false)\n" +
+			"@PluginDependency(APlugin.class)\n" +
+			"public class BPlugin extends Plugin {}");
+		File c = source(src, "CPlugin",
+			"@PluginDescriptor(name = \"C\", loadWhenOutdated = true)\n" +
+			"@PluginDependency(APlugin.class)\n" +
+			"@PluginDependency(BPlugin.class)\n" +
+			"public class CPlugin extends Plugin {}");
+
+		compile(out, a, b, c);
+
+		List<PluginIndex.Entry> entries = read(out);
+		assertEquals(3, entries.size());
+
+		PluginIndex.Entry entry = entries.get(0);
+		assertEquals("test.APlugin", entry.className);
+		assertEquals("A", entry.name);
+		assertEquals("", entry.configName);
+		assertFalse(entry.developerPlugin);
+		assertFalse(entry.loadWhenOutdated);
+		assertTrue(entry.loadInSafeMode);
+		assertEquals(Collections.emptyList(), entry.dependencies);
+
+		entry = entries.get(1);
+		assertEquals("test.BPlugin", entry.className);
+		assertEquals("bee", entry.configName);
+		assertTrue(entry.developerPlugin);
+		assertFalse(entry.loadInSafeMode);
+		assertEquals(Collections.singletonList("test.APlugin"), entry.dependencies);
+
+		entry = entries.get(2);
+		assertEquals("test.CPlugin", entry.className);
+		assertTrue(entry.loadWhenOutdated);
+		assertEquals(Arrays.asList("test.APlugin", "test.BPlugin"), entry.dependencies);
+
+		// an incremental compile of one plugin keeps the others in the index
+		compile(out, c);
+		assertEquals(3, read(out).size());
+	}
+
+	private static File source(File src, String name, String body) throws IOException
+	{
+		File dir = new File(src, "test");
+		dir.mkdirs();
+		File file = new File(dir, name + ".java");
+		String source = "package test;\n" +
+			"import net.runelite.client.plugins.*;\n" +
+			body + "\n";
+		Files.write(file.toPath(), source.getBytes(StandardCharsets.UTF_8));
+		return file;
+	}
+
+	private static void compile(File out, File... sources)
+	{
+		JavaCompiler compiler = ToolProvider.getSystemJavaCompiler();
+		String classpath = out.getPath() + File.pathSeparator + System.getProperty("java.class.path");
+
+		String[] args = new String[sources.length + 7];
+		args[0] = "-processor";
+		args[1] = PluginIndexProcessor.class.getName();
+		args[2] = "-classpath";
+		args[3] = classpath;
+		args[4] = "-implicit:none";
+		args[5] = "-d";
+		args[6] = out.getPath();
+		for (int i = 0; i < sources.length; ++i)
+		{
+			args[i + 7] = sources[i].getPath();
+		}
+
+		assertEquals(0, compiler.run(null, null, null, args));
+	}
+
+	private static List<PluginIndex.Entry> read(File out) throws IOException
+	{
+		try (InputStream in = new FileInputStream(new File(out, PluginIndex.RESOURCE)))
+		{
+			return PluginIndex.read(in);
+		}
+	}
+}
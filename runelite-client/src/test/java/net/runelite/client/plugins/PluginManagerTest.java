@@ -30,8 +30,10 @@ import com.google.common.reflect.ClassPath;
 import com.google.common.reflect.ClassPath.ClassInfo;
 import com.google.inject.Guice;
 import com.google.inject.Injector;
+import com.google.inject.Key;
 import com.google.inject.grapher.graphviz.GraphvizGrapher;
 import com.google.inject.grapher.graphviz.GraphvizModule;
+import com.google.inject.name.Names;
 import com.google.inject.testing.fieldbinder.Bind;
 import com.google.inject.testing.fieldbinder.BoundFieldModule;
 import com.google.inject.util.Modules;
@@ -40,20 +42,28 @@ import java.io.File;
 import java.io.IOException;
 import java.io.PrintWriter;
 import java.lang.reflect.Method;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Objects;
 import java.util.Set;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ScheduledExecutorService;
+import javax.swing.SwingUtilities;
 import net.runelite.api.Client;
 import net.runelite.client.RuneLite;
 import net.runelite.client.RuneLiteModule;
 import net.runelite.client.config.Config;
 import net.runelite.client.config.ConfigItem;
+import net.runelite.client.config.ConfigManager;
 import net.runelite.client.eventbus.EventBus;
+import net.runelite.client.task.ExecutorManager;
+import net.runelite.client.task.Scheduler;
 import okhttp3.OkHttpClient;
 import okhttp3.Request;
 import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import org.junit.Before;
 import org.junit.Rule;
@@ -70,6 +80,7 @@ import org.mockito.junit.MockitoJUnitRunner;
 public class PluginManagerTest
 {
 	private static final String PLUGIN_PACKAGE = "net.runelite.client.plugins";
+	private static final List<String> STARTUP_CALLS = new CopyOnWriteArrayList<>();
 
 	@Rule
 	public TemporaryFolder folder = new TemporaryFolder();
@@ -82,6 +93,7 @@ public class PluginManagerTest
 	@Bind
 	public Client client;
 
+	private ScheduledExecutorService executor;
 	private Set<Class<?>> pluginClasses;
 	private Set<Class<?>> configClasses;
 
@@ -99,6 +111,7 @@ public class PluginManagerTest
 			.with(BoundFieldModule.of(this)));
 
 		RuneLite.setInjector(injector);
+		executor = injector.getInstance(Key.get(ScheduledExecutorService.class, Names.named(ExecutorManager.CPU)));
 
 		// Find plugins and configs we expect to have
 		pluginClasses = new HashSet<>();
@@ -124,7 +137,7 @@ public class PluginManagerTest
 	@Test
 	public void testLoadPlugins() throws Exception
 	{
-		PluginManager pluginManager = new PluginManager(false, false, null, null, null, null);
+		PluginManager pluginManager = new PluginManager(false, false, null, null, null, null, executor);
 		pluginManager.setOutdated(true);
 		pluginManager.loadCorePlugins();
 		Collection<Plugin> plugins = pluginManager.getPlugins();
@@ -135,7 +148,7 @@ public class PluginManagerTest
 			.count();
 		assertEquals(expected, plugins.size());
 
-		pluginManager = new PluginManager(false, false, null, null, null, null);
+		pluginManager = new PluginManager(false, false, null, null, null, null, executor);
 		pluginManager.loadCorePlugins();
 		plugins = pluginManager.getPlugins();
 
@@ -154,7 +167,7 @@ public class PluginManagerTest
 	@Test
 	public void dumpGraph() throws Exception
 	{
-		PluginManager pluginManager = new PluginManager(true, false, null, null, null, null);
+		PluginManager pluginManager = new PluginManager(true, false, null, null, null, null, executor);
 		pluginManager.loadCorePlugins();
 
 		Injector graphvizInjector = Guice.createInjector(new GraphvizModule());
@@ -231,4 +244,72 @@ public class PluginManagerTest
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(2));
 		assertTrue(sorted.indexOf(1) < sorted.indexOf(3));
 	}
+
+	@Test
+	public void testLoadPluginsDependencies() throws Exception
+	{
+		PluginManager pluginManager = new PluginManager(false, false, null, null, null, null, executor);
+		List<Plugin> plugins = pluginManager.loadPlugins(Arrays.asList(TestPluginC.class, TestPluginB.class, TestPluginA.class), null);
+
+		assertEquals(3, plugins.size());
+		assertTrue(plugins.get(0) instanceof TestPluginA);
+		assertTrue(plugins.get(1) instanceof TestPluginB);
+		assertTrue(plugins.get(2) instanceof TestPluginC);
+
+		// dependencies are bound in the dependent plugin's injector
+		Injector injector = plugins.get(2).getInjector();
+		assertSame(plugins.get(0), injector.getInstance(TestPluginA.class));
+		assertSame(plugins.get(1), injector.getInstance(TestPluginB.class));
+	}
+
+	@Test
+	public void testPreStartUp() throws Exception
+	{
+		ConfigManager configManager = mock(ConfigManager.class);
+		PluginManager pluginManager = new PluginManager(false, false, new EventBus(), new Scheduler(), configManager, null, executor);
+		pluginManager.loadPlugins(Arrays.asList(TestPluginA.class, TestPluginB.class), null);
+
+		STARTUP_CALLS.clear();
+		pluginManager.startPlugins();
+
+		assertEquals(2, pluginManager.getPlugins().size());
+		assertTrue(STARTUP_CALLS.contains("A preStartUp off edt"));
+		assertTrue(STARTUP_CALLS.indexOf("A preStartUp off edt") < STARTUP_CALLS.indexOf("A startUp"));
+		// plugins start in dependency order
+		assertTrue(STARTUP_CALLS.indexOf("A startUp") < STARTUP_CALLS.indexOf("B startUp"));
+	}
+
+	@PluginDescriptor(name = "Test A")
+	public static class TestPluginA extends Plugin
+	{
+		@Override
+		protected void preStartUp()
+		{
+			STARTUP_CALLS.add("A preStartUp " + (SwingUtilities.isEventDispatchThread() ? "on edt" : "off edt"));
+		}
+
+		@Override
+		protected void startUp()
+		{
+			STARTUP_CALLS.add("A startUp");
+		}
+	}
+
+	@PluginDescriptor(name = "Test B")
+	@PluginDependency(TestPluginA.class)
+	public static class TestPluginB extends Plugin
+	{
+		@Override
+		protected void startUp()
+		{
+			STARTUP_CALLS.add("B startUp");
+		}
+	}
+
+	@PluginDescriptor(name = "Test C")
+	@PluginDependency(TestPluginA.class)
+	@PluginDependency(TestPluginB.class)
+	public static class TestPluginC extends Plugin
+	{
+	}
 }
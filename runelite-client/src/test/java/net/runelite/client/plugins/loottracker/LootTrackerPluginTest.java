@@ -36,6 +36,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ScheduledExecutorService;
 import javax.inject.Inject;
+import javax.inject.Named;
 import net.runelite.api.ChatMessageType;
 import net.runelite.api.Client;
 import net.runelite.api.InventoryID;
@@ -102,6 +103,7 @@ public class LootTrackerPluginTest
 
 	@Mock
 	@Bind
+	@Named(LootTrackerPlugin.EXECUTOR)
 	private ScheduledExecutorService scheduledExecutorService;
 
 	@Mock
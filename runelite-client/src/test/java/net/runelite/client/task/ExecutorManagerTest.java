@@ -0,0 +1,82 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.task;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class ExecutorManagerTest
+{
+	@Test
+	public void testLanes() throws Exception
+	{
+		ExecutorManager executorManager = new ExecutorManager();
+		ScheduledExecutorService network = executorManager.getExecutor(ExecutorManager.NETWORK);
+		ScheduledExecutorService custom = executorManager.getExecutor("custom");
+
+		assertSame(network, executorManager.getExecutor(ExecutorManager.NETWORK));
+		assertNotSame(network, custom);
+
+		// a blocked network lane does not hold up other lanes
+		CountDownLatch blocked = new CountDownLatch(1);
+		network.execute(() ->
+		{
+			try
+			{
+				blocked.await();
+			}
+			catch (InterruptedException ex)
+			{
+				throw new RuntimeException(ex);
+			}
+		});
+		custom.submit(() -> null).get(5, TimeUnit.SECONDS);
+		blocked.countDown();
+
+		List<ExecutorStats> stats = executorManager.getStats();
+		assertEquals(2, stats.size());
+
+		ExecutorStats customStats = stats.get(0);
+		assertEquals("custom", customStats.getName());
+		assertEquals(1, customStats.getThreads());
+		assertEquals(1, customStats.getCompletedTasks());
+
+		ExecutorStats networkStats = stats.get(1);
+		assertEquals(ExecutorManager.NETWORK, networkStats.getName());
+		assertEquals((int) ExecutorManager.LANES.get(ExecutorManager.NETWORK), networkStats.getThreads());
+
+		network.shutdown();
+		assertTrue(network.awaitTermination(5, TimeUnit.SECONDS));
+		assertEquals(1, executorManager.getStats().get(1).getCompletedTasks());
+		custom.shutdown();
+	}
+}
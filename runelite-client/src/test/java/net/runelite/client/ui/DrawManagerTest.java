@@ -0,0 +1,113 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui;
+
+import java.awt.Dimension;
+import java.awt.Image;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+import org.junit.Test;
+
+public class DrawManagerTest
+{
+	@Test
+	public void testFramesReused()
+	{
+		DrawManager drawManager = new DrawManager();
+		List<FrameBuffer> frames = new ArrayList<>();
+		Consumer<FrameBuffer> listener = frames::add;
+		drawManager.registerFrameListener(listener);
+
+		drawManager.processDrawComplete(() -> new Dimension(4, 4), frame -> frame.getPixels()[0] = 1);
+		drawManager.processDrawComplete(() -> new Dimension(4, 4), frame -> frame.getPixels()[0] = 2);
+		assertSame(frames.get(0), frames.get(1));
+		assertEquals(2, frames.get(1).getPixels()[0]);
+
+		// a retained frame is not reused until it is released
+		drawManager.unregisterFrameListener(listener);
+		drawManager.registerFrameListener(frame -> frames.add(frame.retain()));
+		drawManager.processDrawComplete(() -> new Dimension(4, 4), frame -> frame.getPixels()[0] = 3);
+		drawManager.processDrawComplete(() -> new Dimension(4, 4), frame -> frame.getPixels()[0] = 4);
+		assertNotSame(frames.get(2), frames.get(3));
+		assertEquals(3, frames.get(2).getPixels()[0]);
+
+		frames.get(2).release();
+		frames.get(3).release();
+
+		// resized
+		drawManager.processDrawComplete(() -> new Dimension(8, 8), frame -> frame.getPixels()[0] = 5);
+		assertEquals(64, frames.get(4).getPixels().length);
+	}
+
+	@Test
+	public void testNextFrameCopied()
+	{
+		DrawManager drawManager = new DrawManager();
+		List<FrameBuffer> frames = new ArrayList<>();
+		List<Image> images = new ArrayList<>();
+		drawManager.registerFrameListener(frames::add);
+		drawManager.requestNextFrameListener(images::add);
+
+		drawManager.processDrawComplete(() -> new Dimension(4, 4), frame -> frame.getPixels()[0] = 0xff0000);
+		drawManager.processDrawComplete(() -> new Dimension(4, 4), frame -> frame.getPixels()[0] = 0x00ff00);
+
+		// the next frame listener gets its own image, which is not reused
+		assertEquals(2, frames.size());
+		assertEquals(1, images.size());
+		assertNotSame(frames.get(0).getImage(), images.get(0));
+		assertEquals(0xff0000, ((BufferedImage) images.get(0)).getRGB(0, 0) & 0xffffff);
+	}
+
+	@Test
+	public void testNextFrameUnpooled()
+	{
+		DrawManager drawManager = new DrawManager();
+		List<Image> images = new ArrayList<>();
+
+		// without a frame listener the next frame listeners are given the frame which was drawn
+		drawManager.requestNextFrameListener(images::add);
+		drawManager.processDrawComplete(() -> new Dimension(4, 4), frame -> frame.getPixels()[0] = 0xff0000);
+		drawManager.requestNextFrameListener(images::add);
+		drawManager.processDrawComplete(() -> new Dimension(4, 4), frame -> frame.getPixels()[0] = 0x00ff00);
+
+		assertEquals(2, images.size());
+		assertNotSame(images.get(0), images.get(1));
+		assertEquals(0xff0000, ((BufferedImage) images.get(0)).getRGB(0, 0) & 0xffffff);
+		assertEquals(0x00ff00, ((BufferedImage) images.get(1)).getRGB(0, 0) & 0xffffff);
+	}
+
+	@Test(expected = IllegalStateException.class)
+	public void testReleasedTwice()
+	{
+		FrameBuffer frame = new FrameBufferPool(1).acquire(1, 1);
+		frame.release();
+		frame.release();
+	}
+}
@@ -25,11 +25,18 @@
 package net.runelite.client.ui.overlay;
 
 import java.awt.Dimension;
+import java.awt.Font;
 import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
+import static org.junit.Assert.assertArrayEquals;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
 import static org.junit.Assert.assertTrue;
 import org.junit.Test;
 
@@ -120,4 +127,119 @@ public class OverlayManagerTest
 		assertEquals(t, overlays.get(2));
 	}
 
+	@Test
+	public void testInsert()
+	{
+		// Inserting one at a time gives the same order as a stable sort
+		List<Overlay> overlays = new ArrayList<>();
+		Overlay[] layer = new Overlay[0];
+		OverlayPosition[] positions = {OverlayPosition.TOP_LEFT, OverlayPosition.DYNAMIC, OverlayPosition.TOOLTIP, OverlayPosition.BOTTOM_RIGHT};
+		OverlayPriority[] priorities = OverlayPriority.values();
+		for (int i = 0; i < 32; ++i)
+		{
+			Overlay overlay = new TestOverlay(positions[i % positions.length], priorities[i % priorities.length]);
+			overlays.add(overlay);
+			layer = OverlayManager.insert(layer, overlay);
+		}
+
+		overlays.sort(OverlayManager.OVERLAY_COMPARATOR);
+		assertArrayEquals(overlays.toArray(), layer);
+
+		Overlay removed = overlays.remove(5);
+		layer = OverlayManager.remove(layer, removed);
+		assertArrayEquals(overlays.toArray(), layer);
+		assertSame(layer, OverlayManager.remove(layer, removed));
+	}
+
+	@Test
+	public void testLayoutCurrent()
+	{
+		Overlay high = new TestOverlay(OverlayPosition.TOP_LEFT, OverlayPriority.HIGH);
+		Overlay low = new TestOverlay(OverlayPosition.TOP_LEFT, OverlayPriority.LOW);
+		List<Overlay> overlays = Arrays.asList(high, low);
+
+		Map<Object, Overlay[]> overlayMap = new HashMap<>();
+		overlayMap.put(OverlayLayer.UNDER_WIDGETS, new Overlay[]{high, low});
+		assertTrue(OverlayManager.isLayoutCurrent(overlays, overlayMap));
+
+		// priority changed
+		low.setPriority(OverlayPriority.HIGHEST);
+		assertFalse(OverlayManager.isLayoutCurrent(overlays, overlayMap));
+		overlayMap.put(OverlayLayer.UNDER_WIDGETS, new Overlay[]{low, high});
+		assertTrue(OverlayManager.isLayoutCurrent(overlays, overlayMap));
+
+		// layer changed
+		high.setLayer(OverlayLayer.ALWAYS_ON_TOP);
+		assertFalse(OverlayManager.isLayoutCurrent(overlays, overlayMap));
+		overlayMap.put(OverlayLayer.UNDER_WIDGETS, new Overlay[]{low});
+		assertFalse(OverlayManager.isLayoutCurrent(overlays, overlayMap));
+		overlayMap.put(OverlayLayer.ALWAYS_ON_TOP, new Overlay[]{high});
+		assertTrue(OverlayManager.isLayoutCurrent(overlays, overlayMap));
+	}
+
+	@Test
+	public void testRenderTimer()
+	{
+		OverlayRenderTimer timer = new OverlayRenderTimer();
+		assertEquals(0, timer.getPercentileNanos(.99));
+
+		for (int i = 1; i <= 100; ++i)
+		{
+			timer.record(i);
+		}
+
+		assertEquals(100, timer.getLastNanos());
+		assertEquals(99, timer.getPercentileNanos(.99));
+		assertEquals(50, timer.getPercentileNanos(.50));
+		assertEquals(50, timer.getAverageNanos());
+
+		// old samples fall out of the window
+		for (int i = 0; i < 128; ++i)
+		{
+			timer.record(1);
+		}
+
+		assertEquals(1, timer.getPercentileNanos(.99));
+		assertEquals(1, timer.getAverageNanos());
+	}
+
+	@Test
+	public void testContentImage()
+	{
+		Overlay overlay = new Overlay()
+		{
+			@Override
+			public Dimension render(Graphics2D graphics)
+			{
+				graphics.fillRect(0, 0, 10, 10);
+				return new Dimension(10, 10);
+			}
+		};
+
+		BufferedImage target = new BufferedImage(64, 64, BufferedImage.TYPE_INT_ARGB);
+		Graphics2D graphics = target.createGraphics();
+		Font font = graphics.getFont();
+
+		CachedOverlayImage image = new CachedOverlayImage();
+		assertFalse(image.isCurrent(overlay, font, 1));
+
+		image.render(overlay, graphics, 26, 26, 0, 1);
+		assertTrue(image.isCurrent(overlay, font, 1));
+		assertEquals(new Dimension(10, 10), image.getSize());
+
+		// content changed
+		assertFalse(image.isCurrent(overlay, font, 2));
+		// font changed
+		assertFalse(image.isCurrent(overlay, font.deriveFont(20f), 1));
+		// overlay resized
+		overlay.setPreferredSize(new Dimension(20, 20));
+		assertFalse(image.isCurrent(overlay, font, 1));
+
+		// too small for the overlay
+		image = new CachedOverlayImage();
+		image.render(overlay, graphics, 5, 5, 0, 1);
+		assertFalse(image.isValid());
+
+		graphics.dispose();
+	}
 }
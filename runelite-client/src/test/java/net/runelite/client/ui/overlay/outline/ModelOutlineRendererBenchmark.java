@@ -0,0 +1,254 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.ui.overlay.outline;
+
+import com.google.inject.Guice;
+import java.awt.Color;
+import java.awt.image.BufferedImage;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import net.runelite.api.Client;
+import net.runelite.api.MainBufferProvider;
+import net.runelite.api.Model;
+import net.runelite.api.NPC;
+import net.runelite.api.coords.LocalPoint;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Outlines 50 NPCs standing in a grid in front of the camera, one at a time and as a single batch.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ModelOutlineRendererBenchmark
+{
+	private static final int NPCS = 50;
+	private static final int CAMERA_X = 6400, CAMERA_Y = 4900;
+
+	@Param({"2", "4"})
+	public int outlineWidth;
+
+	@Param({"0", "2"})
+	public int feather;
+
+	private ModelOutlineRenderer modelOutlineRenderer;
+	private List<NPC> npcs;
+
+	@Setup
+	public void setup()
+	{
+		final BufferedImage image = new BufferedImage(765, 503, BufferedImage.TYPE_INT_RGB);
+		final MainBufferProvider bufferProvider = proxy(MainBufferProvider.class, name ->
+		{
+			if (name.equals("getImage"))
+			{
+				return image;
+			}
+			throw new UnsupportedOperationException(name);
+		});
+		final int[][][] tileHeights = new int[4][105][105];
+		final byte[][][] tileSettings = new byte[4][104][104];
+		final Client client = proxy(Client.class, name ->
+		{
+			switch (name)
+			{
+				case "isGpu":
+					return false;
+				case "getCameraX":
+					return CAMERA_X;
+				case "getCameraY":
+					return CAMERA_Y;
+				case "getCameraZ":
+					return -800;
+				case "getCameraPitch":
+					return 256;
+				case "getCameraYaw":
+				case "getPlane":
+					return 0;
+				case "getViewportWidth":
+					return 765;
+				case "getViewportHeight":
+					return 503;
+				case "getViewportXOffset":
+				case "getViewportYOffset":
+					return 4;
+				case "getScale":
+					return 512;
+				case "getBufferProvider":
+					return bufferProvider;
+				case "getTileHeights":
+					return tileHeights;
+				case "getTileSettings":
+					return tileSettings;
+				default:
+					throw new UnsupportedOperationException(name);
+			}
+		});
+		modelOutlineRenderer = Guice.createInjector(binder -> binder.bind(Client.class).toInstance(client))
+			.getInstance(ModelOutlineRenderer.class);
+
+		final Model model = createModel(1000);
+		npcs = new ArrayList<>(NPCS);
+		for (int i = 0; i < NPCS; i++)
+		{
+			final LocalPoint lp = new LocalPoint(CAMERA_X + (i % 10 - 5) * 128 + 64, CAMERA_Y + 1000 + (i / 10) * 128);
+			npcs.add(proxy(NPC.class, name ->
+			{
+				switch (name)
+				{
+					case "getTransformedComposition":
+						return null;
+					case "getLocalLocation":
+						return lp;
+					case "getModel":
+						return model;
+					case "getCurrentOrientation":
+						return 0;
+					default:
+						throw new UnsupportedOperationException(name);
+				}
+			}));
+		}
+	}
+
+	@Benchmark
+	public void individually()
+	{
+		for (NPC npc : npcs)
+		{
+			modelOutlineRenderer.drawOutline(npc, outlineWidth, Color.CYAN, feather);
+		}
+	}
+
+	@Benchmark
+	public void batched()
+	{
+		modelOutlineRenderer.drawNpcOutlines(npcs, outlineWidth, Color.CYAN, feather);
+	}
+
+	private interface Answer
+	{
+		Object answer(String method);
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> T proxy(Class<T> type, Answer answer)
+	{
+		return (T) Proxy.newProxyInstance(type.getClassLoader(), new Class[]{type}, (proxy, method, args) -> answer.answer(method.getName()));
+	}
+
+	/**
+	 * Build a roughly human sized sphere with about the given number of vertices
+	 */
+	private static Model createModel(int vertexCount)
+	{
+		final int rings = (int) Math.sqrt(vertexCount / 2.0);
+		final int segments = vertexCount / rings;
+		final int count = rings * segments;
+		final int[] vx = new int[count], vy = new int[count], vz = new int[count];
+		for (int r = 0; r < rings; r++)
+		{
+			final double phi = Math.PI * (r + 0.5) / rings;
+			for (int s = 0; s < segments; s++)
+			{
+				final double theta = 2 * Math.PI * s / segments;
+				final int i = r * segments + s;
+				vx[i] = (int) (48 * Math.sin(phi) * Math.cos(theta));
+				vz[i] = (int) (48 * Math.sin(phi) * Math.sin(theta));
+				vy[i] = (int) (-100 - 100 * Math.cos(phi));
+			}
+		}
+
+		final int faceCount = (rings - 1) * segments * 2;
+		final int[] f1 = new int[faceCount], f2 = new int[faceCount], f3 = new int[faceCount];
+		int f = 0;
+		for (int r = 0; r < rings - 1; r++)
+		{
+			for (int s = 0; s < segments; s++)
+			{
+				final int a = r * segments + s, b = r * segments + (s + 1) % segments;
+				final int c = a + segments, d = b + segments;
+				f1[f] = a;
+				f2[f] = c;
+				f3[f++] = b;
+				f1[f] = b;
+				f2[f] = c;
+				f3[f++] = d;
+			}
+		}
+
+		return proxy(Model.class, name ->
+		{
+			switch (name)
+			{
+				case "getVerticesCount":
+					return count;
+				case "getVerticesX":
+					return vx;
+				case "getVerticesY":
+					return vy;
+				case "getVerticesZ":
+					return vz;
+				case "getFaceCount":
+					return faceCount;
+				case "getFaceIndices1":
+					return f1;
+				case "getFaceIndices2":
+					return f2;
+				case "getFaceIndices3":
+					return f3;
+				case "getFaceTransparencies":
+					return null;
+				default:
+					throw new UnsupportedOperationException(name);
+			}
+		});
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(ModelOutlineRendererBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,184 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Matches a batch of item names against a highlight list, comparing the
+ * previous regex based matcher, compiled matchers, and a compiled set.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class WildcardMatcherBenchmark
+{
+	private static final String[] WORDS = {
+		"rune", "dragon", "abyssal", "whip", "bones", "coins", "nature", "law", "seed", "ranarr",
+		"snapdragon", "herb", "grimy", "shark", "pouch", "arrow", "bolts", "dagger", "scimitar", "ore"
+	};
+
+	private static final Pattern WILDCARD_PATTERN = Pattern.compile("(?i)[^*]+|(\\*)");
+
+	@Param({"10", "100", "500"})
+	public int patterns;
+
+	private List<String> patternList;
+	private WildcardMatcher[] matchers;
+	private WildcardMatcherSet set;
+	private String[] names;
+
+	@Setup
+	public void setup()
+	{
+		Random random = new Random(42);
+
+		patternList = new ArrayList<>(patterns);
+		for (int i = 0; i < patterns; ++i)
+		{
+			String pattern = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+			switch (random.nextInt(4))
+			{
+				case 0:
+					pattern = pattern + "*";
+					break;
+				case 1:
+					pattern = "*" + pattern;
+					break;
+				case 2:
+					pattern = pattern.replace(' ', '*');
+					break;
+			}
+			patternList.add(pattern);
+		}
+
+		matchers = patternList.stream().map(WildcardMatcher::compile).toArray(WildcardMatcher[]::new);
+		set = WildcardMatcherSet.compile(patternList);
+
+		names = new String[256];
+		for (int i = 0; i < names.length; ++i)
+		{
+			names[i] = WORDS[random.nextInt(WORDS.length)] + " " + WORDS[random.nextInt(WORDS.length)];
+		}
+	}
+
+	@Benchmark
+	public void regex(Blackhole bh)
+	{
+		for (String name : names)
+		{
+			boolean match = false;
+			for (String pattern : patternList)
+			{
+				if (regexMatches(pattern, name))
+				{
+					match = true;
+					break;
+				}
+			}
+			bh.consume(match);
+		}
+	}
+
+	@Benchmark
+	public void compiled(Blackhole bh)
+	{
+		for (String name : names)
+		{
+			boolean match = false;
+			for (WildcardMatcher matcher : matchers)
+			{
+				if (matcher.matches(name))
+				{
+					match = true;
+					break;
+				}
+			}
+			bh.consume(match);
+		}
+	}
+
+	@Benchmark
+	public void compiledSet(Blackhole bh)
+	{
+		for (String name : names)
+		{
+			bh.consume(set.matchesAny(name));
+		}
+	}
+
+	// the regex based implementation WildcardMatcher used to have
+	private static boolean regexMatches(String pattern, String text)
+	{
+		final Matcher matcher = WILDCARD_PATTERN.matcher(pattern);
+		final StringBuffer buffer = new StringBuffer();
+
+		buffer.append("(?i)");
+		while (matcher.find())
+		{
+			if (matcher.group(1) != null)
+			{
+				matcher.appendReplacement(buffer, ".*");
+			}
+			else
+			{
+				matcher.appendReplacement(buffer, Matcher.quoteReplacement(Pattern.quote(matcher.group(0))));
+			}
+		}
+
+		matcher.appendTail(buffer);
+		return text.matches(buffer.toString());
+	}
+
+	public static void main(String[] args) throws RunnerException
+	{
+		new Runner(new OptionsBuilder()
+			.include(WildcardMatcherBenchmark.class.getSimpleName())
+			.build()).run();
+	}
+}
@@ -0,0 +1,70 @@
+/*
+ * Copyright (c) 2026, agent <agent@local>
+ * All rights reserved.
+ *
+ * Redistribution and use in source and binary forms, with or without
+ * modification, are permitted provided that the following conditions are met:
+ *
+ * 1. Redistributions of source code must retain the above copyright notice, this
+ *    list of conditions and the following disclaimer.
+ * 2. Redistributions in binary form must reproduce the above copyright notice,
+ *    this list of conditions and the following disclaimer in the documentation
+ *    and/or other materials provided with the distribution.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS "AS IS" AND
+ * ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT LIMITED TO, THE IMPLIED
+ * WARRANTIES OF MERCHANTABILITY AND FITNESS FOR A PARTICULAR PURPOSE ARE
+ * DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT OWNER OR CONTRIBUTORS BE LIABLE FOR
+ * ANY DIRECT, INDIRECT, INCIDENTAL, SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES
+ * (INCLUDING, BUT NOT LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES;
+ * LOSS OF USE, DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND
+ * ON ANY THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE OF THIS
+ * SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+package net.runelite.client.util;
+
+import java.util.Arrays;
+import java.util.Collections;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import org.junit.Test;
+
+public class WildcardMatcherSetTest
+{
+	@Test
+	public void testMatchesAny()
+	{
+		WildcardMatcherSet set = WildcardMatcherSet.compile(Arrays.asList("Goblin", "rune*", "*whip", "*dragon*", "Dark*wizard"));
+		assertEquals(5, set.size());
+		assertTrue(set.matchesAny("goblin"));
+		assertTrue(set.matchesAny("Rune pouch"));
+		assertTrue(set.matchesAny("Abyssal whip"));
+		assertTrue(set.matchesAny("Baby green dragon"));
+		assertTrue(set.matchesAny("Dark wizard"));
+		assertFalse(set.matchesAny("Goblins"));
+		assertFalse(set.matchesAny("Abyssal dagger"));
+		assertFalse(set.matchesAny("Dark warrior"));
+		assertFalse(set.matchesAny(""));
+	}
+
+	@Test
+	public void testAnyMatchFilter()
+	{
+		WildcardMatcherSet set = WildcardMatcherSet.compile(Arrays.asList("rune*", "rune pouch", "*pouch"));
+		assertTrue(set.anyMatch("Rune pouch", i -> i == 0));
+		assertTrue(set.anyMatch("Rune pouch", i -> i == 1));
+		assertTrue(set.anyMatch("Rune pouch", i -> i == 2));
+		assertFalse(set.anyMatch("Rune pouch", i -> i > 2));
+		assertFalse(set.anyMatch("Rune dagger", i -> i != 0));
+	}
+
+	@Test
+	public void testEmpty()
+	{
+		WildcardMatcherSet set = WildcardMatcherSet.compile(Collections.emptyList());
+		assertFalse(set.matchesAny("Goblin"));
+		assertTrue(WildcardMatcherSet.compile(Collections.singletonList("*")).matchesAny(""));
+	}
+}
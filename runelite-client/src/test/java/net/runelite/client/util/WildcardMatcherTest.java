@@ -41,4 +41,35 @@ public class WildcardMatcherTest
 		assertTrue(matches("Abyssal whip", "Abyssal whip"));
 		assertTrue(matches("string $ with special character", "string $ with special character"));
 	}
+
+	@Test
+	public void testWildcards()
+	{
+		assertTrue(matches("*", ""));
+		assertTrue(matches("*", "Goblin"));
+		assertTrue(matches("**", "Goblin"));
+		assertTrue(matches("", ""));
+		assertFalse(matches("", "Goblin"));
+		assertTrue(matches("*whip", "Abyssal whip"));
+		assertFalse(matches("*whip", "Abyssal whip (or)"));
+		assertTrue(matches("*whip*", "Abyssal whip (or)"));
+		assertTrue(matches("a*l*p", "Abyssal whip"));
+		assertFalse(matches("a*l*p", "Abyssal whips"));
+		assertTrue(matches("ab*ab", "abab"));
+		assertFalse(matches("ab*ab", "aba"));
+		assertTrue(matches("a*b*a*b", "aXbYabZab"));
+		assertTrue(matches("(.*)?[x]", "(.*)?[X]"));
+		assertFalse(matches("(.*)?[x]", "anything"));
+	}
+
+	@Test
+	public void testCompile()
+	{
+		WildcardMatcher matcher = WildcardMatcher.compile("dragon*");
+		assertTrue(matcher.isWildcard());
+		assertTrue(matcher.matches("Dragon dagger"));
+		assertTrue(matcher.matches("dragon"));
+		assertFalse(matcher.matches("Drago"));
+		assertFalse(WildcardMatcher.compile("dragon").isWildcard());
+	}
 }
\ No newline at end of file